@@ -0,0 +1,36 @@
+package com.syfe.finance.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pool for goal simulations. The work is pure computation on data read
+ * beforehand, so it holds no database connections and is sized by cores.
+ */
+@Configuration
+public class GoalSimulationConfig {
+
+    /**
+     * Pool that simulation chunks run on, one thread per core unless
+     * configured. Once its queue is full new chunks are rejected rather than
+     * queued without bound.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService goalSimulationExecutor(
+            @Value("${app.goals.simulation.threads:0}") int threads,
+            @Value("${app.goals.simulation.queue-capacity:256}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("goal-simulation-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
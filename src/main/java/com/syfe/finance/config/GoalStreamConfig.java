@@ -0,0 +1,55 @@
+package com.syfe.finance.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads that push goal progress to stream subscribers, so writes never wait
+ * for slow clients: one reads the progress to push, a small pool writes it to
+ * the subscribers' connections.
+ */
+@Configuration
+public class GoalStreamConfig {
+
+    /**
+     * A single thread: every push reads progress when it runs, so pushing one
+     * at a time means the last update a subscriber receives reflects the
+     * latest commit. It only queues the updates for sending and never writes
+     * to a connection itself. Once its queue is full new pushes are rejected
+     * rather than queued without bound.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService goalStreamExecutor(
+            @Value("${app.goals.stream.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("goal-stream-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Pool that writes queued events to subscribers' connections. A
+     * subscriber is drained by at most one thread at a time, so a stalled
+     * client holds one thread and the others keep serving everyone else.
+     * Each subscriber has at most one task queued, so a queue as large as the
+     * subscriber limit is never full.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService goalStreamSendExecutor(
+            @Value("${app.goals.stream.send-threads:8}") int threads,
+            @Value("${app.goals.stream.max-subscribers:5000}") int maxSubscribers) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers), new CustomizableThreadFactory("goal-stream-send-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,53 @@
+package com.syfe.finance.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pools for report work. Every task holds a database connection while
+ * it runs, so both pools are kept well below the connection pool size.
+ */
+@Configuration
+public class ReportExecutorConfig {
+
+    /**
+     * Pool that report requests fan their per-period work out to. Once its
+     * queue is full the submitting thread runs the task itself instead of
+     * failing.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService reportExecutor(
+            @Value("${app.reports.executor.threads:4}") int threads,
+            @Value("${app.reports.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("report-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Pool that background report jobs run on, separate from the request
+     * fan-out pool so long jobs cannot starve interactive reports. Jobs do all
+     * their work on their own thread and never submit to the fan-out pool.
+     * Once its queue is full new jobs are rejected rather than queued without
+     * bound.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService reportJobExecutor(
+            @Value("${app.reports.jobs.threads:2}") int threads,
+            @Value("${app.reports.jobs.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("report-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,13 @@
+package com.syfe.finance.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled housekeeping tasks such as evicting idle in-memory
+ * indexes.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,14 +1,23 @@
 package com.syfe.finance.controller;
 
+import com.syfe.finance.dto.CacheStatsResponse;
 import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.RangeReportResponse;
+import com.syfe.finance.dto.TrendReportResponse;
 import com.syfe.finance.dto.YearlyReportResponse;
 import com.syfe.finance.entity.User;
 import com.syfe.finance.service.AuthService;
+import com.syfe.finance.service.ReportCache;
 import com.syfe.finance.service.ReportService;
+import com.syfe.finance.service.TrendReportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 /**
  * Controller for generating financial reports.
  * Provides monthly and yearly aggregated data.
@@ -19,6 +28,8 @@ import org.springframework.web.bind.annotation.*;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportCache reportCache;
+    private final TrendReportService trendReportService;
     private final AuthService authService;
 
     /**
@@ -40,14 +51,75 @@ public class ReportController {
     /**
      * Retrieves a yearly financial report.
      *
-     * @param year the year for the report
+     * @param year      the year for the report
+     * @param breakdown whether to include a report for each month of the year
      * @return the yearly report data containing aggregated income, expenses, and
      *         savings
      */
     @GetMapping("/yearly/{year}")
-    public ResponseEntity<YearlyReportResponse> getYearlyReport(@PathVariable int year) {
+    public ResponseEntity<YearlyReportResponse> getYearlyReport(
+            @PathVariable int year,
+            @RequestParam(defaultValue = "false") boolean breakdown) {
+        User currentUser = authService.getCurrentUser();
+        YearlyReportResponse response = reportService.getYearlyReport(currentUser.getId(), year, breakdown);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieves a financial report for an arbitrary range of days.
+     *
+     * @param from the first day of the range, inclusive
+     * @param to   the last day of the range, inclusive
+     * @return the range report data containing income, expenses, and savings
+     */
+    @GetMapping("/range")
+    public ResponseEntity<RangeReportResponse> getRangeReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        User currentUser = authService.getCurrentUser();
+        RangeReportResponse response = reportService.getRangeReport(currentUser.getId(), from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieves a financial report for the last 7, 30, 90 or 365 days, today
+     * included.
+     *
+     * @param days the window length
+     * @return the range report data containing income, expenses, and savings
+     */
+    @GetMapping("/rolling/{days}")
+    public ResponseEntity<RangeReportResponse> getRollingReport(@PathVariable int days) {
+        User currentUser = authService.getCurrentUser();
+        RangeReportResponse response = reportService.getRollingReport(currentUser.getId(), days);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Retrieves income, expense and savings totals for each year of a range.
+     *
+     * @param fromYear the first year, inclusive
+     * @param toYear   the last year, inclusive
+     * @return the yearly totals, oldest year first
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<TrendReportResponse> getTrendReport(
+            @RequestParam int fromYear,
+            @RequestParam int toYear) {
         User currentUser = authService.getCurrentUser();
-        YearlyReportResponse response = reportService.getYearlyReport(currentUser.getId(), year);
+        TrendReportResponse response = trendReportService.getTrendReport(currentUser.getId(), fromYear, toYear);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Retrieves hit, miss and eviction counters of the report cache.
+     * The counters cover every user's reports, so only admins may read them.
+     *
+     * @return the cache statistics
+     */
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(reportCache.stats());
+    }
 }
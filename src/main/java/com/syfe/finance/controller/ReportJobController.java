@@ -0,0 +1,55 @@
+package com.syfe.finance.controller;
+
+import com.syfe.finance.dto.ReportJobRequest;
+import com.syfe.finance.dto.ReportJobResponse;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.service.AuthService;
+import com.syfe.finance.service.ReportJobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * Controller for generating reports in the background.
+ * Reports over long histories are submitted as jobs and polled until done.
+ */
+@RestController
+@RequestMapping("/api/reports/jobs")
+@RequiredArgsConstructor
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+    private final AuthService authService;
+
+    /**
+     * Submits a report job.
+     *
+     * @param request the report to generate
+     * @return the queued job, with its location to poll
+     */
+    @PostMapping
+    public ResponseEntity<ReportJobResponse> submitJob(@Valid @RequestBody ReportJobRequest request) {
+        User currentUser = authService.getCurrentUser();
+        ReportJobResponse response = reportJobService.submit(currentUser.getId(), request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reports/jobs/" + response.getId()))
+                .body(response);
+    }
+
+    /**
+     * Retrieves the status of a report job, with the report once it has
+     * succeeded.
+     *
+     * @param id the job ID
+     * @return the job
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ReportJobResponse> getJob(@PathVariable String id) {
+        User currentUser = authService.getCurrentUser();
+        ReportJobResponse response = reportJobService.getJob(currentUser.getId(), id);
+        return ResponseEntity.ok(response);
+    }
+}
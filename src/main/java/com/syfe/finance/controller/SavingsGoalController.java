@@ -3,12 +3,15 @@ package com.syfe.finance.controller;
 import com.syfe.finance.dto.*;
 import com.syfe.finance.entity.User;
 import com.syfe.finance.service.AuthService;
+import com.syfe.finance.service.GoalProgressStream;
 import com.syfe.finance.service.SavingsGoalService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Controller for managing savings goals.
@@ -20,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class SavingsGoalController {
 
     private final SavingsGoalService savingsGoalService;
+    private final GoalProgressStream goalProgressStream;
     private final AuthService authService;
 
     /**
@@ -42,6 +46,19 @@ public class SavingsGoalController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Streams goal progress as Server-Sent Events: a {@code goals} event with
+     * all goals, then a {@code progress} event with the changed goals whenever
+     * a transaction change moves their progress.
+     *
+     * @return the event stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGoals() {
+        User currentUser = authService.getCurrentUser();
+        return goalProgressStream.subscribe(currentUser);
+    }
+
     /**
      * Retrieves a specific savings goal by its ID.
      *
@@ -55,6 +72,38 @@ public class SavingsGoalController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Forecasts when a savings goal will be reached at the current savings
+     * rate and what monthly savings would reach it by its target date.
+     *
+     * @param id the goal ID
+     * @return the goal forecast
+     */
+    @GetMapping("/{id}/forecast")
+    public ResponseEntity<GoalForecastResponse> getGoalForecast(@PathVariable Long id) {
+        User currentUser = authService.getCurrentUser();
+        GoalForecastResponse response = savingsGoalService.getGoalForecast(id, currentUser);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Simulates many possible futures of a savings goal from the user's
+     * monthly history.
+     *
+     * @param id      the goal ID
+     * @param request number of paths and seed, both optional
+     * @return the probability of reaching the target and percentile bands
+     */
+    @PostMapping("/{id}/simulate")
+    public ResponseEntity<GoalSimulationResponse> simulateGoal(
+            @PathVariable Long id,
+            @Valid @RequestBody(required = false) GoalSimulationRequest request) {
+        User currentUser = authService.getCurrentUser();
+        GoalSimulationResponse response = savingsGoalService.simulateGoal(id,
+                request != null ? request : new GoalSimulationRequest(), currentUser);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Updates an existing savings goal.
      *
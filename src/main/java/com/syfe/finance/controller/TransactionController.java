@@ -1,17 +1,34 @@
 package com.syfe.finance.controller;
 
 import com.syfe.finance.dto.*;
+import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.entity.User;
 import com.syfe.finance.service.AuthService;
+import com.syfe.finance.service.DataVersionService;
+import com.syfe.finance.service.TransactionBatchService;
+import com.syfe.finance.service.TransactionExportService;
+import com.syfe.finance.service.TransactionImportService;
+import com.syfe.finance.service.TransactionSearchService;
 import com.syfe.finance.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Controller for managing financial transactions.
@@ -22,9 +39,16 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final TransactionService transactionService;
     private final AuthService authService;
     private final com.syfe.finance.service.CategoryService categoryService;
+    private final TransactionExportService transactionExportService;
+    private final TransactionBatchService transactionBatchService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionSearchService transactionSearchService;
+    private final DataVersionService dataVersionService;
 
     /**
      * Creates a new financial transaction.
@@ -41,51 +65,156 @@ public class TransactionController {
     }
 
     /**
-     * Retrieves a list of transactions for the authenticated user, optionally
-     * filtered.
+     * Creates many transactions in one request.
+     * Each item is validated on its own; the response reports the outcome of
+     * every item in submission order.
+     *
+     * @param request the batch of transactions to create
+     * @return per-item results with created ids or error messages
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransactionResponse> createTransactions(
+            @Valid @RequestBody BatchTransactionRequest request) {
+        User currentUser = authService.getCurrentUser();
+        BatchTransactionResponse response = transactionBatchService.createTransactions(
+                request.getTransactions(), currentUser);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Imports transactions from a bank statement CSV file.
+     * The file needs a header row with date, amount, category and optional
+     * description columns. Rows are committed in chunks while the file is read.
      *
-     * @param startDate  optional start date filter
-     * @param endDate    optional end date filter
-     * @param categoryId optional category ID filter
-     * @return a list of transactions
+     * @param file the uploaded CSV file
+     * @return counts, per-line errors and throughput of the import
+     * @throws IOException if the upload cannot be read
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultResponse> importTransactions(@RequestParam("file") MultipartFile file)
+            throws IOException {
+        User currentUser = authService.getCurrentUser();
+        try (InputStream input = file.getInputStream()) {
+            ImportResultResponse response = transactionImportService.importCsv(input, currentUser);
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    /**
+     * Retrieves the progress of the authenticated user's imports that are
+     * still running, for polling while an upload is processed.
+     *
+     * @return the running imports with their counts so far, oldest first
+     */
+    @GetMapping("/import/progress")
+    public ResponseEntity<List<ImportProgressResponse>> getImportProgress() {
+        User currentUser = authService.getCurrentUser();
+        return ResponseEntity.ok(transactionImportService.getProgress(currentUser.getId()));
+    }
+
+    /**
+     * Retrieves a page of transactions for the authenticated user, optionally
+     * filtered. Filters can be combined freely. Pages are ordered by date and
+     * id descending.
+     *
+     * @param startDate   optional inclusive start date filter
+     * @param endDate     optional inclusive end date filter
+     * @param categoryId  optional category ID filter, repeatable
+     * @param category    optional category name filter; when given,
+     *                    categoryId is ignored
+     * @param type        optional transaction type filter
+     * @param minAmount   optional inclusive minimum amount
+     * @param maxAmount   optional inclusive maximum amount
+     * @param description optional text the description must contain
+     * @param cursor      optional cursor returned as nextCursor by the previous page
+     * @param limit       optional page size
+     * @param webRequest  the current request, used for If-None-Match handling
+     * @return a page of transactions, or 304 Not Modified if the client's ETag
+     *         still matches the user's data version
      */
     @GetMapping
     public ResponseEntity<TransactionListResponse> getAllTransactions(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) Long categoryId,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) List<Long> categoryId,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
         User currentUser = authService.getCurrentUser();
 
-        Long filterCategoryId = categoryId;
+        // Checked before any query runs, so polling clients cost no database work
+        List<Object> variant = Arrays.asList(startDate, endDate, categoryId, category, type, minAmount, maxAmount,
+                description, cursor, limit);
+        String etag = dataVersionService.etag(currentUser.getId(), variant);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<Long> categoryIds = new ArrayList<>();
         if (category != null && !category.isEmpty()) {
-            try {
-                com.syfe.finance.entity.Category categoryEntity = categoryService.findCategoryByNameForUser(category,
-                        currentUser.getId());
-                filterCategoryId = categoryEntity.getId();
-            } catch (com.syfe.finance.exception.ResourceNotFoundException e) {
-                // If category name provided but not found, we should probably return empty list
-                // or 404
-                // But since filtering usually implies "if matching", acts as if no results
-                // found
-                // However, to match standard API behavior, if a specific filter is requested
-                // and invalid,
-                // returning empty list is safer than 404 for the whole list endpoint.
-                // Or let's let it throw 404 if the test expects it?
-                // The test expects "200 OK" and filtered results.
-                // If category is "Salary", it should exist.
-                // If it doesn't exist, this will throw 404 due to global handler.
-                // The test doesn't test filtering by non-existent category name, only by valid
-                // one.
-                throw e;
-            }
+            // The name takes precedence over categoryId, as it always has; an unknown name is reported as 404
+            // by the global handler
+            categoryIds.add(categoryService.findCategoryByNameForUser(category, currentUser.getId()).getId());
+        } else if (categoryId != null) {
+            categoryIds.addAll(categoryId);
         }
 
+        TransactionFilter filter = TransactionFilter.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .categoryIds(categoryIds)
+                .type(type)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .description(description)
+                .build();
         TransactionListResponse response = transactionService.getAllTransactions(
-                currentUser.getId(), startDate, endDate, filterCategoryId);
+                currentUser.getId(), filter, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Searches the authenticated user's transactions by description. Each word
+     * of the query must prefix a word of the description, so "star cof" finds
+     * "Starbucks Coffee".
+     *
+     * @param q     the search text
+     * @param limit optional maximum number of results
+     * @return matching transactions, newest first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TransactionListResponse> searchTransactions(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        User currentUser = authService.getCurrentUser();
+        TransactionListResponse response = transactionSearchService.search(currentUser.getId(), q, limit);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Exports every transaction of the authenticated user as newline-delimited
+     * JSON. The body is streamed while rows are read, so it starts immediately
+     * and uses constant memory regardless of history size.
+     *
+     * @return the streaming NDJSON body
+     */
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportTransactions() {
+        User currentUser = authService.getCurrentUser();
+        Long userId = currentUser.getId();
+
+        StreamingResponseBody body = out -> transactionExportService.exportTransactions(userId, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions.ndjson\"")
+                .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                .body(body);
+    }
+
     /**
      * Retrieves a specific transaction by its ID.
      *
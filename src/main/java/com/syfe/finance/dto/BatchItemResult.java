@@ -0,0 +1,22 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    // Zero-based position of the item in the submitted array
+    private int index;
+    private String status;
+    private Long id;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.syfe.finance.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransactionRequest {
+
+    // Items are validated one by one so a bad item fails alone instead of the whole batch
+    @NotEmpty(message = "Transactions are required")
+    @Size(max = 10000, message = "At most 10000 transactions can be submitted per batch")
+    private List<TransactionRequest> transactions;
+}
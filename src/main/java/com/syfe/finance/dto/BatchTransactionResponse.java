@@ -0,0 +1,19 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchTransactionResponse {
+
+    private int created;
+    private int failed;
+    private List<BatchItemResult> results;
+}
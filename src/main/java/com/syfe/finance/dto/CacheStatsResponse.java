@@ -0,0 +1,20 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+
+    private long hits;
+    private long misses;
+    // Entries dropped for size or age; invalidations are counted separately
+    private long evictions;
+    private long invalidations;
+    private int size;
+}
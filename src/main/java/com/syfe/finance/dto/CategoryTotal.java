@@ -0,0 +1,21 @@
+package com.syfe.finance.dto;
+
+import com.syfe.finance.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregated amount of one category and type, as selected by report queries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTotal {
+
+    private String category;
+    private TransactionType type;
+    private BigDecimal total;
+}
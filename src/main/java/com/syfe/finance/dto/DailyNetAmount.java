@@ -0,0 +1,22 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Income minus expenses of one day and the number of transactions behind it,
+ * as selected when savings goal progress is computed from daily totals.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyNetAmount {
+
+    private LocalDate date;
+    private BigDecimal net;
+    private Long transactions;
+}
@@ -0,0 +1,30 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * When a savings goal will be reached at the user's recent savings rate, and
+ * what it takes to reach it by its target date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalForecastResponse {
+
+    private Long goalId;
+    // Average net savings per month over the trailing complete months
+    private BigDecimal monthlySavingsRate;
+    private Integer trailingMonths;
+    private BigDecimal remainingAmount;
+    // Null when the goal is not reached at the current rate
+    private LocalDate projectedCompletionDate;
+    private BigDecimal requiredMonthlySavings;
+    private Boolean onTrack;
+}
@@ -0,0 +1,22 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A savings goal whose stored net savings differ from the net amount of its
+ * user's transactions since its start date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalProgressDrift {
+
+    private Long goalId;
+    private Long userId;
+    private BigDecimal stored;
+    private BigDecimal expected;
+}
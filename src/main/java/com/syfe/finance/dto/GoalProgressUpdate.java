@@ -0,0 +1,26 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * New progress of a savings goal whose progress a committed transaction
+ * change moved, pushed to the goal stream.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalProgressUpdate {
+
+    private Long goalId;
+    private BigDecimal currentProgress;
+    private Double progressPercentage;
+    private BigDecimal remainingAmount;
+    // Difference to the progress before the change
+    private BigDecimal progressChange;
+}
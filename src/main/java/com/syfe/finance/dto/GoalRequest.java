@@ -20,6 +20,7 @@ public class GoalRequest {
 
     @NotNull(message = "Target amount is required")
     @DecimalMin(value = "0.01", message = "Target amount must be positive")
+    @Digits(integer = 15, fraction = 2, message = "Target amount must have at most 15 digits and 2 decimal places")
     private BigDecimal targetAmount;
 
     @NotNull(message = "Target date is required")
@@ -1,5 +1,6 @@
 package com.syfe.finance.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,4 +23,8 @@ public class GoalResponse {
     private BigDecimal currentProgress;
     private Double progressPercentage;
     private BigDecimal remainingAmount;
+
+    // Included in goal lists only
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private GoalForecastResponse forecast;
 }
@@ -0,0 +1,21 @@
+package com.syfe.finance.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalSimulationRequest {
+
+    // Defaults to app.goals.simulation.default-paths
+    @Min(value = 1, message = "Paths must be positive")
+    private Integer paths;
+
+    // Repeats an earlier simulation; random when absent
+    private Long seed;
+}
@@ -0,0 +1,33 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Outcome of simulating a savings goal's future from the user's history.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GoalSimulationResponse {
+
+    private Long goalId;
+    private Integer paths;
+    private Long seed;
+    // Complete months the simulated months were drawn from
+    private Integer historyMonths;
+    private BigDecimal netSavings;
+    private BigDecimal targetAmount;
+    private LocalDate targetDate;
+    // Share of paths reaching the target amount by the target date
+    private Double probability;
+    // Ascending dates, the last one the target date
+    private List<GoalSimulationBand> bands;
+}
@@ -1,6 +1,7 @@
 package com.syfe.finance.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Future;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,7 @@ import java.time.LocalDate;
 public class GoalUpdateRequest {
 
     @DecimalMin(value = "0.01", message = "Target amount must be positive")
+    @Digits(integer = 15, fraction = 2, message = "Target amount must have at most 15 digits and 2 decimal places")
     private BigDecimal targetAmount;
 
     @Future(message = "Target date must be in the future")
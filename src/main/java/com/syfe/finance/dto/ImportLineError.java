@@ -0,0 +1,17 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportLineError {
+
+    // 1-based line of the CSV file, counting the header
+    private long line;
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportProgressResponse {
+
+    private Instant startedAt;
+    private long rowsRead;
+    private long imported;
+    private long failed;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,24 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResultResponse {
+
+    private long rowsRead;
+    private long imported;
+    private long failed;
+    private List<ImportLineError> errors;
+    // True when more lines failed than are listed in errors
+    private boolean errorsTruncated;
+    private long durationMillis;
+    private double rowsPerSecond;
+}
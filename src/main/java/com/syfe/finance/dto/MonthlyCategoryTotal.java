@@ -0,0 +1,23 @@
+package com.syfe.finance.dto;
+
+import com.syfe.finance.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregated amount of one category and type within one month, as selected by
+ * the yearly breakdown queries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyCategoryTotal {
+
+    private Integer month;
+    private String category;
+    private TransactionType type;
+    private BigDecimal total;
+}
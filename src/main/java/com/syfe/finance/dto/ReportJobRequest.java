@@ -0,0 +1,33 @@
+package com.syfe.finance.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Report to generate in the background. Which fields are required depends on
+ * the type: {@code year} and {@code month} for MONTHLY, {@code year} for
+ * YEARLY, {@code from} and {@code to} for RANGE, {@code fromYear} and
+ * {@code toYear} for TREND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJobRequest {
+
+    @NotNull(message = "Report type is required")
+    private ReportJobType type;
+
+    private Integer year;
+    private Integer month;
+    private boolean breakdown;
+    private LocalDate from;
+    private LocalDate to;
+    private Integer fromYear;
+    private Integer toYear;
+}
@@ -0,0 +1,28 @@
+package com.syfe.finance.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportJobResponse {
+
+    private String id;
+    private ReportJobType type;
+    private ReportJobStatus status;
+    private Instant submittedAt;
+    private Instant completedAt;
+    // When a finished job and its result are discarded
+    private Instant expiresAt;
+    private String error;
+    // The same body the synchronous endpoint for the type returns
+    private Object result;
+}
@@ -0,0 +1,8 @@
+package com.syfe.finance.dto;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
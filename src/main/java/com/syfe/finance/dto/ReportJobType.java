@@ -0,0 +1,11 @@
+package com.syfe.finance.dto;
+
+/**
+ * Report a background job generates, one per synchronous report endpoint.
+ */
+public enum ReportJobType {
+    MONTHLY,
+    YEARLY,
+    RANGE,
+    TREND
+}
@@ -0,0 +1,26 @@
+package com.syfe.finance.dto;
+
+import com.syfe.finance.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The fields of a transaction the in-memory column store keeps, as selected
+ * when a user's columns are built.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionColumnRow {
+
+    private Long id;
+    private LocalDate date;
+    private BigDecimal amount;
+    private Long categoryId;
+    private String category;
+    private TransactionType type;
+}
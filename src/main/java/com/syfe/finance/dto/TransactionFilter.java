@@ -0,0 +1,31 @@
+package com.syfe.finance.dto;
+
+import com.syfe.finance.entity.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Optional criteria for listing transactions. Every field is independent and
+ * null means "not filtered"; date and amount bounds are inclusive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionFilter {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private TransactionType type;
+    private List<Long> categoryIds;
+    // Case-insensitive substring of the description
+    private String description;
+}
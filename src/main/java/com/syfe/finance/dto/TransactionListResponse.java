@@ -14,4 +14,7 @@ import java.util.List;
 public class TransactionListResponse {
 
     private List<TransactionResponse> transactions;
+
+    // Opaque cursor of the next page, null on the last page
+    private String nextCursor;
 }
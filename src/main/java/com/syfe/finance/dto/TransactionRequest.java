@@ -17,6 +17,7 @@ public class TransactionRequest {
 
     @NotNull(message = "Amount is required")
     @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most 15 digits and 2 decimal places")
     private BigDecimal amount;
 
     @NotNull(message = "Date is required")
@@ -1,5 +1,6 @@
 package com.syfe.finance.dto;
 
+import com.syfe.finance.entity.TransactionType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,4 +21,13 @@ public class TransactionResponse {
     private String category;
     private String description;
     private String type;
+
+    /**
+     * Projection constructor used by repository queries that select responses
+     * directly instead of loading entities.
+     */
+    public TransactionResponse(Long id, BigDecimal amount, LocalDate date, String category, String description,
+            TransactionType type) {
+        this(id, amount, date, category, description, type.name());
+    }
 }
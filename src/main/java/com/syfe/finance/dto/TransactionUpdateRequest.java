@@ -1,6 +1,7 @@
 package com.syfe.finance.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +16,7 @@ import java.math.BigDecimal;
 public class TransactionUpdateRequest {
 
     @DecimalMin(value = "0.01", message = "Amount must be positive")
+    @Digits(integer = 15, fraction = 2, message = "Amount must have at most 15 digits and 2 decimal places")
     private BigDecimal amount;
 
     private String category;
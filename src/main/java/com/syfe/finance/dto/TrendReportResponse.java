@@ -0,0 +1,20 @@
+package com.syfe.finance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendReportResponse {
+
+    private int fromYear;
+    private int toYear;
+    // One entry per year, oldest first
+    private List<YearTrend> years;
+}
@@ -1,11 +1,13 @@
 package com.syfe.finance.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -18,4 +20,7 @@ public class YearlyReportResponse {
     private Map<String, BigDecimal> totalIncome;
     private Map<String, BigDecimal> totalExpenses;
     private BigDecimal netSavings;
+    // Twelve monthly reports, January first; only present when requested
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<MonthlyReportResponse> months;
 }
@@ -0,0 +1,51 @@
+package com.syfe.finance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Running total and count of a user's transactions for one month, category
+ * and type. Maintained in the same database transaction as every transaction
+ * write, so reports can read one row per category instead of every
+ * transaction.
+ */
+@Entity
+@Table(name = "monthly_rollup", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"user_id", "rollup_year", "rollup_month", "category_id", "type"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "rollup_year", nullable = false)
+    private int year;
+
+    @Column(name = "rollup_month", nullable = false)
+    private int month;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+}
@@ -7,7 +7,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "savings_goal")
+@Table(name = "savings_goal", indexes = {
+        @Index(name = "idx_savings_goal_user_start_date", columnList = "user_id, start_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,6 +32,13 @@ public class SavingsGoal {
     @Column(nullable = false)
     private LocalDate startDate;
 
+    // Income minus expenses since startDate, maintained by GoalProgressService.
+    // Seeded on insert and only changed by its bulk updates afterwards, so
+    // saving a goal read earlier cannot overwrite a concurrent change
+    @Column(nullable = false, precision = 19, scale = 2, updatable = false)
+    @Builder.Default
+    private BigDecimal netSavings = BigDecimal.ZERO;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -7,15 +7,21 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transaction")
+// Listings always filter by user first, then seek on date within the user or category
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_user_date", columnList = "user_id, date, id"),
+        @Index(name = "idx_transaction_user_category_date", columnList = "user_id, category_id, date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Transaction {
 
+    // Pooled sequence ids let Hibernate batch inserts, which IDENTITY columns prevent
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_seq")
+    @SequenceGenerator(name = "transaction_seq", sequenceName = "transaction_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, precision = 19, scale = 2)
@@ -0,0 +1,13 @@
+package com.syfe.finance.event;
+
+import lombok.Value;
+
+/**
+ * Published inside the database transaction that creates or deletes a custom
+ * category of a user.
+ */
+@Value
+public class CategoriesChangedEvent {
+
+    Long userId;
+}
@@ -0,0 +1,26 @@
+package com.syfe.finance.event;
+
+import lombok.Value;
+
+/**
+ * A single transaction mutation: {@code before} is null for a creation and
+ * {@code after} is null for a deletion.
+ */
+@Value
+public class TransactionChange {
+
+    TransactionSnapshot before;
+    TransactionSnapshot after;
+
+    public static TransactionChange created(TransactionSnapshot after) {
+        return new TransactionChange(null, after);
+    }
+
+    public static TransactionChange updated(TransactionSnapshot before, TransactionSnapshot after) {
+        return new TransactionChange(before, after);
+    }
+
+    public static TransactionChange deleted(TransactionSnapshot before) {
+        return new TransactionChange(before, null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.syfe.finance.event;
+
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.util.Money;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of a transaction's state, safe to hand to listeners after
+ * the entity has been detached or changed again. Amounts are copied with the
+ * two decimals the amount column stores, rounded the way the database rounds
+ * them, so listeners see the committed value.
+ */
+@Value
+@Builder
+public class TransactionSnapshot {
+
+    Long id;
+    Long userId;
+    Long categoryId;
+    TransactionType type;
+    BigDecimal amount;
+    LocalDate date;
+    String description;
+
+    public static TransactionSnapshot of(Transaction transaction) {
+        return TransactionSnapshot.builder()
+                .id(transaction.getId())
+                .userId(transaction.getUser().getId())
+                .categoryId(transaction.getCategory().getId())
+                .type(transaction.getType())
+                .amount(transaction.getAmount() == null ? null
+                        : transaction.getAmount().setScale(Money.SCALE, RoundingMode.HALF_UP))
+                .date(transaction.getDate())
+                .description(transaction.getDescription())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.syfe.finance.event;
+
+import com.syfe.finance.entity.TransactionType;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Published inside the database transaction that creates, updates or deletes
+ * transactions of one user. Listeners that must only see committed data
+ * should use {@code @TransactionalEventListener}.
+ */
+@Value
+public class TransactionsChangedEvent {
+
+    Long userId;
+    List<TransactionChange> changes;
+
+    public static TransactionsChangedEvent of(Long userId, TransactionChange change) {
+        return new TransactionsChangedEvent(userId, List.of(change));
+    }
+
+    /**
+     * Returns the net effect of the changes on each day, income positive and
+     * expenses negative, leaving out days where they cancel out.
+     */
+    public NavigableMap<LocalDate, BigDecimal> netByDate() {
+        NavigableMap<LocalDate, BigDecimal> netByDate = new TreeMap<>();
+        for (TransactionChange change : changes) {
+            if (change.getBefore() != null) {
+                netByDate.merge(change.getBefore().getDate(), netAmount(change.getBefore()).negate(),
+                        BigDecimal::add);
+            }
+            if (change.getAfter() != null) {
+                netByDate.merge(change.getAfter().getDate(), netAmount(change.getAfter()), BigDecimal::add);
+            }
+        }
+        netByDate.values().removeIf(net -> net.signum() == 0);
+        return netByDate;
+    }
+
+    private static BigDecimal netAmount(TransactionSnapshot snapshot) {
+        return snapshot.getType() == TransactionType.INCOME ? snapshot.getAmount() : snapshot.getAmount().negate();
+    }
+}
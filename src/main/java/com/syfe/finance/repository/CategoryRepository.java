@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,12 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
             @Param("name") String name,
             @Param("userId") Long userId);
 
+    // Find several categories by name for a specific user (including defaults) in one query
+    @Query("SELECT c FROM Category c WHERE c.name IN :names AND (c.user.id = :userId OR c.user IS NULL)")
+    List<Category> findByNameInAndUserIdOrDefault(
+            @Param("names") Collection<String> names,
+            @Param("userId") Long userId);
+
     // Check if custom category name exists for user
     boolean existsByNameAndUserId(String name, Long userId);
 
@@ -0,0 +1,128 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.MonthlyCategoryTotal;
+import com.syfe.finance.entity.MonthlyRollup;
+import com.syfe.finance.entity.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repository for managing MonthlyRollup entities.
+ * A row exists only while at least one transaction contributes to it.
+ */
+@Repository
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, Long> {
+
+    /**
+     * Adds a delta to an existing rollup row.
+     *
+     * @return the number of rows updated, 0 if the row does not exist yet
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MonthlyRollup r SET r.total = r.total + :amount, " +
+            "r.transactionCount = r.transactionCount + :count " +
+            "WHERE r.user.id = :userId AND r.year = :year AND r.month = :month " +
+            "AND r.category.id = :categoryId AND r.type = :type")
+    int addToRollup(
+            @Param("userId") Long userId,
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count);
+
+    /**
+     * Deletes a rollup row once its last transaction is gone.
+     *
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM MonthlyRollup r " +
+            "WHERE r.user.id = :userId AND r.year = :year AND r.month = :month " +
+            "AND r.category.id = :categoryId AND r.type = :type AND r.transactionCount = 0")
+    int deleteIfEmpty(
+            @Param("userId") Long userId,
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("categoryId") Long categoryId,
+            @Param("type") TransactionType type);
+
+    /**
+     * Finds the per-category totals of a month.
+     */
+    @Query("SELECT new com.syfe.finance.dto.CategoryTotal(c.name, r.type, r.total) " +
+            "FROM MonthlyRollup r JOIN r.category c " +
+            "WHERE r.user.id = :userId AND r.year = :year AND r.month = :month")
+    List<CategoryTotal> findMonthTotals(
+            @Param("userId") Long userId,
+            @Param("year") int year,
+            @Param("month") int month);
+
+    /**
+     * Finds the per-category totals of a year by adding up its months.
+     */
+    @Query("SELECT new com.syfe.finance.dto.CategoryTotal(c.name, r.type, SUM(r.total)) " +
+            "FROM MonthlyRollup r JOIN r.category c " +
+            "WHERE r.user.id = :userId AND r.year = :year " +
+            "GROUP BY c.name, r.type")
+    List<CategoryTotal> findYearTotals(
+            @Param("userId") Long userId,
+            @Param("year") int year);
+
+    /**
+     * Finds the per-category totals of every month of a year, one row per
+     * month, category and type.
+     */
+    @Query("SELECT new com.syfe.finance.dto.MonthlyCategoryTotal(r.month, c.name, r.type, r.total) " +
+            "FROM MonthlyRollup r JOIN r.category c " +
+            "WHERE r.user.id = :userId AND r.year = :year")
+    List<MonthlyCategoryTotal> findYearMonthlyTotals(
+            @Param("userId") Long userId,
+            @Param("year") int year);
+
+    /**
+     * Finds the per-category totals of the months from {@code fromYear/fromMonth}
+     * through {@code toYear/toMonth}, both inclusive. The year bounds let the
+     * lookup seek on the unique (user, year, month, ...) index.
+     */
+    @Query("SELECT new com.syfe.finance.dto.CategoryTotal(c.name, r.type, SUM(r.total)) " +
+            "FROM MonthlyRollup r JOIN r.category c " +
+            "WHERE r.user.id = :userId AND r.year BETWEEN :fromYear AND :toYear " +
+            "AND (r.year > :fromYear OR r.month >= :fromMonth) " +
+            "AND (r.year < :toYear OR r.month <= :toMonth) " +
+            "GROUP BY c.name, r.type")
+    List<CategoryTotal> findMonthRangeTotals(
+            @Param("userId") Long userId,
+            @Param("fromYear") int fromYear,
+            @Param("fromMonth") int fromMonth,
+            @Param("toYear") int toYear,
+            @Param("toMonth") int toMonth);
+
+    /**
+     * Sums income minus expenses of the months from {@code fromYear/fromMonth}
+     * through {@code toYear/toMonth}, both inclusive, in a single scalar
+     * aggregate over the rollup rows.
+     *
+     * @return the net amount, or null if the months have no transactions
+     */
+    @Query("SELECT SUM(CASE WHEN r.type = com.syfe.finance.entity.TransactionType.INCOME " +
+            "THEN r.total ELSE -r.total END) " +
+            "FROM MonthlyRollup r " +
+            "WHERE r.user.id = :userId AND r.year BETWEEN :fromYear AND :toYear " +
+            "AND (r.year > :fromYear OR r.month >= :fromMonth) " +
+            "AND (r.year < :toYear OR r.month <= :toMonth)")
+    BigDecimal sumNetOfMonthRange(
+            @Param("userId") Long userId,
+            @Param("fromYear") int fromYear,
+            @Param("fromMonth") int fromMonth,
+            @Param("toYear") int toYear,
+            @Param("toMonth") int toMonth);
+}
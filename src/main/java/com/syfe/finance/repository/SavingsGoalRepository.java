@@ -1,9 +1,15 @@
 package com.syfe.finance.repository;
 
+import com.syfe.finance.dto.GoalProgressDrift;
 import com.syfe.finance.entity.SavingsGoal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +19,60 @@ import java.util.Optional;
 @Repository
 public interface SavingsGoalRepository extends JpaRepository<SavingsGoal, Long> {
 
+    /**
+     * Net amount of the goal's user's transactions since its start date,
+     * recomputed from scratch.
+     */
+    String EXPECTED_NET_SAVINGS = "COALESCE((SELECT SUM(CASE " +
+            "WHEN t.type = com.syfe.finance.entity.TransactionType.INCOME THEN t.amount ELSE -t.amount END) " +
+            "FROM Transaction t WHERE t.user.id = g.user.id AND t.date >= g.startDate), 0)";
+
     List<SavingsGoal> findAllByUserId(Long userId);
 
     Optional<SavingsGoal> findByIdAndUserId(Long id, Long userId);
 
     boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Distinct start dates of a user's goals, earliest first, read from the
+     * (user_id, start_date) index.
+     */
+    @Query("SELECT DISTINCT g.startDate FROM SavingsGoal g WHERE g.user.id = :userId ORDER BY g.startDate")
+    List<LocalDate> findStartDatesByUserId(@Param("userId") Long userId);
+
+    /**
+     * Adds to the stored net savings of every goal of a user that started on
+     * or before a day.
+     *
+     * @return the number of goals updated
+     */
+    @Modifying
+    @Query("UPDATE SavingsGoal g SET g.netSavings = g.netSavings + :amount " +
+            "WHERE g.user.id = :userId AND g.startDate <= :date")
+    int addToNetSavingsStartedBy(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("amount") BigDecimal amount);
+
+    /**
+     * Finds every goal whose stored net savings differ from its transactions,
+     * in a single statement.
+     */
+    @Query("SELECT new com.syfe.finance.dto.GoalProgressDrift(g.id, g.user.id, g.netSavings, " +
+            EXPECTED_NET_SAVINGS + ") FROM SavingsGoal g WHERE g.netSavings <> " + EXPECTED_NET_SAVINGS +
+            " ORDER BY g.id")
+    List<GoalProgressDrift> findNetSavingsDrift();
+
+    /**
+     * Replaces a goal's stored net savings, unless a write changed them since
+     * they were read.
+     *
+     * @return 1 if corrected, 0 if the goal changed or no longer exists
+     */
+    @Modifying
+    @Query("UPDATE SavingsGoal g SET g.netSavings = :expected WHERE g.id = :id AND g.netSavings = :stored")
+    int correctNetSavings(
+            @Param("id") Long id,
+            @Param("stored") BigDecimal stored,
+            @Param("expected") BigDecimal expected);
 }
@@ -0,0 +1,28 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.TransactionFilter;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.util.TransactionCursor;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for listing transactions with any combination
+ * of filters.
+ */
+public interface TransactionFilterRepository {
+
+    /**
+     * Seeks the next page of a user's transactions matching the filter, ordered
+     * by (date DESC, id DESC) and starting strictly after the cursor. Each call
+     * issues a single parameterized statement that only contains the predicates
+     * of the filters actually set.
+     *
+     * @param userId the user ID
+     * @param filter the filter criteria
+     * @param cursor the position of the last row of the previous page
+     * @param limit  the maximum number of rows to return
+     * @return the matching transactions projected with their category name
+     */
+    List<TransactionResponse> findPage(Long userId, TransactionFilter filter, TransactionCursor cursor, int limit);
+}
@@ -0,0 +1,91 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.TransactionFilter;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.util.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria API implementation of {@link TransactionFilterRepository}.
+ * Predicates always lead with the user and then narrow on date or category,
+ * matching the composite indexes declared on {@link Transaction}.
+ */
+@RequiredArgsConstructor
+public class TransactionFilterRepositoryImpl implements TransactionFilterRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TransactionResponse> findPage(Long userId, TransactionFilter filter, TransactionCursor cursor,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<Transaction> transaction = query.from(Transaction.class);
+        Join<Transaction, Category> category = transaction.join("category");
+
+        Path<LocalDate> date = transaction.get("date");
+        Path<Long> id = transaction.get("id");
+        Path<BigDecimal> amount = transaction.get("amount");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(transaction.get("user").get("id"), userId));
+
+        if (filter.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(date, filter.getStartDate()));
+        }
+        if (filter.getEndDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(date, filter.getEndDate()));
+        }
+        if (filter.getCategoryIds() != null && !filter.getCategoryIds().isEmpty()) {
+            predicates.add(category.get("id").in(filter.getCategoryIds()));
+        }
+        if (filter.getType() != null) {
+            predicates.add(cb.equal(transaction.get("type"), filter.getType()));
+        }
+        if (filter.getMinAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(amount, filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(amount, filter.getMaxAmount()));
+        }
+        if (filter.getDescription() != null && !filter.getDescription().isBlank()) {
+            String pattern = "%" + escapeLike(filter.getDescription().trim().toLowerCase(Locale.ROOT)) + "%";
+            predicates.add(cb.like(cb.lower(transaction.get("description")), pattern, '\\'));
+        }
+
+        // Keyset seek: date <= :cursorDate AND (date < :cursorDate OR id < :cursorId)
+        predicates.add(cb.lessThanOrEqualTo(date, cursor.getDate()));
+        predicates.add(cb.or(
+                cb.lessThan(date, cursor.getDate()),
+                cb.lessThan(id, cursor.getId())));
+
+        query.select(cb.construct(TransactionResponse.class,
+                        id, amount, date, category.get("name"), transaction.get("description"),
+                        transaction.get("type")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(date), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
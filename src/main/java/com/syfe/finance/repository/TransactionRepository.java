@@ -1,61 +1,149 @@
 package com.syfe.finance.repository;
 
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.DailyNetAmount;
+import com.syfe.finance.dto.MonthlyCategoryTotal;
+import com.syfe.finance.dto.TransactionColumnRow;
+import com.syfe.finance.dto.TransactionResponse;
 import com.syfe.finance.entity.Transaction;
-import com.syfe.finance.entity.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing Transaction entities.
  * Support custom queries for filtering by date, category and reporting
- * aggregation.
+ * aggregation. Filtered listings are built dynamically by
+ * {@link TransactionFilterRepository}.
  */
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionFilterRepository {
 
-        List<Transaction> findAllByUserIdOrderByDateDesc(Long userId);
+        int EXPORT_FETCH_SIZE = 500;
 
-        List<Transaction> findAllByUserIdAndDateBetweenOrderByDateDesc(
-                        Long userId, LocalDate startDate, LocalDate endDate);
+        // Builds read-only responses directly, joining the category name in the same statement
+        String RESPONSE_PROJECTION = "new com.syfe.finance.dto.TransactionResponse(" +
+                        "t.id, t.amount, t.date, c.name, t.description, t.type)";
 
-        List<Transaction> findAllByUserIdAndCategoryIdOrderByDateDesc(
-                        Long userId, Long categoryId);
+        /**
+         * Finds a single transaction owned by the user, projected with its category
+         * name.
+         */
+        @Query("SELECT " + RESPONSE_PROJECTION + " FROM Transaction t JOIN t.category c " +
+                        "WHERE t.id = :id AND t.user.id = :userId")
+        Optional<TransactionResponse> findResponseByIdAndUserId(
+                        @Param("id") Long id,
+                        @Param("userId") Long userId);
+
+        /**
+         * Finds the given transactions owned by the user, projected with their
+         * category name. Looks rows up by primary key; result order is unspecified.
+         */
+        @Query("SELECT " + RESPONSE_PROJECTION + " FROM Transaction t JOIN t.category c " +
+                        "WHERE t.id IN :ids AND t.user.id = :userId")
+        List<TransactionResponse> findResponsesByIdInAndUserId(
+                        @Param("ids") Collection<Long> ids,
+                        @Param("userId") Long userId);
 
         /**
-         * Finds transactions filtered by date range and category.
+         * Streams all of a user's transactions, newest first, projected with their
+         * category name. Rows are read from the JDBC cursor in bounded batches, so
+         * callers must consume the stream inside a transaction and close it when
+         * done.
          */
-        List<Transaction> findAllByUserIdAndDateBetweenAndCategoryIdOrderByDateDesc(
-                        Long userId, LocalDate startDate, LocalDate endDate, Long categoryId);
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+        @Query("SELECT " + RESPONSE_PROJECTION + " FROM Transaction t JOIN t.category c " +
+                        "WHERE t.user.id = :userId ORDER BY t.date DESC, t.id DESC")
+        Stream<TransactionResponse> streamAllByUserId(@Param("userId") Long userId);
 
         /**
-         * Finds transactions for a specific month and year (used for monthly reports).
+         * Streams all of a user's transactions, oldest first, with only the fields
+         * the column store keeps. Callers must consume the stream inside a
+         * transaction and close it when done.
          */
-        @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
-                        "AND YEAR(t.date) = :year AND MONTH(t.date) = :month")
-        List<Transaction> findByUserIdAndYearAndMonth(
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+        @Query("SELECT new com.syfe.finance.dto.TransactionColumnRow(" +
+                        "t.id, t.date, t.amount, c.id, c.name, t.type) " +
+                        "FROM Transaction t JOIN t.category c " +
+                        "WHERE t.user.id = :userId ORDER BY t.date, t.id")
+        Stream<TransactionColumnRow> streamColumnRowsByUserId(@Param("userId") Long userId);
+
+        /**
+         * Sums a user's transactions dated in {@code [from, to)} per category and
+         * type, in the database (used for monthly and yearly reports). The bare
+         * date range lets the (user_id, date) index seek straight to the period.
+         */
+        @Query("SELECT new com.syfe.finance.dto.CategoryTotal(c.name, t.type, SUM(t.amount)) " +
+                        "FROM Transaction t JOIN t.category c WHERE t.user.id = :userId " +
+                        "AND t.date >= :from AND t.date < :to " +
+                        "GROUP BY c.name, t.type")
+        List<CategoryTotal> findCategoryTotalsByUserIdAndDateRange(
                         @Param("userId") Long userId,
-                        @Param("year") int year,
-                        @Param("month") int month);
+                        @Param("from") LocalDate from,
+                        @Param("to") LocalDate to);
 
         /**
-         * Finds transactions for a specific year (used for yearly reports).
+         * Sums a user's transactions dated in {@code [from, to)} per month,
+         * category and type (used for the monthly breakdown of yearly reports).
          */
-        @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND YEAR(t.date) = :year")
-        List<Transaction> findByUserIdAndYear(
+        @Query("SELECT new com.syfe.finance.dto.MonthlyCategoryTotal(" +
+                        "MONTH(t.date), c.name, t.type, SUM(t.amount)) " +
+                        "FROM Transaction t JOIN t.category c WHERE t.user.id = :userId " +
+                        "AND t.date >= :from AND t.date < :to " +
+                        "GROUP BY MONTH(t.date), c.name, t.type")
+        List<MonthlyCategoryTotal> findMonthlyCategoryTotalsByUserIdAndDateRange(
                         @Param("userId") Long userId,
-                        @Param("year") int year);
+                        @Param("from") LocalDate from,
+                        @Param("to") LocalDate to);
 
-        @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId " +
-                        "AND t.date >= :startDate AND t.type = :type")
-        List<Transaction> findByUserIdAndDateAfterAndType(
+        /**
+         * Nets a user's income against expenses dated on or after
+         * {@code startDate} in one aggregate (used for savings goal progress).
+         * Returns null when there are no such transactions.
+         */
+        @Query("SELECT SUM(CASE WHEN t.type = com.syfe.finance.entity.TransactionType.INCOME " +
+                        "THEN t.amount ELSE -t.amount END) " +
+                        "FROM Transaction t WHERE t.user.id = :userId AND t.date >= :startDate")
+        BigDecimal sumNetAmountByUserIdAndDateFrom(
+                        @Param("userId") Long userId,
+                        @Param("startDate") LocalDate startDate);
+
+        /**
+         * Nets a user's income against expenses per day, for every day on or after
+         * {@code from} that has transactions, oldest first (used to compute the
+         * progress of all goals of a user from one query).
+         */
+        @Query("SELECT new com.syfe.finance.dto.DailyNetAmount(t.date, " +
+                        "SUM(CASE WHEN t.type = com.syfe.finance.entity.TransactionType.INCOME " +
+                        "THEN t.amount ELSE -t.amount END), COUNT(t)) " +
+                        "FROM Transaction t WHERE t.user.id = :userId AND t.date >= :from " +
+                        "GROUP BY t.date ORDER BY t.date")
+        List<DailyNetAmount> findDailyNetAmountsByUserIdAndDateFrom(
                         @Param("userId") Long userId,
-                        @Param("startDate") LocalDate startDate,
-                        @Param("type") TransactionType type);
+                        @Param("from") LocalDate from);
+
+        /**
+         * Income minus expenses and transaction count per day for every day of a
+         * user that has transactions, oldest first (used to build the user's
+         * net-savings ledger).
+         */
+        @Query("SELECT new com.syfe.finance.dto.DailyNetAmount(t.date, " +
+                        "SUM(CASE WHEN t.type = com.syfe.finance.entity.TransactionType.INCOME " +
+                        "THEN t.amount ELSE -t.amount END), COUNT(t)) " +
+                        "FROM Transaction t WHERE t.user.id = :userId " +
+                        "GROUP BY t.date ORDER BY t.date")
+        List<DailyNetAmount> findDailyNetAmountsByUserId(@Param("userId") Long userId);
 
         boolean existsByCategoryId(Long categoryId);
 }
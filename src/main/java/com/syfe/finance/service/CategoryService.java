@@ -5,6 +5,7 @@ import com.syfe.finance.dto.CategoryResponse;
 import com.syfe.finance.dto.CreateCategoryRequest;
 import com.syfe.finance.entity.Category;
 import com.syfe.finance.entity.User;
+import com.syfe.finance.event.CategoriesChangedEvent;
 import com.syfe.finance.exception.DuplicateResourceException;
 import com.syfe.finance.exception.ResourceNotFoundException;
 import com.syfe.finance.exception.UnauthorizedAccessException;
@@ -12,10 +13,15 @@ import com.syfe.finance.exception.ValidationException;
 import com.syfe.finance.repository.CategoryRepository;
 import com.syfe.finance.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +34,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Retrieves all categories available to a user (default + custom).
@@ -76,6 +83,7 @@ public class CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(user.getId()));
         return toCategoryResponse(savedCategory);
     }
 
@@ -109,6 +117,7 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoriesChangedEvent(user.getId()));
     }
 
     /**
@@ -123,6 +132,22 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("Category", "name", categoryName));
     }
 
+    /**
+     * Finds several categories by name for a specific user in a single query.
+     * Names that do not resolve are simply absent from the result.
+     *
+     * @param categoryNames the category names
+     * @param userId        the user ID
+     * @return the categories keyed by name
+     */
+    public Map<String, Category> findCategoriesByNamesForUser(Collection<String> categoryNames, Long userId) {
+        if (categoryNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return categoryRepository.findByNameInAndUserIdOrDefault(categoryNames, userId).stream()
+                .collect(Collectors.toMap(Category::getName, Function.identity(), (first, second) -> first));
+    }
+
     private CategoryResponse toCategoryResponse(Category category) {
         return CategoryResponse.builder()
                 .name(category.getName())
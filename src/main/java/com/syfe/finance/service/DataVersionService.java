@@ -0,0 +1,95 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.event.CategoriesChangedEvent;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks a monotonically increasing data version per user, bumped after every
+ * committed change to the user's transactions or categories, and derives
+ * ETags from it. Responses can then be revalidated without running queries.
+ */
+@Service
+public class DataVersionService {
+
+    // 128 bits of SHA-256 keep accidental collisions between variants out of reach
+    private static final int VARIANT_DIGEST_BYTES = 16;
+
+    // Versions live in memory, so tags from a previous run must never match
+    private final String bootNonce = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the user's current data version.
+     *
+     * @param userId the user ID
+     * @return the version, starting at 0
+     */
+    public long currentVersion(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * Builds a strong ETag for a response derived from the user's data.
+     * Must be called before the data is read, so a concurrent change can only
+     * make the tag older than the body, never newer.
+     *
+     * @param userId  the user ID
+     * @param variant what distinguishes responses of the same resource, such as
+     *                the query parameters, always in the same order; null
+     *                elements are allowed and the list itself may be null
+     * @return the quoted ETag value
+     */
+    public String etag(Long userId, List<?> variant) {
+        return "\"" + bootNonce + "-" + userId + "-" + currentVersion(userId) + "-" + variantDigest(variant) + "\"";
+    }
+
+    /**
+     * Digests the variant with SHA-256, each element length-prefixed so that
+     * no two different lists are encoded alike, and returns the first
+     * {@value #VARIANT_DIGEST_BYTES} bytes in URL-safe base64.
+     */
+    static String variantDigest(List<?> variant) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        if (variant != null) {
+            for (Object part : variant) {
+                String encoded = part == null ? "-1:" : String.valueOf(part).length() + ":" + part;
+                digest.update(encoded.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        byte[] truncated = Arrays.copyOf(digest.digest(), VARIANT_DIGEST_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(truncated);
+    }
+
+    @TransactionalEventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    @TransactionalEventListener
+    public void onCategoriesChanged(CategoriesChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    void bump(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,116 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalForecastResponse;
+import com.syfe.finance.entity.SavingsGoal;
+import com.syfe.finance.repository.MonthlyRollupRepository;
+import com.syfe.finance.util.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Service forecasting when savings goals will be reached.
+ * The savings rate is the user's average net savings per month over the
+ * trailing complete months, read with one scalar aggregate over the monthly
+ * rollup table rather than the transactions. It is the same for all of a
+ * user's goals, so forecasting a whole goal list costs a single query.
+ */
+@Service
+public class GoalForecastService {
+
+    // Average length of a Gregorian month: 365.2425 / 12
+    static final BigDecimal DAYS_PER_MONTH = new BigDecimal("30.436875");
+
+    // Completion dates further out are reported as not reachable
+    private static final long MAX_FORECAST_DAYS = 100L * 366;
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final int trailingMonths;
+    private final Clock clock;
+
+    @Autowired
+    public GoalForecastService(MonthlyRollupRepository monthlyRollupRepository,
+            @Value("${app.goals.forecast.trailing-months:3}") int trailingMonths) {
+        this(monthlyRollupRepository, trailingMonths, Clock.systemDefaultZone());
+    }
+
+    GoalForecastService(MonthlyRollupRepository monthlyRollupRepository, int trailingMonths, Clock clock) {
+        if (trailingMonths < 1) {
+            throw new IllegalArgumentException("Trailing months must be positive: " + trailingMonths);
+        }
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.trailingMonths = trailingMonths;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the user's average net savings per month over the trailing
+     * complete months; the current month is left out as it is still running.
+     *
+     * @param userId the user ID
+     * @return the monthly rate with two decimals, negative if the user spent
+     *         more than they earned
+     */
+    public BigDecimal monthlySavingsRate(Long userId) {
+        YearMonth last = YearMonth.now(clock).minusMonths(1);
+        YearMonth first = last.minusMonths(trailingMonths - 1);
+        BigDecimal net = monthlyRollupRepository.sumNetOfMonthRange(userId, first.getYear(), first.getMonthValue(),
+                last.getYear(), last.getMonthValue());
+        return (net != null ? net : BigDecimal.ZERO)
+                .divide(BigDecimal.valueOf(trailingMonths), Money.SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Forecasts a goal at a given savings rate.
+     *
+     * @param goal               the goal
+     * @param remainingAmount    the amount still missing, zero once reached
+     * @param monthlySavingsRate the user's rate from {@link #monthlySavingsRate}
+     * @return the forecast
+     */
+    public GoalForecastResponse forecast(SavingsGoal goal, BigDecimal remainingAmount,
+            BigDecimal monthlySavingsRate) {
+        LocalDate today = LocalDate.now(clock);
+        boolean reached = remainingAmount.signum() <= 0;
+
+        LocalDate projectedCompletionDate = null;
+        if (reached) {
+            projectedCompletionDate = today;
+        } else if (monthlySavingsRate.signum() > 0) {
+            BigDecimal days = remainingAmount.multiply(DAYS_PER_MONTH)
+                    .divide(monthlySavingsRate, 0, RoundingMode.CEILING);
+            if (days.compareTo(BigDecimal.valueOf(MAX_FORECAST_DAYS)) <= 0) {
+                projectedCompletionDate = today.plusDays(days.longValue());
+            }
+        }
+
+        BigDecimal requiredMonthlySavings;
+        long daysLeft = ChronoUnit.DAYS.between(today, goal.getTargetDate());
+        if (reached) {
+            requiredMonthlySavings = BigDecimal.ZERO.setScale(Money.SCALE);
+        } else if (daysLeft <= 0) {
+            // Due already: everything that is missing
+            requiredMonthlySavings = remainingAmount.setScale(Money.SCALE, RoundingMode.HALF_UP);
+        } else {
+            requiredMonthlySavings = remainingAmount.multiply(DAYS_PER_MONTH)
+                    .divide(BigDecimal.valueOf(daysLeft), Money.SCALE, RoundingMode.CEILING);
+        }
+
+        return GoalForecastResponse.builder()
+                .goalId(goal.getId())
+                .monthlySavingsRate(monthlySavingsRate)
+                .trailingMonths(trailingMonths)
+                .remainingAmount(remainingAmount)
+                .projectedCompletionDate(projectedCompletionDate)
+                .requiredMonthlySavings(requiredMonthlySavings)
+                .onTrack(projectedCompletionDate != null && !projectedCompletionDate.isAfter(goal.getTargetDate()))
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalProgressDrift;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.SavingsGoalRepository;
+import com.syfe.finance.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Service maintaining the net savings stored on each savings goal.
+ * Listens synchronously to transaction changes like
+ * {@link MonthlyRollupService}, so stored progress commits or rolls back
+ * together with the transactions. A change dated D moves the progress of
+ * exactly the goals that started on or before D: the user's distinct goal
+ * start dates split time into intervals whose changes all touch the same
+ * goals, so one update per interval with changes is enough. Writes lock
+ * the user's row first, as creating a goal does, so a goal seeded from the
+ * transactions either includes a change or receives it.
+ */
+@Service
+@Slf4j
+public class GoalProgressService {
+
+    private final SavingsGoalRepository savingsGoalRepository;
+    private final UserRepository userRepository;
+    private final boolean repairDrift;
+
+    public GoalProgressService(SavingsGoalRepository savingsGoalRepository, UserRepository userRepository,
+            @Value("${app.goals.consistency-check.repair:true}") boolean repairDrift) {
+        this.savingsGoalRepository = savingsGoalRepository;
+        this.userRepository = userRepository;
+        this.repairDrift = repairDrift;
+    }
+
+    /**
+     * Adds the net effect of the changes to the goals they fall after.
+     *
+     * @param event the transaction changes of one user
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        NavigableMap<LocalDate, BigDecimal> netByDate = event.netByDate();
+        if (netByDate.isEmpty()) {
+            return;
+        }
+
+        Long userId = event.getUserId();
+        userRepository.findAndLockById(userId);
+        if (netByDate.size() == 1) {
+            Map.Entry<LocalDate, BigDecimal> only = netByDate.firstEntry();
+            savingsGoalRepository.addToNetSavingsStartedBy(userId, only.getKey(), only.getValue());
+            return;
+        }
+
+        // Changes from one start date up to the next touch the goals started by the former;
+        // changes before the first start date touch none
+        List<LocalDate> startDates = savingsGoalRepository.findStartDatesByUserId(userId);
+        for (int i = 0; i < startDates.size(); i++) {
+            NavigableMap<LocalDate, BigDecimal> interval = i + 1 < startDates.size()
+                    ? netByDate.subMap(startDates.get(i), true, startDates.get(i + 1), false)
+                    : netByDate.tailMap(startDates.get(i), true);
+            BigDecimal net = interval.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (net.signum() != 0) {
+                savingsGoalRepository.addToNetSavingsStartedBy(userId, startDates.get(i), net);
+            }
+        }
+    }
+
+    /**
+     * Recomputes every goal's net savings from the transactions and flags
+     * goals whose stored value drifted, correcting them unless
+     * {@code app.goals.consistency-check.repair} is false.
+     *
+     * @return the drifted goals
+     */
+    @Scheduled(fixedDelayString = "${app.goals.consistency-check.interval:PT1H}",
+            initialDelayString = "${app.goals.consistency-check.interval:PT1H}")
+    @Transactional
+    public List<GoalProgressDrift> checkConsistency() {
+        List<GoalProgressDrift> drifts = savingsGoalRepository.findNetSavingsDrift();
+        int repaired = 0;
+        for (GoalProgressDrift drift : drifts) {
+            log.warn("Savings goal {} of user {} stores net savings {} but its transactions net {}",
+                    drift.getGoalId(), drift.getUserId(), drift.getStored(), drift.getExpected());
+            if (repairDrift) {
+                repaired += savingsGoalRepository.correctNetSavings(drift.getGoalId(), drift.getStored(),
+                        drift.getExpected());
+            }
+        }
+        if (!drifts.isEmpty()) {
+            log.warn("Goal progress check found {} drifted goals and corrected {}", drifts.size(), repaired);
+        }
+        return drifts;
+    }
+}
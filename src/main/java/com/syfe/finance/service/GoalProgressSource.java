@@ -0,0 +1,33 @@
+package com.syfe.finance.service;
+
+/**
+ * Where {@link SavingsGoalService} reads the net savings behind goal progress
+ * from.
+ */
+public enum GoalProgressSource {
+
+    /**
+     * The net savings stored on each goal, kept current by
+     * {@link GoalProgressService} in the transaction write path; reading goals
+     * runs no aggregation at all.
+     */
+    STORED,
+
+    /**
+     * The per-user daily ledgers held in memory by
+     * {@link NetSavingsLedgerStore}; one O(log d) lookup per goal.
+     */
+    LEDGER,
+
+    /**
+     * A SUM aggregate over the transactions since the start date; listing
+     * goals reads one per-day aggregate for all of them.
+     */
+    QUERY,
+
+    /**
+     * A scan of the user's transactions held column by column in memory by
+     * {@link TransactionColumnStore}.
+     */
+    COLUMNAR
+}
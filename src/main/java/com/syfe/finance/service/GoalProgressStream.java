@@ -0,0 +1,323 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalProgressUpdate;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.exception.ServiceBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * Streams savings goal progress to subscribers as Server-Sent Events.
+ * Subscriptions are asynchronous requests, so an idle subscriber holds a
+ * connection and a registry entry but no request thread. Subscribers first
+ * receive their goal list; after that each committed transaction change that
+ * moves the progress of any of the user's goals pushes the new progress of
+ * exactly those goals. Changes of users without subscribers cost one map
+ * lookup, and changes that roll back are never pushed.
+ * <p>
+ * Progress is read on the goal stream thread and then queued in each
+ * subscriber's own small outbox, which the sender pool writes to the
+ * connection. A slow client holds at most one sender and fills only its own
+ * outbox; once that is full its stream alone is closed, so the client
+ * reconnects and reloads while other subscribers keep receiving updates.
+ */
+@Slf4j
+@Service
+public class GoalProgressStream {
+
+    static final String GOALS_EVENT = "goals";
+    static final String PROGRESS_EVENT = "progress";
+
+    private final SavingsGoalService savingsGoalService;
+    private final Executor goalStreamExecutor;
+    private final Executor goalStreamSendExecutor;
+    private final LongFunction<SseEmitter> emitterFactory;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final int outboxCapacity;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    public GoalProgressStream(SavingsGoalService savingsGoalService,
+            @Qualifier("goalStreamExecutor") Executor goalStreamExecutor,
+            @Qualifier("goalStreamSendExecutor") Executor goalStreamSendExecutor,
+            @Value("${app.goals.stream.timeout:30m}") Duration timeout,
+            @Value("${app.goals.stream.max-subscribers:5000}") int maxSubscribers,
+            @Value("${app.goals.stream.outbox-capacity:16}") int outboxCapacity) {
+        this(savingsGoalService, goalStreamExecutor, goalStreamSendExecutor, SseEmitter::new, timeout,
+                maxSubscribers, outboxCapacity);
+    }
+
+    GoalProgressStream(SavingsGoalService savingsGoalService, Executor goalStreamExecutor,
+            Executor goalStreamSendExecutor, LongFunction<SseEmitter> emitterFactory, Duration timeout,
+            int maxSubscribers, int outboxCapacity) {
+        this.savingsGoalService = savingsGoalService;
+        this.goalStreamExecutor = goalStreamExecutor;
+        this.goalStreamSendExecutor = goalStreamSendExecutor;
+        this.emitterFactory = emitterFactory;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.outboxCapacity = outboxCapacity;
+    }
+
+    /**
+     * Subscribes to the progress of a user's goals. The stream ends after
+     * {@code app.goals.stream.timeout}; clients are expected to reconnect,
+     * which sends them the goal list again.
+     *
+     * @param user the authenticated user
+     * @return the event stream
+     * @throws ServiceBusyException if the node already serves the maximum
+     *                              number of subscribers
+     */
+    public SseEmitter subscribe(User user) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceBusyException("Too many goal progress subscribers, please try again later");
+        }
+        Long userId = user.getId();
+        SseEmitter emitter = emitterFactory.apply(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        // Completing on timeout ends the response normally instead of as a failed request
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        // Registered first, so no change can fall between the list and the
+        // first update; updates wait in the outbox until the list is queued
+        boolean opened = false;
+        try {
+            subscriber.open(SseEmitter.event().name(GOALS_EVENT).data(savingsGoalService.getAllGoals(user)));
+            opened = true;
+        } finally {
+            if (!opened) {
+                unsubscribe(subscriber);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Pushes the goals whose progress committed changes moved to the user's
+     * subscribers, off the committing thread. Runs after the listeners that
+     * apply the commit to in-memory ledgers and columns, so a push reads
+     * progress that includes it whatever the progress source.
+     *
+     * @param event the committed changes
+     */
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Long userId = event.getUserId();
+        if (!subscribers.containsKey(userId)) {
+            return;
+        }
+        NavigableMap<LocalDate, BigDecimal> netByDate = event.netByDate();
+        if (netByDate.isEmpty()) {
+            return;
+        }
+        try {
+            goalStreamExecutor.execute(() -> push(userId, netByDate));
+        } catch (RejectedExecutionException e) {
+            // The update is lost; ending the streams makes the clients reconnect and reload their goals
+            log.warn("Goal progress push queue is full, closing the streams of user {}", userId);
+            subscribers.getOrDefault(userId, Set.of()).forEach(Subscriber::close);
+        }
+    }
+
+    /**
+     * Queues a comment for every subscriber with nothing else to send, which
+     * keeps proxies from closing idle streams and detects clients that went
+     * away.
+     */
+    @Scheduled(fixedDelayString = "${app.goals.stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::heartbeat));
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void push(Long userId, NavigableMap<LocalDate, BigDecimal> netByDate) {
+        List<GoalProgressUpdate> updates;
+        try {
+            updates = savingsGoalService.getProgressUpdates(userId, netByDate);
+        } catch (RuntimeException e) {
+            log.error("Reading goal progress of user {} failed", userId, e);
+            return;
+        }
+        if (updates.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers.getOrDefault(userId, Set.of())) {
+            if (!subscriber.offer(SseEmitter.event().name(PROGRESS_EVENT).data(updates))) {
+                log.warn("A goal progress stream of user {} is not keeping up, closing it", userId);
+                subscriber.close();
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.discard();
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            removed[0] = userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        if (removed[0]) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * A subscriber's connection and the events waiting for it. At most one
+     * sender writes to the connection at a time, so events arrive in the
+     * order they were queued.
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Deque<SseEmitter.SseEventBuilder> outbox = new ArrayDeque<>();
+        // Set while a sender owns the connection, and until the goal list is queued
+        private boolean draining = true;
+        private boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues the goal list ahead of any updates and starts sending.
+         */
+        void open(SseEmitter.SseEventBuilder goals) {
+            synchronized (this) {
+                if (!closed) {
+                    outbox.addFirst(goals);
+                }
+            }
+            startDrain();
+        }
+
+        /**
+         * Queues an event.
+         *
+         * @return false if the outbox is full
+         */
+        boolean offer(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (closed) {
+                    return true;
+                }
+                if (outbox.size() >= outboxCapacity) {
+                    return false;
+                }
+                outbox.add(event);
+                if (draining) {
+                    return true;
+                }
+                draining = true;
+            }
+            startDrain();
+            return true;
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                if (closed || draining) {
+                    return;
+                }
+                outbox.add(SseEmitter.event().comment(""));
+                draining = true;
+            }
+            startDrain();
+        }
+
+        /**
+         * Ends the stream: at once if no sender owns the connection, otherwise
+         * once the sender's current write returns.
+         */
+        void close() {
+            unsubscribe(this);
+            boolean idle;
+            synchronized (this) {
+                idle = !draining;
+                draining = true;
+            }
+            if (idle) {
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Drops the queued events of a stream that ended or is ending.
+         */
+        synchronized void discard() {
+            closed = true;
+            outbox.clear();
+        }
+
+        private void startDrain() {
+            try {
+                goalStreamSendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.warn("Goal progress sender queue is full, closing a stream of user {}", userId);
+                unsubscribe(this);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = closed ? null : outbox.poll();
+                    if (event == null && !closed) {
+                        draining = false;
+                        return;
+                    }
+                }
+                if (event == null) {
+                    emitter.complete();
+                    return;
+                }
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away or the stream already ended
+                    unsubscribe(this);
+                    return;
+                }
+            }
+        }
+    }
+}
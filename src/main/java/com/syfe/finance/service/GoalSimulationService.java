@@ -0,0 +1,167 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalSimulationBand;
+import com.syfe.finance.dto.GoalSimulationRequest;
+import com.syfe.finance.dto.GoalSimulationResponse;
+import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.entity.SavingsGoal;
+import com.syfe.finance.exception.ServiceBusyException;
+import com.syfe.finance.exception.ValidationException;
+import com.syfe.finance.util.Money;
+import com.syfe.finance.util.SavingsSimulation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Service simulating savings goals with {@link SavingsSimulation}. Simulated
+ * months are drawn from the user's net savings of each of the trailing
+ * complete months, taken from the yearly reports with their monthly breakdown,
+ * so they come from the report cache or one query per year. Months before the
+ * user's first transaction in that window are left out; without any history
+ * every month adds nothing.
+ */
+@Service
+public class GoalSimulationService {
+
+    private final ReportService reportService;
+    private final Executor goalSimulationExecutor;
+    private final int historyMonths;
+    private final int defaultPaths;
+    private final int maxPaths;
+    private final int bandPoints;
+    private final Clock clock;
+
+    @Autowired
+    public GoalSimulationService(ReportService reportService,
+            @Qualifier("goalSimulationExecutor") Executor goalSimulationExecutor,
+            @Value("${app.goals.simulation.history-months:24}") int historyMonths,
+            @Value("${app.goals.simulation.default-paths:10000}") int defaultPaths,
+            @Value("${app.goals.simulation.max-paths:200000}") int maxPaths,
+            @Value("${app.goals.simulation.band-points:12}") int bandPoints) {
+        this(reportService, goalSimulationExecutor, historyMonths, defaultPaths, maxPaths, bandPoints,
+                Clock.systemDefaultZone());
+    }
+
+    GoalSimulationService(ReportService reportService, Executor goalSimulationExecutor, int historyMonths,
+            int defaultPaths, int maxPaths, int bandPoints, Clock clock) {
+        if (historyMonths < 1) {
+            throw new IllegalArgumentException("History months must be positive: " + historyMonths);
+        }
+        this.reportService = reportService;
+        this.goalSimulationExecutor = goalSimulationExecutor;
+        this.historyMonths = historyMonths;
+        this.defaultPaths = defaultPaths;
+        this.maxPaths = maxPaths;
+        this.bandPoints = bandPoints;
+        this.clock = clock;
+    }
+
+    /**
+     * Simulates the net savings of a goal until its target date.
+     *
+     * @param goal       the goal
+     * @param netSavings the goal's net savings today
+     * @param request    number of paths and seed, both optional
+     * @return the probability of reaching the target and percentile bands
+     * @throws ValidationException  if too many paths are requested or the
+     *                              target date has passed
+     * @throws ServiceBusyException if the simulation pool is saturated
+     */
+    public GoalSimulationResponse simulate(SavingsGoal goal, BigDecimal netSavings, GoalSimulationRequest request) {
+        int paths = request.getPaths() != null ? request.getPaths() : defaultPaths;
+        if (paths > maxPaths) {
+            throw new ValidationException("At most " + maxPaths + " paths can be simulated");
+        }
+        LocalDate today = LocalDate.now(clock);
+        LocalDate targetDate = goal.getTargetDate();
+        if (!targetDate.isAfter(today)) {
+            throw new ValidationException("Target date has passed");
+        }
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+        long[] history = monthlyNetHistory(goal.getUser().getId(), today);
+        int fullMonths = (int) ChronoUnit.MONTHS.between(today, targetDate);
+        if (!today.plusMonths(fullMonths + 1L).isAfter(targetDate)) {
+            // From the 31st, a month may end on a shorter month's last day
+            fullMonths++;
+        }
+        // The target date falls inside the month after the last full one
+        LocalDate partialMonthStart = today.plusMonths(fullMonths);
+        int partialDays = (int) ChronoUnit.DAYS.between(partialMonthStart, targetDate);
+        int partialMonthLength = (int) ChronoUnit.DAYS.between(partialMonthStart, today.plusMonths(fullMonths + 1L));
+        SavingsSimulation simulation = new SavingsSimulation(history, Money.toCents(netSavings),
+                Money.toCents(goal.getTargetAmount()), fullMonths, partialDays, partialMonthLength, bandPoints);
+
+        SavingsSimulation.Result result;
+        try {
+            result = simulation.run(paths, seed, goalSimulationExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many simulations are running, please try again later");
+        }
+
+        int[] steps = result.getCheckpointSteps();
+        List<GoalSimulationBand> bands = new ArrayList<>(steps.length);
+        for (int i = 0; i < steps.length; i++) {
+            long[] cents = result.getPercentileCents(i);
+            bands.add(GoalSimulationBand.builder()
+                    .date(steps[i] <= fullMonths ? today.plusMonths(steps[i]) : targetDate)
+                    .p5(Money.ofCents(cents[0]).toBigDecimal())
+                    .p25(Money.ofCents(cents[1]).toBigDecimal())
+                    .p50(Money.ofCents(cents[2]).toBigDecimal())
+                    .p75(Money.ofCents(cents[3]).toBigDecimal())
+                    .p95(Money.ofCents(cents[4]).toBigDecimal())
+                    .build());
+        }
+
+        return GoalSimulationResponse.builder()
+                .goalId(goal.getId())
+                .paths(paths)
+                .seed(seed)
+                .historyMonths(history.length)
+                .netSavings(netSavings)
+                .targetAmount(goal.getTargetAmount())
+                .targetDate(targetDate)
+                .probability(Math.round(result.getProbability() * 10000) / 10000.0)
+                .bands(bands)
+                .build();
+    }
+
+    /**
+     * Returns the user's net savings of each trailing complete month in cents,
+     * oldest first, from the first month with transactions.
+     */
+    private long[] monthlyNetHistory(Long userId, LocalDate today) {
+        YearMonth first = YearMonth.from(today).minusMonths(historyMonths);
+        long[] nets = new long[historyMonths];
+        int firstActive = historyMonths;
+        YearlyReportResponse yearly = null;
+        for (int i = 0; i < historyMonths; i++) {
+            YearMonth month = first.plusMonths(i);
+            if (yearly == null || yearly.getYear() != month.getYear()) {
+                yearly = reportService.getYearlyReport(userId, month.getYear(), true);
+            }
+            MonthlyReportResponse report = yearly.getMonths().get(month.getMonthValue() - 1);
+            nets[i] = Money.toCents(report.getNetSavings());
+            boolean active = !report.getTotalIncome().isEmpty() || !report.getTotalExpenses().isEmpty();
+            if (active && firstActive == historyMonths) {
+                firstActive = i;
+            }
+        }
+        return Arrays.copyOfRange(nets, firstActive, historyMonths);
+    }
+}
@@ -0,0 +1,149 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.MonthlyRollupRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.hibernate.Session;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Service maintaining the monthly rollup table.
+ * Listens synchronously to transaction changes, so rollups are written in the
+ * same database transaction as the transactions themselves and commit or roll
+ * back together with them.
+ */
+@Service
+@RequiredArgsConstructor
+public class MonthlyRollupService {
+
+    private static final String INSERT_ROLLUP = "INSERT INTO monthly_rollup "
+            + "(user_id, rollup_year, rollup_month, category_id, type, total, transaction_count) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // SQLSTATE class of integrity constraint violations, a duplicate unique key among them
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Applies the net effect of the changes to the affected rollup rows: one
+     * update per (month, category, type), plus an insert for rows that do not
+     * exist yet and a delete for rows left without transactions. An insert
+     * that loses a race with another transaction's insert of the same row
+     * adds to that row instead.
+     *
+     * @param event the transaction changes of one user
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Map<RollupKey, Delta> deltas = new LinkedHashMap<>();
+        for (TransactionChange change : event.getChanges()) {
+            if (change.getBefore() != null) {
+                deltas.computeIfAbsent(RollupKey.of(change.getBefore()), key -> new Delta())
+                        .add(change.getBefore().getAmount().negate(), -1);
+            }
+            if (change.getAfter() != null) {
+                deltas.computeIfAbsent(RollupKey.of(change.getAfter()), key -> new Delta())
+                        .add(change.getAfter().getAmount(), 1);
+            }
+        }
+
+        for (Map.Entry<RollupKey, Delta> entry : deltas.entrySet()) {
+            RollupKey key = entry.getKey();
+            Delta delta = entry.getValue();
+            if (delta.count == 0 && delta.amount.signum() == 0) {
+                continue;
+            }
+            int updated = addToRollup(event.getUserId(), key, delta);
+            if (updated > 0 && delta.count < 0) {
+                // Keeps rows from pinning categories that no longer have transactions
+                monthlyRollupRepository.deleteIfEmpty(event.getUserId(), key.year, key.month, key.categoryId,
+                        key.type);
+            } else if (updated == 0 && !insertRollup(event.getUserId(), key, delta)
+                    && addToRollup(event.getUserId(), key, delta) == 0) {
+                throw new IllegalStateException("Rollup row " + key + " of user " + event.getUserId()
+                        + " neither exists nor can be inserted");
+            }
+        }
+    }
+
+    private int addToRollup(Long userId, RollupKey key, Delta delta) {
+        return monthlyRollupRepository.addToRollup(userId, key.year, key.month, key.categoryId, key.type,
+                delta.amount, delta.count);
+    }
+
+    /**
+     * Inserts a missing rollup row. Two transactions can both find the row
+     * missing, and the unique key then fails the later insert; that insert is
+     * rolled back to a savepoint, leaving the surrounding transaction intact
+     * for the caller to add to the row the other one committed.
+     *
+     * @return true if the row was inserted, false if another transaction
+     *         inserted it first
+     */
+    private boolean insertRollup(Long userId, RollupKey key, Delta delta) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_ROLLUP)) {
+                insert.setLong(1, userId);
+                insert.setInt(2, key.year);
+                insert.setInt(3, key.month);
+                insert.setLong(4, key.categoryId);
+                insert.setString(5, key.type.name());
+                insert.setBigDecimal(6, delta.amount);
+                insert.setLong(7, delta.count);
+                insert.executeUpdate();
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (e.getSQLState() != null && e.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                    return false;
+                }
+                throw e;
+            }
+            connection.releaseSavepoint(savepoint);
+            return true;
+        });
+    }
+
+    @Value
+    private static class RollupKey {
+
+        int year;
+        int month;
+        Long categoryId;
+        TransactionType type;
+
+        static RollupKey of(TransactionSnapshot snapshot) {
+            return new RollupKey(snapshot.getDate().getYear(), snapshot.getDate().getMonthValue(),
+                    snapshot.getCategoryId(), snapshot.getType());
+        }
+    }
+
+    private static class Delta {
+
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+
+        void add(BigDecimal amount, long count) {
+            this.amount = this.amount.add(amount);
+            this.count += count;
+        }
+    }
+}
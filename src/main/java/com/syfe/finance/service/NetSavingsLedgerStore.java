@@ -0,0 +1,213 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.DailyNetAmount;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.TransactionRepository;
+import com.syfe.finance.util.Money;
+import com.syfe.finance.util.NetSavingsLedger;
+import com.syfe.finance.util.UserGenerations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers savings goal progress from a {@link NetSavingsLedger} held in
+ * memory per user, when {@code app.goals.progress-source=LEDGER}. A user's
+ * ledger is rebuilt from one per-day aggregate on first access, for instance
+ * after a restart, kept current from committed transaction changes in
+ * O(log d) per change and dropped again once the user has been idle.
+ */
+@Service
+@Slf4j
+public class NetSavingsLedgerStore {
+
+    private final TransactionRepository transactionRepository;
+    private final long idleTimeoutNanos;
+    private final Map<Long, Entry> ledgers = new ConcurrentHashMap<>();
+    // Writes between their commit and the ledger update, by identity. Changes
+    // are deltas, so a ledger built while one is in flight may already contain
+    // it and must not receive it again.
+    private final Set<TransactionsChangedEvent> committing = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final UserGenerations generations = new UserGenerations();
+
+    public NetSavingsLedgerStore(TransactionRepository transactionRepository,
+            @Value("${app.goals.ledger.idle-timeout:30m}") Duration idleTimeout) {
+        this.transactionRepository = transactionRepository;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Returns a user's income minus expenses dated on or after a day.
+     *
+     * @param userId the user ID
+     * @param from   the first day, inclusive
+     * @return the net amount with two decimals, or an unscaled zero if there
+     *         are no such transactions
+     */
+    public BigDecimal netSince(Long userId, LocalDate from) {
+        return load(userId).netSince(from);
+    }
+
+    /**
+     * Marks a write of the user's transactions as about to commit.
+     *
+     * @param event the changes being committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void beforeTransactionsCommit(TransactionsChangedEvent event) {
+        synchronized (committing) {
+            committing.add(event);
+        }
+    }
+
+    /**
+     * Applies committed transaction changes to the user's ledger, if it is
+     * loaded. A ledger that is not loaded yet will read them from the database.
+     * Ordered first, so goal progress pushed for the commit already sees it.
+     *
+     * @param event the committed changes
+     */
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Long userId = event.getUserId();
+        generations.bump(userId);
+        Entry entry = ledgers.get(userId);
+        if (entry == null) {
+            return;
+        }
+        // This listener's exceptions are dropped, so a change applied halfway
+        // would leave the ledger wrong for good; drop it to be rebuilt instead
+        try {
+            int size = event.getChanges().size() * 2;
+            LocalDate[] dates = new LocalDate[size];
+            long[] cents = new long[size];
+            int[] counts = new int[size];
+            int deltas = 0;
+            for (TransactionChange change : event.getChanges()) {
+                TransactionSnapshot before = change.getBefore();
+                if (before != null) {
+                    dates[deltas] = before.getDate();
+                    cents[deltas] = -signedCents(before);
+                    counts[deltas++] = -1;
+                }
+                TransactionSnapshot after = change.getAfter();
+                if (after != null) {
+                    dates[deltas] = after.getDate();
+                    cents[deltas] = signedCents(after);
+                    counts[deltas++] = 1;
+                }
+            }
+            for (int i = 0; i < deltas; i++) {
+                entry.ledger.add(dates[i], cents[i], counts[i]);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not apply transaction changes to the net savings ledger of user {}; dropping it",
+                    userId, e);
+            ledgers.remove(userId, entry);
+        }
+    }
+
+    /**
+     * Ends a write marked by {@link #beforeTransactionsCommit}, whether it
+     * committed or not. Writes that rolled back before that are not marked.
+     *
+     * @param event the changes that were being committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void afterTransactionsCompletion(TransactionsChangedEvent event) {
+        synchronized (committing) {
+            committing.remove(event);
+        }
+    }
+
+    /**
+     * Drops the ledgers of users whose goals have not been read within the
+     * idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${app.goals.ledger.eviction-interval:PT1M}")
+    public void evictIdleLedgers() {
+        long now = System.nanoTime();
+        ledgers.entrySet().removeIf(entry -> now - entry.getValue().lastAccess > idleTimeoutNanos);
+    }
+
+    /**
+     * Returns the number of users whose ledger is held in memory.
+     */
+    int loadedLedgerCount() {
+        return ledgers.size();
+    }
+
+    private NetSavingsLedger load(Long userId) {
+        Entry entry = ledgers.get(userId);
+        if (entry != null) {
+            entry.lastAccess = System.nanoTime();
+            return entry.ledger;
+        }
+
+        long generation = generations.snapshot(userId);
+        boolean quiet = !isCommitting(userId);
+        NetSavingsLedger built = build(userId);
+        synchronized (this) {
+            entry = ledgers.get(userId);
+            if (entry != null) {
+                return entry.ledger;
+            }
+            // A ledger that may predate or already contain a concurrent write
+            // answers this request only
+            if (quiet && !isCommitting(userId) && generations.unchanged(userId, generation)) {
+                ledgers.put(userId, new Entry(built));
+            }
+        }
+        return built;
+    }
+
+    private NetSavingsLedger build(Long userId) {
+        long startedAt = System.nanoTime();
+        NetSavingsLedger ledger = new NetSavingsLedger();
+        for (DailyNetAmount day : transactionRepository.findDailyNetAmountsByUserId(userId)) {
+            ledger.add(day.getDate(), Money.toCents(day.getNet()), Math.toIntExact(day.getTransactions()));
+        }
+        log.debug("Built net savings ledger for user {} with {} transactions in {} ms", userId,
+                ledger.transactionCount(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return ledger;
+    }
+
+    private static long signedCents(TransactionSnapshot snapshot) {
+        long cents = Money.toCents(snapshot.getAmount());
+        return snapshot.getType() == TransactionType.INCOME ? cents : -cents;
+    }
+
+    private boolean isCommitting(Long userId) {
+        synchronized (committing) {
+            return committing.stream().anyMatch(event -> event.getUserId().equals(userId));
+        }
+    }
+
+    private static final class Entry {
+
+        private final NetSavingsLedger ledger;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(NetSavingsLedger ledger) {
+            this.ledger = ledger;
+        }
+    }
+}
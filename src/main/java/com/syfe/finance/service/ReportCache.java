@@ -0,0 +1,151 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.CacheStatsResponse;
+import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.util.ExpiringLruCache;
+import com.syfe.finance.util.UserGenerations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Caches monthly and yearly reports per user and period.
+ * Committed transaction changes invalidate exactly the months and years their
+ * dates fall in; changes that roll back never reach the cache. Cached reports
+ * are shared between callers and must not be modified.
+ */
+@Service
+public class ReportCache {
+
+    // Yearly reports are keyed with this month
+    private static final int WHOLE_YEAR = 0;
+
+    private final ExpiringLruCache<ReportKey, MonthlyReportResponse> monthlyReports;
+    private final ExpiringLruCache<ReportKey, YearlyReportResponse> yearlyReports;
+    private final UserGenerations generations = new UserGenerations();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public ReportCache(@Value("${app.reports.cache.max-size:10000}") int maxSize,
+            @Value("${app.reports.cache.ttl:10m}") Duration ttl) {
+        this.monthlyReports = new ExpiringLruCache<>(maxSize, ttl);
+        this.yearlyReports = new ExpiringLruCache<>(maxSize, ttl);
+    }
+
+    /**
+     * Returns the cached monthly report, computing and caching it on a miss.
+     *
+     * @param userId the user ID
+     * @param year   the year
+     * @param month  the month (1-12)
+     * @param loader computes the report
+     * @return the report
+     */
+    public MonthlyReportResponse monthly(Long userId, int year, int month, Supplier<MonthlyReportResponse> loader) {
+        return getOrLoad(monthlyReports, new ReportKey(userId, year, month, false), loader);
+    }
+
+    /**
+     * Returns the cached yearly report, computing and caching it on a miss.
+     * Reports with and without the monthly breakdown are cached separately.
+     *
+     * @param userId    the user ID
+     * @param year      the year
+     * @param breakdown whether the report includes the monthly breakdown
+     * @param loader    computes the report
+     * @return the report
+     */
+    public YearlyReportResponse yearly(Long userId, int year, boolean breakdown,
+            Supplier<YearlyReportResponse> loader) {
+        return getOrLoad(yearlyReports, new ReportKey(userId, year, WHOLE_YEAR, breakdown), loader);
+    }
+
+    /**
+     * Drops the reports of every month and year touched by committed changes.
+     *
+     * @param event the committed changes
+     */
+    @TransactionalEventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Set<LocalDate> months = new HashSet<>();
+        for (TransactionChange change : event.getChanges()) {
+            addMonth(months, change.getBefore());
+            addMonth(months, change.getAfter());
+        }
+        Long userId = event.getUserId();
+        generations.bump(userId);
+        Set<Integer> years = new HashSet<>();
+        for (LocalDate month : months) {
+            monthlyReports.remove(new ReportKey(userId, month.getYear(), month.getMonthValue(), false));
+            years.add(month.getYear());
+        }
+        for (Integer year : years) {
+            yearlyReports.remove(new ReportKey(userId, year, WHOLE_YEAR, false));
+            yearlyReports.remove(new ReportKey(userId, year, WHOLE_YEAR, true));
+        }
+        invalidationCount.addAndGet(months.size() + years.size());
+    }
+
+    /**
+     * Frees the memory held by expired reports.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.cache.eviction-interval:PT1M}")
+    public void evictExpired() {
+        monthlyReports.evictExpired();
+        yearlyReports.evictExpired();
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of both report caches combined.
+     */
+    public CacheStatsResponse stats() {
+        return CacheStatsResponse.builder()
+                .hits(monthlyReports.getHitCount() + yearlyReports.getHitCount())
+                .misses(monthlyReports.getMissCount() + yearlyReports.getMissCount())
+                .evictions(monthlyReports.getEvictionCount() + yearlyReports.getEvictionCount())
+                .invalidations(invalidationCount.get())
+                .size(monthlyReports.size() + yearlyReports.size())
+                .build();
+    }
+
+    private <V> V getOrLoad(ExpiringLruCache<ReportKey, V> cache, ReportKey key, Supplier<V> loader) {
+        V cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generations.snapshot(key.userId);
+        V report = loader.get();
+        cache.put(key, report);
+        // Checked after the put, so an invalidation racing with it cannot leave a stale report behind
+        if (!generations.unchanged(key.userId, generation)) {
+            cache.remove(key);
+        }
+        return report;
+    }
+
+    private static void addMonth(Set<LocalDate> months, TransactionSnapshot snapshot) {
+        if (snapshot != null) {
+            months.add(snapshot.getDate().withDayOfMonth(1));
+        }
+    }
+
+    @lombok.Value
+    private static class ReportKey {
+
+        Long userId;
+        int year;
+        int month;
+        boolean breakdown;
+    }
+}
@@ -0,0 +1,259 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.ReportJobRequest;
+import com.syfe.finance.dto.ReportJobResponse;
+import com.syfe.finance.dto.ReportJobStatus;
+import com.syfe.finance.dto.ReportJobType;
+import com.syfe.finance.exception.ResourceNotFoundException;
+import com.syfe.finance.exception.ServiceBusyException;
+import com.syfe.finance.exception.UnauthorizedAccessException;
+import com.syfe.finance.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Service for generating reports in the background.
+ * A submitted job is queued on the bounded report job executor and its id
+ * returned at once; the owner polls the job until it has finished. Finished
+ * jobs keep their result for a limited time and are then discarded, so
+ * results that are never fetched do not accumulate. Until then they count
+ * against a cap per user and one in total, which bound the results held in
+ * memory however often clients submit.
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    private final ReportService reportService;
+    private final TrendReportService trendReportService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor reportJobExecutor;
+    private final Duration resultTtl;
+    private final int maxJobsPerUser;
+    private final int maxJobs;
+    private final Clock clock;
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportJobService(ReportService reportService, TrendReportService trendReportService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("reportJobExecutor") Executor reportJobExecutor,
+            @Value("${app.reports.jobs.result-ttl:30m}") Duration resultTtl,
+            @Value("${app.reports.jobs.max-per-user:10}") int maxJobsPerUser,
+            @Value("${app.reports.jobs.max-retained:1000}") int maxJobs) {
+        this(reportService, trendReportService, transactionManager, reportJobExecutor, resultTtl, maxJobsPerUser,
+                maxJobs, Clock.systemUTC());
+    }
+
+    ReportJobService(ReportService reportService, TrendReportService trendReportService,
+            PlatformTransactionManager transactionManager, Executor reportJobExecutor, Duration resultTtl,
+            int maxJobsPerUser, int maxJobs, Clock clock) {
+        this.reportService = reportService;
+        this.trendReportService = trendReportService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reportJobExecutor = reportJobExecutor;
+        this.resultTtl = resultTtl;
+        this.maxJobsPerUser = maxJobsPerUser;
+        this.maxJobs = maxJobs;
+        this.clock = clock;
+    }
+
+    /**
+     * Queues a report job.
+     *
+     * @param userId  the user ID
+     * @param request the report to generate
+     * @return the queued job
+     * @throws ValidationException  if a field the report type needs is missing
+     * @throws ServiceBusyException if the user or the node already holds the
+     *                              maximum number of jobs, or the job queue is
+     *                              full
+     */
+    public ReportJobResponse submit(Long userId, ReportJobRequest request) {
+        validate(request);
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), userId, request, clock.instant());
+        // Counting and adding together keeps concurrent submissions within the caps
+        synchronized (jobs) {
+            evictExpired();
+            if (jobs.values().stream().filter(retained -> retained.userId.equals(userId)).count()
+                    >= maxJobsPerUser) {
+                throw new ServiceBusyException("Too many report jobs are kept for you, please fetch them or try "
+                        + "again later");
+            }
+            if (jobs.size() >= maxJobs) {
+                throw new ServiceBusyException("Too many report jobs are kept, please try again later");
+            }
+            jobs.put(job.id, job);
+        }
+        try {
+            reportJobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new ServiceBusyException("Too many report jobs are queued, please try again later");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * Retrieves a job with its result once it has succeeded.
+     *
+     * @param userId the user ID
+     * @param jobId  the job ID
+     * @return the job
+     */
+    public ReportJobResponse getJob(Long userId, String jobId) {
+        return findOwnedJob(userId, jobId).toResponse();
+    }
+
+    /**
+     * Discards finished jobs whose result has expired.
+     */
+    @Scheduled(fixedDelayString = "${app.reports.jobs.eviction-interval:PT1M}")
+    public void evictExpired() {
+        Instant now = clock.instant();
+        jobs.values().removeIf(job -> job.isExpired(now));
+    }
+
+    int size() {
+        return jobs.size();
+    }
+
+    private ReportJob findOwnedJob(Long userId, String jobId) {
+        ReportJob job = jobs.get(jobId);
+        if (job == null || job.isExpired(clock.instant())) {
+            throw new ResourceNotFoundException("Report job", "id", jobId);
+        }
+        if (!job.userId.equals(userId)) {
+            throw new UnauthorizedAccessException("Access denied to Report job with id: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(ReportJob job) {
+        job.start();
+        try {
+            Object result = generate(job.userId, job.request);
+            job.succeed(result, clock.instant(), resultTtl);
+        } catch (ValidationException | ResourceNotFoundException e) {
+            job.fail(e.getMessage(), clock.instant(), resultTtl);
+        } catch (RuntimeException e) {
+            log.error("Report job {} failed", job.id, e);
+            job.fail("Report generation failed", clock.instant(), resultTtl);
+        }
+    }
+
+    private Object generate(Long userId, ReportJobRequest request) {
+        return switch (request.getType()) {
+            case MONTHLY -> readOnlyTransaction.execute(status ->
+                    reportService.getMonthlyReport(userId, request.getYear(), request.getMonth()));
+            case YEARLY -> readOnlyTransaction.execute(status ->
+                    reportService.getYearlyReport(userId, request.getYear(), request.isBreakdown()));
+            case RANGE -> readOnlyTransaction.execute(status ->
+                    reportService.getRangeReport(userId, request.getFrom(), request.getTo()));
+            // Each year in its own read-only transaction, one after another on
+            // the job thread: fanning out onto the interactive report pool
+            // would let jobs crowd out requests, and onto the job pool would
+            // leave jobs waiting on years queued behind other jobs
+            case TREND -> trendReportService.getTrendReport(userId, request.getFromYear(), request.getToYear(),
+                    Runnable::run);
+        };
+    }
+
+    private static void validate(ReportJobRequest request) {
+        ReportJobType type = request.getType();
+        switch (type) {
+            case MONTHLY -> {
+                require(request.getYear(), "year", type);
+                require(request.getMonth(), "month", type);
+            }
+            case YEARLY -> require(request.getYear(), "year", type);
+            case RANGE -> {
+                require(request.getFrom(), "from", type);
+                require(request.getTo(), "to", type);
+            }
+            case TREND -> {
+                require(request.getFromYear(), "fromYear", type);
+                require(request.getToYear(), "toYear", type);
+            }
+        }
+    }
+
+    private static void require(Object value, String field, ReportJobType type) {
+        if (value == null) {
+            throw new ValidationException("Field '" + field + "' is required for a " + type + " report");
+        }
+    }
+
+    private static final class ReportJob {
+
+        private final String id;
+        private final Long userId;
+        private final ReportJobRequest request;
+        private final Instant submittedAt;
+        private ReportJobStatus status = ReportJobStatus.QUEUED;
+        private Instant completedAt;
+        private Instant expiresAt;
+        private String error;
+        private Object result;
+
+        ReportJob(String id, Long userId, ReportJobRequest request, Instant submittedAt) {
+            this.id = id;
+            this.userId = userId;
+            this.request = request;
+            this.submittedAt = submittedAt;
+        }
+
+        synchronized void start() {
+            status = ReportJobStatus.RUNNING;
+        }
+
+        synchronized void succeed(Object result, Instant now, Duration ttl) {
+            this.result = result;
+            finish(ReportJobStatus.SUCCEEDED, now, ttl);
+        }
+
+        synchronized void fail(String error, Instant now, Duration ttl) {
+            this.error = error;
+            finish(ReportJobStatus.FAILED, now, ttl);
+        }
+
+        private void finish(ReportJobStatus status, Instant now, Duration ttl) {
+            this.status = status;
+            this.completedAt = now;
+            this.expiresAt = now.plus(ttl);
+        }
+
+        synchronized boolean isExpired(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt);
+        }
+
+        synchronized ReportJobResponse toResponse() {
+            return ReportJobResponse.builder()
+                    .id(id)
+                    .type(request.getType())
+                    .status(status)
+                    .submittedAt(submittedAt)
+                    .completedAt(completedAt)
+                    .expiresAt(expiresAt)
+                    .error(error)
+                    .result(result)
+                    .build();
+        }
+    }
+}
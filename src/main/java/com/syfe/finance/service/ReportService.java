@@ -1,28 +1,57 @@
 package com.syfe.finance.service;
 
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.MonthlyCategoryTotal;
 import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.RangeReportResponse;
 import com.syfe.finance.dto.YearlyReportResponse;
-import com.syfe.finance.entity.Transaction;
 import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.exception.ValidationException;
+import com.syfe.finance.repository.MonthlyRollupRepository;
 import com.syfe.finance.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.syfe.finance.util.Money;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Service for generating financial reports.
- * Aggregates transaction data into monthly and yearly summaries.
+ * Aggregates transaction data into monthly and yearly summaries. Totals per
+ * category are computed from the monthly rollups, with a GROUP BY over the
+ * transactions, or by scanning the in-memory {@link TransactionColumnStore}
+ * (see {@link ReportSource}), and finished reports are kept in a
+ * {@link ReportCache}.
  */
 @Service
-@RequiredArgsConstructor
 public class ReportService {
 
+    static final List<Integer> ROLLING_WINDOWS = List.of(7, 30, 90, 365);
+    static final int MIN_YEAR = 1900;
+    static final int MAX_YEAR = 9999;
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
     private final TransactionRepository transactionRepository;
+    private final TransactionColumnStore columnStore;
+    private final ReportCache reportCache;
+    private final ReportSource source;
+
+    public ReportService(MonthlyRollupRepository monthlyRollupRepository,
+            TransactionRepository transactionRepository,
+            TransactionColumnStore columnStore,
+            ReportCache reportCache,
+            @Value("${app.reports.source:ROLLUP}") ReportSource source) {
+        this.monthlyRollupRepository = monthlyRollupRepository;
+        this.transactionRepository = transactionRepository;
+        this.columnStore = columnStore;
+        this.reportCache = reportCache;
+        this.source = source;
+    }
 
     /**
      * Generates a report for a specific month.
@@ -33,71 +62,241 @@ public class ReportService {
      * @return the monthly report response
      */
     public MonthlyReportResponse getMonthlyReport(Long userId, int year, int month) {
+        validateYear(year);
         if (month < 1 || month > 12) {
             throw new ValidationException("Invalid month: " + month);
         }
-        List<Transaction> transactions = transactionRepository.findByUserIdAndYearAndMonth(userId, year, month);
+        return reportCache.monthly(userId, year, month, () -> buildMonthlyReport(userId, year, month));
+    }
 
-        Map<String, BigDecimal> incomeByCategory = new HashMap<>();
-        Map<String, BigDecimal> expensesByCategory = new HashMap<>();
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalExpenses = BigDecimal.ZERO;
+    /**
+     * Generates a report for a specific year.
+     *
+     * @param userId the user ID
+     * @param year   the year
+     * @return the yearly report response
+     */
+    public YearlyReportResponse getYearlyReport(Long userId, int year) {
+        return getYearlyReport(userId, year, false);
+    }
 
-        for (Transaction transaction : transactions) {
-            String categoryName = transaction.getCategory().getName();
-            BigDecimal amount = transaction.getAmount();
+    /**
+     * Generates a report for a specific year, optionally with a report for each
+     * of its months. The breakdown is built from the same single query and pass
+     * as the year totals.
+     *
+     * @param userId    the user ID
+     * @param year      the year
+     * @param breakdown whether to include the twelve monthly reports
+     * @return the yearly report response
+     */
+    public YearlyReportResponse getYearlyReport(Long userId, int year, boolean breakdown) {
+        validateYear(year);
+        return reportCache.yearly(userId, year, breakdown, () -> breakdown
+                ? buildYearlyBreakdown(userId, year)
+                : buildYearlyReport(userId, year));
+    }
 
-            if (transaction.getType() == TransactionType.INCOME) {
-                incomeByCategory.merge(categoryName, amount, BigDecimal::add);
-                totalIncome = totalIncome.add(amount);
-            } else {
-                expensesByCategory.merge(categoryName, amount, BigDecimal::add);
-                totalExpenses = totalExpenses.add(amount);
-            }
+    /**
+     * Generates a report for an arbitrary range of days. Whole months inside the
+     * range are read from the rollups when they are the report source; only the
+     * partial months at either edge are aggregated from transactions.
+     *
+     * @param userId the user ID
+     * @param from   the first day, inclusive
+     * @param to     the last day, inclusive
+     * @return the range report response
+     */
+    public RangeReportResponse getRangeReport(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("Start date must not be after end date");
         }
+        Summary summary = summarize(source == ReportSource.ROLLUP
+                ? rangeTotalsFromRollups(userId, from, to)
+                : categoryTotals(userId, from, to.plusDays(1)));
 
-        return MonthlyReportResponse.builder()
-                .month(month)
-                .year(year)
-                .totalIncome(incomeByCategory)
-                .totalExpenses(expensesByCategory)
-                .netSavings(totalIncome.subtract(totalExpenses))
+        return RangeReportResponse.builder()
+                .from(from)
+                .to(to)
+                .totalIncome(summary.income())
+                .totalExpenses(summary.expenses())
+                .netSavings(summary.netSavings())
                 .build();
     }
 
     /**
-     * Generates a report for a specific year.
+     * Generates a report for the last few days, today included.
      *
      * @param userId the user ID
-     * @param year   the year
-     * @return the yearly report response
+     * @param days   the window length, one of {@link #ROLLING_WINDOWS}
+     * @return the range report response
      */
-    public YearlyReportResponse getYearlyReport(Long userId, int year) {
-        List<Transaction> transactions = transactionRepository.findByUserIdAndYear(userId, year);
+    public RangeReportResponse getRollingReport(Long userId, int days) {
+        if (!ROLLING_WINDOWS.contains(days)) {
+            throw new ValidationException("Rolling window must be one of " + ROLLING_WINDOWS + " days");
+        }
+        LocalDate today = LocalDate.now();
+        return getRangeReport(userId, today.minusDays(days - 1L), today);
+    }
 
-        Map<String, BigDecimal> incomeByCategory = new HashMap<>();
-        Map<String, BigDecimal> expensesByCategory = new HashMap<>();
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalExpenses = BigDecimal.ZERO;
+    /**
+     * Rejects years outside {@link #MIN_YEAR} to {@link #MAX_YEAR}, before
+     * they reach date arithmetic or a query.
+     *
+     * @param year the year
+     */
+    static void validateYear(int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new ValidationException("Year must be between " + MIN_YEAR + " and " + MAX_YEAR + ": " + year);
+        }
+    }
 
-        for (Transaction transaction : transactions) {
-            String categoryName = transaction.getCategory().getName();
-            BigDecimal amount = transaction.getAmount();
+    private MonthlyReportResponse buildMonthlyReport(Long userId, int year, int month) {
+        LocalDate from = LocalDate.of(year, month, 1);
+        Summary summary = summarize(source == ReportSource.ROLLUP
+                ? monthlyRollupRepository.findMonthTotals(userId, year, month)
+                : categoryTotals(userId, from, from.plusMonths(1)));
 
-            if (transaction.getType() == TransactionType.INCOME) {
-                incomeByCategory.merge(categoryName, amount, BigDecimal::add);
-                totalIncome = totalIncome.add(amount);
-            } else {
-                expensesByCategory.merge(categoryName, amount, BigDecimal::add);
-                totalExpenses = totalExpenses.add(amount);
-            }
+        return MonthlyReportResponse.builder()
+                .month(month)
+                .year(year)
+                .totalIncome(summary.income())
+                .totalExpenses(summary.expenses())
+                .netSavings(summary.netSavings())
+                .build();
+    }
+
+    private YearlyReportResponse buildYearlyReport(Long userId, int year) {
+        LocalDate from = LocalDate.of(year, 1, 1);
+        Summary summary = summarize(source == ReportSource.ROLLUP
+                ? monthlyRollupRepository.findYearTotals(userId, year)
+                : categoryTotals(userId, from, from.plusYears(1)));
+
+        return YearlyReportResponse.builder()
+                .year(year)
+                .totalIncome(summary.income())
+                .totalExpenses(summary.expenses())
+                .netSavings(summary.netSavings())
+                .build();
+    }
+
+    private YearlyReportResponse buildYearlyBreakdown(Long userId, int year) {
+        LocalDate from = LocalDate.of(year, 1, 1);
+        List<MonthlyCategoryTotal> totals = switch (source) {
+            case ROLLUP -> monthlyRollupRepository.findYearMonthlyTotals(userId, year);
+            case QUERY -> transactionRepository.findMonthlyCategoryTotalsByUserIdAndDateRange(userId, from,
+                    from.plusYears(1));
+            case COLUMNAR -> columnStore.monthlyCategoryTotals(userId, year);
+        };
+
+        Summary yearSummary = new Summary();
+        Summary[] monthSummaries = new Summary[12];
+        for (int i = 0; i < monthSummaries.length; i++) {
+            monthSummaries[i] = new Summary();
+        }
+        for (MonthlyCategoryTotal total : totals) {
+            yearSummary.add(total.getCategory(), total.getType(), total.getTotal());
+            monthSummaries[total.getMonth() - 1].add(total.getCategory(), total.getType(), total.getTotal());
+        }
+
+        List<MonthlyReportResponse> months = new ArrayList<>(monthSummaries.length);
+        for (int i = 0; i < monthSummaries.length; i++) {
+            months.add(MonthlyReportResponse.builder()
+                    .month(i + 1)
+                    .year(year)
+                    .totalIncome(monthSummaries[i].income())
+                    .totalExpenses(monthSummaries[i].expenses())
+                    .netSavings(monthSummaries[i].netSavings())
+                    .build());
         }
 
         return YearlyReportResponse.builder()
                 .year(year)
-                .totalIncome(incomeByCategory)
-                .totalExpenses(expensesByCategory)
-                .netSavings(totalIncome.subtract(totalExpenses))
+                .totalIncome(yearSummary.income())
+                .totalExpenses(yearSummary.expenses())
+                .netSavings(yearSummary.netSavings())
+                .months(months)
                 .build();
     }
+
+    private List<CategoryTotal> rangeTotalsFromRollups(Long userId, LocalDate from, LocalDate to) {
+        LocalDate end = to.plusDays(1);
+        LocalDate wholeMonthsStart = from.getDayOfMonth() == 1 ? from : from.withDayOfMonth(1).plusMonths(1);
+        LocalDate wholeMonthsEnd = end.withDayOfMonth(1);
+        if (!wholeMonthsStart.isBefore(wholeMonthsEnd)) {
+            // No whole month inside the range
+            return transactionRepository.findCategoryTotalsByUserIdAndDateRange(userId, from, end);
+        }
+
+        List<CategoryTotal> totals = new ArrayList<>();
+        if (from.isBefore(wholeMonthsStart)) {
+            totals.addAll(transactionRepository.findCategoryTotalsByUserIdAndDateRange(userId, from, wholeMonthsStart));
+        }
+        LocalDate lastWholeMonth = wholeMonthsEnd.minusMonths(1);
+        totals.addAll(monthlyRollupRepository.findMonthRangeTotals(userId,
+                wholeMonthsStart.getYear(), wholeMonthsStart.getMonthValue(),
+                lastWholeMonth.getYear(), lastWholeMonth.getMonthValue()));
+        if (wholeMonthsEnd.isBefore(end)) {
+            totals.addAll(transactionRepository.findCategoryTotalsByUserIdAndDateRange(userId, wholeMonthsEnd, end));
+        }
+        return totals;
+    }
+
+    private List<CategoryTotal> categoryTotals(Long userId, LocalDate from, LocalDate to) {
+        return source == ReportSource.COLUMNAR
+                ? columnStore.categoryTotals(userId, from, to)
+                : transactionRepository.findCategoryTotalsByUserIdAndDateRange(userId, from, to);
+    }
+
+    private Summary summarize(List<CategoryTotal> totals) {
+        Summary summary = new Summary();
+        for (CategoryTotal total : totals) {
+            summary.add(total.getCategory(), total.getType(), total.getTotal());
+        }
+        return summary;
+    }
+
+    /**
+     * Running totals of a report, kept in cents and converted to BigDecimal
+     * only when the response is built.
+     */
+    private static class Summary {
+
+        private final Map<String, Money> incomeByCategory = new HashMap<>();
+        private final Map<String, Money> expensesByCategory = new HashMap<>();
+        private Money totalIncome = Money.ZERO;
+        private Money totalExpenses = Money.ZERO;
+        private boolean empty = true;
+
+        void add(String category, TransactionType type, BigDecimal amount) {
+            Money money = Money.of(amount);
+            if (type == TransactionType.INCOME) {
+                incomeByCategory.merge(category, money, Money::plus);
+                totalIncome = totalIncome.plus(money);
+            } else {
+                expensesByCategory.merge(category, money, Money::plus);
+                totalExpenses = totalExpenses.plus(money);
+            }
+            empty = false;
+        }
+
+        Map<String, BigDecimal> income() {
+            return toBigDecimals(incomeByCategory);
+        }
+
+        Map<String, BigDecimal> expenses() {
+            return toBigDecimals(expensesByCategory);
+        }
+
+        BigDecimal netSavings() {
+            // A report without any amounts has always been an unscaled zero
+            return empty ? BigDecimal.ZERO : totalIncome.minus(totalExpenses).toBigDecimal();
+        }
+
+        private static Map<String, BigDecimal> toBigDecimals(Map<String, Money> totals) {
+            Map<String, BigDecimal> amounts = new HashMap<>();
+            totals.forEach((category, total) -> amounts.put(category, total.toBigDecimal()));
+            return amounts;
+        }
+    }
 }
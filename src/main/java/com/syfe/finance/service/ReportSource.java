@@ -0,0 +1,26 @@
+package com.syfe.finance.service;
+
+/**
+ * Where {@link ReportService} reads its per-category totals from.
+ */
+public enum ReportSource {
+
+    /**
+     * The incrementally maintained monthly rollup table; cost grows with the
+     * number of categories.
+     */
+    ROLLUP,
+
+    /**
+     * A GROUP BY aggregate over the transactions themselves; needs no rollup
+     * data but its cost grows with the number of transactions in the period.
+     */
+    QUERY,
+
+    /**
+     * A scan of the user's transactions held column by column in memory by
+     * {@link TransactionColumnStore}; needs no database round trip once the
+     * columns are loaded.
+     */
+    COLUMNAR
+}
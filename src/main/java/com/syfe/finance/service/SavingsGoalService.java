@@ -2,34 +2,63 @@ package com.syfe.finance.service;
 
 import com.syfe.finance.dto.*;
 import com.syfe.finance.entity.SavingsGoal;
-import com.syfe.finance.entity.Transaction;
-import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.entity.User;
 import com.syfe.finance.exception.ResourceNotFoundException;
 import com.syfe.finance.exception.UnauthorizedAccessException;
 import com.syfe.finance.exception.ValidationException;
 import com.syfe.finance.repository.SavingsGoalRepository;
 import com.syfe.finance.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.syfe.finance.repository.UserRepository;
+import com.syfe.finance.util.Money;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing savings goals.
- * Calculates progress based on income and expenses.
+ * Calculates progress based on income and expenses since each goal's start
+ * date, read from wherever {@link GoalProgressSource} selects.
  */
 @Service
-@RequiredArgsConstructor
 public class SavingsGoalService {
 
     private final SavingsGoalRepository savingsGoalRepository;
     private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final TransactionColumnStore columnStore;
+    private final NetSavingsLedgerStore ledgerStore;
+    private final GoalForecastService forecastService;
+    private final GoalSimulationService simulationService;
+    private final GoalProgressSource source;
+
+    public SavingsGoalService(SavingsGoalRepository savingsGoalRepository,
+            TransactionRepository transactionRepository,
+            UserRepository userRepository,
+            TransactionColumnStore columnStore,
+            NetSavingsLedgerStore ledgerStore,
+            GoalForecastService forecastService,
+            GoalSimulationService simulationService,
+            @Value("${app.goals.progress-source:STORED}") GoalProgressSource source) {
+        this.savingsGoalRepository = savingsGoalRepository;
+        this.transactionRepository = transactionRepository;
+        this.userRepository = userRepository;
+        this.columnStore = columnStore;
+        this.ledgerStore = ledgerStore;
+        this.forecastService = forecastService;
+        this.simulationService = simulationService;
+        this.source = source;
+    }
 
     /**
      * Creates a new savings goal.
@@ -47,29 +76,53 @@ public class SavingsGoalService {
 
         LocalDate startDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now();
 
+        // Takes turns with GoalProgressService on the user's row: a transaction
+        // committed before the lock is in the sum, one committed after it sees
+        // this goal and adds to it
+        userRepository.findAndLockById(user.getId());
+
         SavingsGoal goal = SavingsGoal.builder()
                 .goalName(request.getGoalName())
                 .targetAmount(request.getTargetAmount())
                 .targetDate(request.getTargetDate())
                 .startDate(startDate)
+                .netSavings(queryNetSavings(user.getId(), startDate))
                 .user(user)
                 .build();
 
         SavingsGoal savedGoal = savingsGoalRepository.save(goal);
-        return toGoalResponse(savedGoal, user.getId());
+        // Just computed from the transactions, whatever the progress source
+        return toGoalResponse(savedGoal, savedGoal.getNetSavings());
     }
 
     /**
-     * Retrieves all goals for a user with calculated progress.
+     * Retrieves all goals for a user with calculated progress. Stored progress
+     * is read as is; with {@link GoalProgressSource#QUERY} every goal is looked
+     * up in net savings accumulated by a single pass over the user's daily
+     * totals since the earliest start date, instead of aggregating the
+     * transactions once per goal. Every goal carries its forecast, all at the
+     * user's savings rate read once.
      *
      * @param user the authenticated user
      * @return a list response of goals
      */
     public GoalListResponse getAllGoals(User user) {
         List<SavingsGoal> goals = savingsGoalRepository.findAllByUserId(user.getId());
+        if (goals.isEmpty()) {
+            return GoalListResponse.builder()
+                    .goals(new ArrayList<>())
+                    .build();
+        }
 
+        Function<SavingsGoal, BigDecimal> netSavings = netSavings(user.getId(), goals);
+        BigDecimal monthlySavingsRate = forecastService.monthlySavingsRate(user.getId());
         List<GoalResponse> goalResponses = goals.stream()
-                .map(goal -> toGoalResponse(goal, user.getId()))
+                .map(goal -> {
+                    GoalResponse response = toGoalResponse(goal, netSavings.apply(goal));
+                    response.setForecast(forecastService.forecast(goal, response.getRemainingAmount(),
+                            monthlySavingsRate));
+                    return response;
+                })
                 .collect(Collectors.toList());
 
         return GoalListResponse.builder()
@@ -86,7 +139,81 @@ public class SavingsGoalService {
      */
     public GoalResponse getGoalById(Long goalId, User user) {
         SavingsGoal goal = findGoalWithOwnershipCheck(goalId, user);
-        return toGoalResponse(goal, user.getId());
+        return toGoalResponse(goal, netSavings(goal, user.getId()));
+    }
+
+    /**
+     * Forecasts when a goal will be reached at the user's recent savings rate
+     * and what monthly savings would reach it by its target date.
+     *
+     * @param goalId the goal ID
+     * @param user   the authenticated user
+     * @return the forecast
+     */
+    public GoalForecastResponse getGoalForecast(Long goalId, User user) {
+        SavingsGoal goal = findGoalWithOwnershipCheck(goalId, user);
+        GoalResponse response = toGoalResponse(goal, netSavings(goal, user.getId()));
+        return forecastService.forecast(goal, response.getRemainingAmount(),
+                forecastService.monthlySavingsRate(user.getId()));
+    }
+
+    /**
+     * Simulates a goal's net savings until its target date, starting from its
+     * current net savings.
+     *
+     * @param goalId  the goal ID
+     * @param request number of paths and seed, both optional
+     * @param user    the authenticated user
+     * @return the probability of reaching the target and percentile bands
+     */
+    public GoalSimulationResponse simulateGoal(Long goalId, GoalSimulationRequest request, User user) {
+        SavingsGoal goal = findGoalWithOwnershipCheck(goalId, user);
+        return simulationService.simulate(goal, netSavings(goal, user.getId()), request);
+    }
+
+    /**
+     * Returns the goals of a user whose progress was moved by committed
+     * changes, with their progress after the changes. A change dated D moves
+     * the net savings of the goals started on or before D; progress before
+     * the changes is the current net savings less that amount, so only goals
+     * whose displayed progress differs are returned.
+     *
+     * @param userId    the user ID
+     * @param netByDate the net effect of the changes per day
+     * @return the changed goals, empty if none changed
+     */
+    public List<GoalProgressUpdate> getProgressUpdates(Long userId, NavigableMap<LocalDate, BigDecimal> netByDate) {
+        List<SavingsGoal> goals = savingsGoalRepository.findAllByUserId(userId);
+        if (goals.isEmpty() || netByDate.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Function<SavingsGoal, BigDecimal> netSavings = null;
+        List<GoalProgressUpdate> updates = new ArrayList<>();
+        for (SavingsGoal goal : goals) {
+            BigDecimal change = netByDate.tailMap(goal.getStartDate(), true).values().stream()
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            if (change.signum() == 0) {
+                continue;
+            }
+            if (netSavings == null) {
+                netSavings = netSavings(userId, goals);
+            }
+            BigDecimal net = netSavings.apply(goal);
+            GoalResponse after = toGoalResponse(goal, net);
+            GoalResponse before = toGoalResponse(goal, net.subtract(change));
+            BigDecimal progressChange = after.getCurrentProgress().subtract(before.getCurrentProgress());
+            if (progressChange.signum() != 0) {
+                updates.add(GoalProgressUpdate.builder()
+                        .goalId(goal.getId())
+                        .currentProgress(after.getCurrentProgress())
+                        .progressPercentage(after.getProgressPercentage())
+                        .remainingAmount(after.getRemainingAmount())
+                        .progressChange(progressChange)
+                        .build());
+            }
+        }
+        return updates;
     }
 
     /**
@@ -115,7 +242,7 @@ public class SavingsGoalService {
         }
 
         SavingsGoal updatedGoal = savingsGoalRepository.save(goal);
-        return toGoalResponse(updatedGoal, user.getId());
+        return toGoalResponse(updatedGoal, netSavings(updatedGoal, user.getId()));
     }
 
     /**
@@ -145,29 +272,39 @@ public class SavingsGoalService {
      * Calculate net savings (total income - total expenses) since the goal's start
      * date.
      */
-    private BigDecimal calculateNetSavings(Long userId, LocalDate startDate) {
-        // Get all income transactions since start date
-        List<Transaction> incomeTransactions = transactionRepository
-                .findByUserIdAndDateAfterAndType(userId, startDate, TransactionType.INCOME);
-
-        BigDecimal totalIncome = incomeTransactions.stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Get all expense transactions since start date
-        List<Transaction> expenseTransactions = transactionRepository
-                .findByUserIdAndDateAfterAndType(userId, startDate, TransactionType.EXPENSE);
-
-        BigDecimal totalExpenses = expenseTransactions.stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private BigDecimal netSavings(SavingsGoal goal, Long userId) {
+        return switch (source) {
+            case STORED -> goal.getNetSavings();
+            case LEDGER -> ledgerStore.netSince(userId, goal.getStartDate());
+            case QUERY -> queryNetSavings(userId, goal.getStartDate());
+            case COLUMNAR -> columnStore.netSince(userId, goal.getStartDate());
+        };
+    }
 
-        return totalIncome.subtract(totalExpenses);
+    /**
+     * Returns the net savings of each of the goals, from one query for all of
+     * them when they are not stored or held in memory.
+     */
+    private Function<SavingsGoal, BigDecimal> netSavings(Long userId, List<SavingsGoal> goals) {
+        if (source != GoalProgressSource.QUERY) {
+            return goal -> netSavings(goal, userId);
+        }
+        LocalDate earliest = goals.stream()
+                .map(SavingsGoal::getStartDate)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        CumulativeNetSavings cumulative = new CumulativeNetSavings(
+                transactionRepository.findDailyNetAmountsByUserIdAndDateFrom(userId, earliest));
+        return goal -> cumulative.since(goal.getStartDate());
     }
 
-    private GoalResponse toGoalResponse(SavingsGoal goal, Long userId) {
-        BigDecimal netSavings = calculateNetSavings(userId, goal.getStartDate());
+    private BigDecimal queryNetSavings(Long userId, LocalDate startDate) {
+        // Income minus expenses since the start date, summed by the database
+        BigDecimal netSavings = transactionRepository.sumNetAmountByUserIdAndDateFrom(userId, startDate);
+        return netSavings != null ? netSavings : BigDecimal.ZERO;
+    }
 
+    private GoalResponse toGoalResponse(SavingsGoal goal, BigDecimal netSavings) {
         // Don't show negative progress
         BigDecimal currentProgress = netSavings.max(BigDecimal.ZERO);
 
@@ -195,4 +332,33 @@ public class SavingsGoalService {
                 .remainingAmount(remaining)
                 .build();
     }
+
+    /**
+     * Net savings from each day with transactions to the last, accumulated
+     * from the newest day backwards, so the net since any date is one binary
+     * search away.
+     */
+    private static final class CumulativeNetSavings {
+
+        private final LocalDate[] dates;
+        private final long[] centsSince;
+
+        private CumulativeNetSavings(List<DailyNetAmount> days) {
+            dates = new LocalDate[days.size()];
+            centsSince = new long[days.size()];
+            long cents = 0;
+            for (int i = days.size() - 1; i >= 0; i--) {
+                cents = Math.addExact(cents, Money.toCents(days.get(i).getNet()));
+                dates[i] = days.get(i).getDate();
+                centsSince[i] = cents;
+            }
+        }
+
+        private BigDecimal since(LocalDate startDate) {
+            int index = Arrays.binarySearch(dates, startDate);
+            int first = index >= 0 ? index : -index - 1;
+            // Same as the single-goal query: an unscaled zero when no transactions follow
+            return first == dates.length ? BigDecimal.ZERO : Money.ofCents(centsSince[first]).toBigDecimal();
+        }
+    }
 }
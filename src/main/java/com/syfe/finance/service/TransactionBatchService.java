@@ -0,0 +1,188 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.BatchItemResult;
+import com.syfe.finance.dto.BatchTransactionResponse;
+import com.syfe.finance.dto.TransactionRequest;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for bulk transaction ingestion.
+ * Validates a whole batch up front, resolves all category names in one query
+ * and inserts in fixed-size chunks, each chunk in its own database transaction
+ * so JDBC batching applies and a failing chunk does not roll back the others.
+ * Whatever a chunk fails with, its items are reported as failed and the
+ * remaining chunks are still inserted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionBatchService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final TransactionRepository transactionRepository;
+    private final CategoryService categoryService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates many transactions at once and reports the outcome of every item.
+     *
+     * @param requests the transactions to create
+     * @param user     the authenticated user
+     * @return per-item results, in submission order
+     */
+    public BatchTransactionResponse createTransactions(List<TransactionRequest> requests, User user) {
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = failed(i, error);
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        Set<String> categoryNames = validIndexes.stream()
+                .map(i -> requests.get(i).getCategory())
+                .collect(Collectors.toSet());
+        Map<String, Category> categories = categoryService.findCategoriesByNamesForUser(categoryNames, user.getId());
+
+        List<Integer> chunkIndexes = new ArrayList<>(CHUNK_SIZE);
+        List<Transaction> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i : validIndexes) {
+            TransactionRequest request = requests.get(i);
+            Category category = categories.get(request.getCategory());
+            if (category == null) {
+                results[i] = failed(i, "Category not found with name: " + request.getCategory());
+                continue;
+            }
+
+            chunkIndexes.add(i);
+            chunk.add(toTransaction(request, category, user));
+            if (chunk.size() == CHUNK_SIZE) {
+                insertChunk(chunk, chunkIndexes, results);
+                chunk.clear();
+                chunkIndexes.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, chunkIndexes, results);
+        }
+
+        int created = (int) Arrays.stream(results)
+                .filter(result -> BatchItemResult.CREATED.equals(result.getStatus()))
+                .count();
+
+        return BatchTransactionResponse.builder()
+                .created(created)
+                .failed(results.length - created)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Validates a single item with the same rules as a single transaction
+     * creation.
+     *
+     * @param request the transaction request
+     * @return the error message, or null if the item is valid
+     */
+    String validate(TransactionRequest request) {
+        Set<ConstraintViolation<TransactionRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (request.getDate().isAfter(LocalDate.now())) {
+            return "Transaction date cannot be in the future";
+        }
+        return null;
+    }
+
+    /**
+     * Inserts a chunk of new transactions of one user in its own database
+     * transaction and clears the persistence context afterwards so memory
+     * stays bounded.
+     *
+     * @param chunk the transactions to insert; ids are assigned on success
+     */
+    void saveChunk(List<Transaction> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            transactionRepository.saveAll(chunk);
+            entityManager.flush();
+            List<TransactionChange> changes = chunk.stream()
+                    .map(transaction -> TransactionChange.created(TransactionSnapshot.of(transaction)))
+                    .collect(Collectors.toList());
+            eventPublisher.publishEvent(new TransactionsChangedEvent(chunk.get(0).getUser().getId(), changes));
+            entityManager.clear();
+        });
+    }
+
+    static Transaction toTransaction(TransactionRequest request, Category category, User user) {
+        return Transaction.builder()
+                .amount(request.getAmount())
+                .date(request.getDate())
+                .description(request.getDescription())
+                .type(category.getType())
+                .user(user)
+                .category(category)
+                .build();
+    }
+
+    private void insertChunk(List<Transaction> chunk, List<Integer> indexes, BatchItemResult[] results) {
+        try {
+            saveChunk(chunk);
+            for (int j = 0; j < chunk.size(); j++) {
+                int index = indexes.get(j);
+                results[index] = BatchItemResult.builder()
+                        .index(index)
+                        .status(BatchItemResult.CREATED)
+                        .id(chunk.get(j).getId())
+                        .build();
+            }
+        } catch (RuntimeException e) {
+            // Also covers change listeners that fail inside the chunk's transaction
+            log.warn("Failed to insert a chunk of {} transactions", chunk.size(), e);
+            for (int index : indexes) {
+                results[index] = failed(index, "Could not save transaction");
+            }
+        }
+    }
+
+    private static BatchItemResult failed(int index, String error) {
+        return BatchItemResult.builder()
+                .index(index)
+                .status(BatchItemResult.FAILED)
+                .error(error)
+                .build();
+    }
+}
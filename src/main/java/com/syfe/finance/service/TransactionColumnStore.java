@@ -0,0 +1,225 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.MonthlyCategoryTotal;
+import com.syfe.finance.dto.TransactionColumnRow;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.TransactionRepository;
+import com.syfe.finance.util.TransactionColumns;
+import com.syfe.finance.util.UserGenerations;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Answers report and savings aggregates from {@link TransactionColumns} held
+ * in memory per user, when {@code app.reports.source=COLUMNAR} or
+ * {@code app.goals.progress-source=COLUMNAR}. A user's
+ * columns are built from the database on first access and kept current from
+ * committed transaction changes. All users' columns together stay within a
+ * memory budget; the least recently used are dropped to make room.
+ */
+@Service
+@Slf4j
+public class TransactionColumnStore {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long memoryBudgetBytes;
+    // Access-ordered, so iteration starts at the least recently used user
+    private final LinkedHashMap<Long, Entry> columns = new LinkedHashMap<>(16, 0.75f, true);
+    private final UserGenerations generations = new UserGenerations();
+    private long usedBytes;
+
+    public TransactionColumnStore(TransactionRepository transactionRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.reports.columnar.memory-budget:64MB}") DataSize memoryBudget) {
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.memoryBudgetBytes = memoryBudget.toBytes();
+    }
+
+    /**
+     * Sums a user's transactions dated in {@code [from, to)} per category and
+     * type.
+     *
+     * @param userId the user ID
+     * @param from   the first day, inclusive
+     * @param to     the day after the last, exclusive
+     * @return one total per category and type that has transactions
+     */
+    public List<CategoryTotal> categoryTotals(Long userId, LocalDate from, LocalDate to) {
+        return load(userId).categoryTotals(from, to);
+    }
+
+    /**
+     * Sums a user's transactions of a year per month, category and type.
+     *
+     * @param userId the user ID
+     * @param year   the year
+     * @return one total per month, category and type that has transactions
+     */
+    public List<MonthlyCategoryTotal> monthlyCategoryTotals(Long userId, int year) {
+        return load(userId).monthlyCategoryTotals(year);
+    }
+
+    /**
+     * Returns a user's income minus expenses dated on or after a day.
+     *
+     * @param userId the user ID
+     * @param from   the first day, inclusive
+     * @return the net amount with two decimals, or an unscaled zero if there
+     *         are no such transactions
+     */
+    public BigDecimal netSince(Long userId, LocalDate from) {
+        return load(userId).netSince(from);
+    }
+
+    /**
+     * Applies committed transaction changes to the user's columns, if they are
+     * loaded. Columns that are not loaded yet will read them from the database.
+     * Runs ahead of {@link GoalProgressStream}, whose push may read the columns.
+     *
+     * @param event the committed changes
+     */
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        Long userId = event.getUserId();
+        generations.bump(userId);
+        Entry entry;
+        synchronized (this) {
+            entry = columns.get(userId);
+        }
+        if (entry == null) {
+            return;
+        }
+
+        List<Long> removedIds = new ArrayList<>();
+        List<TransactionSnapshot> added = new ArrayList<>();
+        for (TransactionChange change : event.getChanges()) {
+            if (change.getBefore() != null) {
+                removedIds.add(change.getBefore().getId());
+            }
+            if (change.getAfter() != null) {
+                added.add(change.getAfter());
+            }
+        }
+        boolean applied;
+        try {
+            applied = entry.columns.update(removedIds, added);
+        } catch (RuntimeException e) {
+            // The columns are unchanged but now out of date, and this listener's exceptions are dropped
+            log.warn("Could not apply transaction changes to the columns of user {}; dropping them", userId, e);
+            applied = false;
+        }
+
+        synchronized (this) {
+            if (columns.get(userId) != entry) {
+                return;
+            }
+            if (applied) {
+                long bytes = entry.columns.estimatedBytes();
+                usedBytes += bytes - entry.bytes;
+                entry.bytes = bytes;
+                evictOverBudget();
+            } else {
+                // A category first used by this change, or a change that could not be applied; rebuilt from the
+                // database on next access
+                columns.remove(userId);
+                usedBytes -= entry.bytes;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of users whose columns are held in memory.
+     */
+    synchronized int loadedUserCount() {
+        return columns.size();
+    }
+
+    /**
+     * Returns the bytes held by all loaded columns.
+     */
+    synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    private TransactionColumns load(Long userId) {
+        synchronized (this) {
+            Entry entry = columns.get(userId);
+            if (entry != null) {
+                return entry.columns;
+            }
+        }
+
+        long generation = generations.snapshot(userId);
+        TransactionColumns built = build(userId);
+        long bytes = built.estimatedBytes();
+        synchronized (this) {
+            Entry entry = columns.get(userId);
+            if (entry != null) {
+                return entry.columns;
+            }
+            // Columns that may predate a concurrent write, or that would not fit
+            // the budget alone, answer this request only
+            if (generations.unchanged(userId, generation) && bytes <= memoryBudgetBytes) {
+                columns.put(userId, new Entry(built, bytes));
+                usedBytes += bytes;
+                evictOverBudget();
+            }
+        }
+        return built;
+    }
+
+    private TransactionColumns build(Long userId) {
+        long startedAt = System.nanoTime();
+        TransactionColumns built = new TransactionColumns();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TransactionColumnRow> rows = transactionRepository.streamColumnRowsByUserId(userId)) {
+                rows.forEach(row -> built.append(row.getId(), row.getDate(), row.getAmount(),
+                        row.getCategoryId(), row.getCategory(), row.getType()));
+            }
+        });
+        built.trimToSize();
+        log.debug("Built transaction columns for user {} with {} transactions in {} ms", userId, built.size(),
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return built;
+    }
+
+    private void evictOverBudget() {
+        Iterator<Entry> leastRecentlyUsed = columns.values().iterator();
+        while (usedBytes > memoryBudgetBytes && leastRecentlyUsed.hasNext()) {
+            usedBytes -= leastRecentlyUsed.next().bytes;
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static final class Entry {
+
+        private final TransactionColumns columns;
+        private long bytes;
+
+        private Entry(TransactionColumns columns, long bytes) {
+            this.columns = columns;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.syfe.finance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for bulk exporting a user's transactions.
+ * Streams projected rows straight from the database cursor to the client as
+ * newline-delimited JSON. No entities enter the persistence context, so heap
+ * usage does not grow with history size.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    private final TransactionRepository transactionRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every transaction of the user to the output stream, one JSON object
+     * per line, newest first.
+     *
+     * @param userId the user ID
+     * @param out    the stream to write to; it is flushed but not closed
+     * @return the number of transactions written
+     */
+    @Transactional(readOnly = true)
+    public long exportTransactions(Long userId, OutputStream out) {
+        ObjectWriter writer = objectMapper.writerFor(TransactionResponse.class);
+        long count = 0;
+
+        try (Stream<TransactionResponse> transactions = transactionRepository.streamAllByUserId(userId)) {
+            Iterator<TransactionResponse> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                out.write(writer.writeValueAsBytes(iterator.next()));
+                out.write(NEWLINE);
+
+                // Flush the first row immediately and then once per fetch batch
+                if (count++ % TransactionRepository.EXPORT_FETCH_SIZE == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return count;
+    }
+}
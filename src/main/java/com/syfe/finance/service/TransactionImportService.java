@@ -0,0 +1,326 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.ImportLineError;
+import com.syfe.finance.dto.ImportProgressResponse;
+import com.syfe.finance.dto.ImportResultResponse;
+import com.syfe.finance.dto.TransactionRequest;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.exception.ValidationException;
+import com.syfe.finance.util.CsvReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service for importing bank statement CSV files.
+ * Reads the upload record by record and commits every chunk before reading
+ * the next one, so only one chunk is ever held in memory and the parser can
+ * never run ahead of the database. A file that cannot be read to the end
+ * still has the rows before the failure imported, and the failure is
+ * reported as the error of the line it starts on. The counters of imports
+ * in progress can be read while they run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionImportService {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    // Long imports log their progress after every chunk that crosses a multiple of this many rows
+    static final int PROGRESS_LOG_ROWS = 10_000;
+
+    private static final String DATE_COLUMN = "date";
+    private static final String AMOUNT_COLUMN = "amount";
+    private static final String CATEGORY_COLUMN = "category";
+    private static final String DESCRIPTION_COLUMN = "description";
+
+    private final TransactionBatchService transactionBatchService;
+    private final CategoryService categoryService;
+    private final Map<Long, Set<ImportRun>> runningImports = new ConcurrentHashMap<>();
+
+    /**
+     * Imports transactions from a CSV file with a header row naming the
+     * {@code date}, {@code amount}, {@code category} and optional
+     * {@code description} columns, in any order.
+     *
+     * @param input the CSV content, UTF-8 encoded
+     * @param user  the authenticated user
+     * @return counts, per-line errors and throughput of the import
+     */
+    public ImportResultResponse importCsv(InputStream input, User user) {
+        ImportRun run = new ImportRun(user, System.nanoTime());
+        runningImports.computeIfAbsent(user.getId(), id -> ConcurrentHashMap.newKeySet()).add(run);
+        try {
+            return read(input, run);
+        } finally {
+            runningImports.computeIfPresent(user.getId(), (id, runs) -> {
+                runs.remove(run);
+                return runs.isEmpty() ? null : runs;
+            });
+        }
+    }
+
+    /**
+     * Returns the progress of a user's imports that are still running, oldest
+     * first.
+     *
+     * @param userId the user ID
+     * @return the running imports, empty if there are none
+     */
+    public List<ImportProgressResponse> getProgress(Long userId) {
+        long now = System.nanoTime();
+        return runningImports.getOrDefault(userId, Set.of()).stream()
+                .sorted(Comparator.comparing(run -> run.startedAtInstant))
+                .map(run -> ImportProgressResponse.builder()
+                        .startedAt(run.startedAtInstant)
+                        .rowsRead(run.rowsRead)
+                        .imported(run.imported)
+                        .failed(run.failed)
+                        .rowsPerSecond(run.rowsPerSecond(now - run.startedAt))
+                        .build())
+                .toList();
+    }
+
+    private ImportResultResponse read(InputStream input, ImportRun run) {
+        User user = run.user;
+        try (CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new ValidationException("CSV file is empty");
+            }
+            run.mapColumns(header);
+
+            try {
+                List<String> record;
+                while ((record = reader.readRecord()) != null) {
+                    if (record.size() == 1 && record.get(0).isBlank()) {
+                        continue;
+                    }
+                    run.add(reader.getRecordLineNumber(), record);
+                }
+            } catch (IOException e) {
+                // Earlier chunks are committed already, so the caller needs the counts rather than a 400
+                run.failUnreadable(reader.getRecordLineNumber(), "Could not read the rest of the CSV file: "
+                        + e.getMessage());
+            }
+            run.flush();
+        } catch (IOException e) {
+            throw new ValidationException("Could not read CSV file: " + e.getMessage());
+        }
+
+        long elapsedNanos = System.nanoTime() - run.startedAt;
+        double rowsPerSecond = run.rowsPerSecond(elapsedNanos);
+        log.info("CSV import for user {} finished: {} rows read, {} imported, {} failed, {} rows/sec",
+                user.getId(), run.rowsRead, run.imported, run.failed, rowsPerSecond);
+
+        return ImportResultResponse.builder()
+                .rowsRead(run.rowsRead)
+                .imported(run.imported)
+                .failed(run.failed)
+                .errors(run.errors)
+                .errorsTruncated(run.failed > run.errors.size())
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    /**
+     * State of a single import: column layout, the pending chunk, a category
+     * cache shared by all chunks and the running counters.
+     */
+    private class ImportRun {
+
+        private final User user;
+        private final long startedAt;
+        private final Instant startedAtInstant = Instant.now();
+        private final Map<String, Optional<Category>> categoryCache = new HashMap<>();
+        private final List<Long> chunkLines = new ArrayList<>(TransactionBatchService.CHUNK_SIZE);
+        private final List<TransactionRequest> chunkRequests = new ArrayList<>(TransactionBatchService.CHUNK_SIZE);
+        private final List<ImportLineError> errors = new ArrayList<>();
+
+        private int dateColumn;
+        private int amountColumn;
+        private int categoryColumn;
+        private int descriptionColumn;
+
+        // Written by the importing thread only, read by progress requests
+        private volatile long rowsRead;
+        private volatile long imported;
+        private volatile long failed;
+        private long nextProgressLog = PROGRESS_LOG_ROWS;
+
+        ImportRun(User user, long startedAt) {
+            this.user = user;
+            this.startedAt = startedAt;
+        }
+
+        void mapColumns(List<String> header) {
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                positions.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            dateColumn = requireColumn(positions, DATE_COLUMN);
+            amountColumn = requireColumn(positions, AMOUNT_COLUMN);
+            categoryColumn = requireColumn(positions, CATEGORY_COLUMN);
+            descriptionColumn = positions.getOrDefault(DESCRIPTION_COLUMN, -1);
+        }
+
+        void add(long line, List<String> record) {
+            rowsRead++;
+            try {
+                chunkRequests.add(toRequest(record));
+                chunkLines.add(line);
+            } catch (ValidationException e) {
+                fail(line, e.getMessage());
+            }
+            if (chunkRequests.size() == TransactionBatchService.CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Counts the record reading stopped at as a failed row.
+         */
+        void failUnreadable(long line, String error) {
+            rowsRead++;
+            fail(line, error);
+        }
+
+        void flush() {
+            if (chunkRequests.isEmpty()) {
+                return;
+            }
+            resolveCategories();
+
+            List<Transaction> transactions = new ArrayList<>(chunkRequests.size());
+            List<Long> transactionLines = new ArrayList<>(chunkRequests.size());
+            for (int i = 0; i < chunkRequests.size(); i++) {
+                TransactionRequest request = chunkRequests.get(i);
+                String error = transactionBatchService.validate(request);
+                Optional<Category> category = error == null
+                        ? categoryCache.get(request.getCategory())
+                        : Optional.empty();
+                if (error == null && category.isEmpty()) {
+                    error = "Category not found with name: " + request.getCategory();
+                }
+                if (error != null) {
+                    fail(chunkLines.get(i), error);
+                    continue;
+                }
+                transactions.add(TransactionBatchService.toTransaction(request, category.get(), user));
+                transactionLines.add(chunkLines.get(i));
+            }
+
+            if (!transactions.isEmpty()) {
+                try {
+                    transactionBatchService.saveChunk(transactions);
+                    imported += transactions.size();
+                } catch (DataAccessException e) {
+                    log.warn("Failed to import a chunk of {} transactions", transactions.size(), e);
+                    transactionLines.forEach(line -> fail(line, "Could not save transaction"));
+                }
+            }
+            if (rowsRead >= nextProgressLog) {
+                log.info("CSV import for user {}: {} rows read, {} imported, {} failed, {} rows/sec",
+                        user.getId(), rowsRead, imported, failed, rowsPerSecond(System.nanoTime() - startedAt));
+                nextProgressLog = (rowsRead / PROGRESS_LOG_ROWS + 1) * PROGRESS_LOG_ROWS;
+            }
+
+            chunkRequests.clear();
+            chunkLines.clear();
+        }
+
+        double rowsPerSecond(long elapsedNanos) {
+            double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            return seconds > 0 ? Math.round(rowsRead / seconds * 10.0) / 10.0 : 0.0;
+        }
+
+        private void resolveCategories() {
+            Set<String> unresolved = new HashSet<>();
+            for (TransactionRequest request : chunkRequests) {
+                String name = request.getCategory();
+                if (name != null && !categoryCache.containsKey(name)) {
+                    unresolved.add(name);
+                }
+            }
+            if (unresolved.isEmpty()) {
+                return;
+            }
+            Map<String, Category> found = categoryService.findCategoriesByNamesForUser(unresolved, user.getId());
+            for (String name : unresolved) {
+                categoryCache.put(name, Optional.ofNullable(found.get(name)));
+            }
+        }
+
+        private TransactionRequest toRequest(List<String> record) {
+            String amount = field(record, amountColumn);
+            String date = field(record, dateColumn);
+            TransactionRequest request = TransactionRequest.builder()
+                    .category(field(record, categoryColumn))
+                    .description(descriptionColumn >= 0 ? field(record, descriptionColumn) : null)
+                    .build();
+            if (amount != null) {
+                try {
+                    request.setAmount(new BigDecimal(amount));
+                } catch (NumberFormatException e) {
+                    throw new ValidationException("Invalid amount: " + amount);
+                }
+            }
+            if (date != null) {
+                try {
+                    request.setDate(LocalDate.parse(date));
+                } catch (DateTimeParseException e) {
+                    throw new ValidationException("Invalid date: " + date + " (expected yyyy-MM-dd)");
+                }
+            }
+            return request;
+        }
+
+        private void fail(long line, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportLineError.builder().line(line).error(error).build());
+            }
+        }
+    }
+
+    private static int requireColumn(Map<String, Integer> positions, String column) {
+        Integer position = positions.get(column);
+        if (position == null) {
+            throw new ValidationException("Missing required CSV column: " + column);
+        }
+        return position;
+    }
+
+    private static String field(List<String> record, int column) {
+        if (column >= record.size()) {
+            return null;
+        }
+        String value = record.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,164 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.TransactionListResponse;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.exception.ValidationException;
+import com.syfe.finance.repository.TransactionRepository;
+import com.syfe.finance.util.TransactionSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service for searching transactions by description.
+ * Keeps one {@link TransactionSearchIndex} per user in memory: it is built
+ * from the database on the user's first search, kept current from committed
+ * transaction changes and dropped again once the user has been idle.
+ */
+@Service
+@Slf4j
+public class TransactionSearchService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long idleTimeoutNanos;
+    private final Map<Long, UserIndex> indexes = new ConcurrentHashMap<>();
+
+    public TransactionSearchService(TransactionRepository transactionRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.search.index-idle-timeout:30m}") Duration idleTimeout) {
+        this.transactionRepository = transactionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Searches the user's transactions for descriptions containing words that
+     * start with every word of the query.
+     *
+     * @param userId the user ID
+     * @param query  the search text
+     * @param limit  maximum number of transactions to return, or null for the
+     *               default page size
+     * @return the matching transactions, newest first
+     */
+    public TransactionListResponse search(Long userId, String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query must not be empty");
+        }
+        int maxResults = limit == null ? TransactionService.DEFAULT_PAGE_SIZE : limit;
+        if (maxResults < 1 || maxResults > TransactionService.MAX_PAGE_SIZE) {
+            throw new ValidationException("Limit must be between 1 and " + TransactionService.MAX_PAGE_SIZE);
+        }
+
+        List<Long> ids = loadIndex(userId).index.search(query, maxResults);
+        List<TransactionResponse> transactions = Collections.emptyList();
+        if (!ids.isEmpty()) {
+            Map<Long, TransactionResponse> byId = transactionRepository.findResponsesByIdInAndUserId(ids, userId)
+                    .stream()
+                    .collect(Collectors.toMap(TransactionResponse::getId, Function.identity()));
+            transactions = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                TransactionResponse response = byId.get(id);
+                if (response != null) {
+                    transactions.add(response);
+                }
+            }
+        }
+
+        return TransactionListResponse.builder()
+                .transactions(transactions)
+                .build();
+    }
+
+    /**
+     * Applies committed transaction changes to the user's index, if it is
+     * loaded. An index that is not loaded yet will read them from the database.
+     *
+     * @param event the committed changes
+     */
+    @TransactionalEventListener
+    public void onTransactionsChanged(TransactionsChangedEvent event) {
+        UserIndex userIndex = indexes.get(event.getUserId());
+        if (userIndex == null) {
+            return;
+        }
+        synchronized (userIndex) {
+            if (!userIndex.built) {
+                return;
+            }
+            for (TransactionChange change : event.getChanges()) {
+                TransactionSnapshot after = change.getAfter();
+                if (after == null) {
+                    userIndex.index.remove(change.getBefore().getId());
+                } else {
+                    userIndex.index.put(after.getId(), after.getDate(), after.getDescription());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the indexes of users who have not searched within the idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${app.search.eviction-interval:PT1M}")
+    public void evictIdleIndexes() {
+        long now = System.nanoTime();
+        indexes.entrySet().removeIf(entry -> now - entry.getValue().lastAccess > idleTimeoutNanos);
+    }
+
+    /**
+     * Returns the number of users whose index is currently held in memory.
+     */
+    int loadedIndexCount() {
+        return indexes.size();
+    }
+
+    private UserIndex loadIndex(Long userId) {
+        UserIndex userIndex = indexes.computeIfAbsent(userId, id -> new UserIndex());
+        userIndex.lastAccess = System.nanoTime();
+        if (!userIndex.built) {
+            synchronized (userIndex) {
+                if (!userIndex.built) {
+                    build(userId, userIndex.index);
+                    userIndex.built = true;
+                }
+            }
+        }
+        return userIndex;
+    }
+
+    private void build(Long userId, TransactionSearchIndex index) {
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TransactionResponse> rows = transactionRepository.streamAllByUserId(userId)) {
+                rows.forEach(row -> index.put(row.getId(), row.getDate(), row.getDescription()));
+            }
+        });
+        log.debug("Built search index for user {} with {} transactions in {} ms", userId, index.size(),
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+
+    private static final class UserIndex {
+
+        private final TransactionSearchIndex index = new TransactionSearchIndex();
+        private volatile boolean built;
+        private volatile long lastAccess = System.nanoTime();
+    }
+}
@@ -4,17 +4,21 @@ import com.syfe.finance.dto.*;
 import com.syfe.finance.entity.Category;
 import com.syfe.finance.entity.Transaction;
 import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
 import com.syfe.finance.exception.ResourceNotFoundException;
 import com.syfe.finance.exception.UnauthorizedAccessException;
 import com.syfe.finance.exception.ValidationException;
 import com.syfe.finance.repository.TransactionRepository;
+import com.syfe.finance.util.TransactionCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service for managing financial transactions.
@@ -25,8 +29,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TransactionService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
     private final TransactionRepository transactionRepository;
     private final CategoryService categoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new transaction after validating date and category.
@@ -55,40 +63,43 @@ public class TransactionService {
                 .build();
 
         Transaction savedTransaction = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(TransactionsChangedEvent.of(user.getId(),
+                TransactionChange.created(TransactionSnapshot.of(savedTransaction))));
         return toTransactionResponse(savedTransaction);
     }
 
     /**
-     * Retrieves transactions with applied filters (date range, category).
+     * Retrieves one page of transactions matching any combination of filters,
+     * ordered by date and id descending. Rows are projected straight into
+     * responses together with their category name, in a single query.
      *
-     * @param userId     the user ID
-     * @param startDate  filter start date
-     * @param endDate    filter end date
-     * @param categoryId filter category ID
-     * @return a list response of transactions
+     * @param userId the user ID
+     * @param filter the filter criteria; unset fields are not filtered on
+     * @param cursor opaque cursor from the previous page, or null for the first
+     *               page
+     * @param limit  maximum number of transactions to return, or null for the
+     *               default page size
+     * @return a list response of transactions with the cursor of the next page
      */
-    public TransactionListResponse getAllTransactions(Long userId, LocalDate startDate, LocalDate endDate,
-            Long categoryId) {
-        List<Transaction> transactions;
-
-        if (startDate != null && endDate != null && categoryId != null) {
-            transactions = transactionRepository.findAllByUserIdAndDateBetweenAndCategoryIdOrderByDateDesc(
-                    userId, startDate, endDate, categoryId);
-        } else if (startDate != null && endDate != null) {
-            transactions = transactionRepository.findAllByUserIdAndDateBetweenOrderByDateDesc(
-                    userId, startDate, endDate);
-        } else if (categoryId != null) {
-            transactions = transactionRepository.findAllByUserIdAndCategoryIdOrderByDateDesc(userId, categoryId);
-        } else {
-            transactions = transactionRepository.findAllByUserIdOrderByDateDesc(userId);
+    public TransactionListResponse getAllTransactions(Long userId, TransactionFilter filter, String cursor,
+            Integer limit) {
+        validateFilter(filter);
+        int pageSize = resolvePageSize(limit);
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        // Fetch one extra row to learn whether another page exists
+        List<TransactionResponse> transactions = transactionRepository.findPage(
+                userId, filter, position, pageSize + 1);
+
+        String nextCursor = null;
+        if (transactions.size() > pageSize) {
+            transactions = transactions.subList(0, pageSize);
+            TransactionResponse last = transactions.get(pageSize - 1);
+            nextCursor = new TransactionCursor(last.getDate(), last.getId()).encode();
         }
 
-        List<TransactionResponse> responses = transactions.stream()
-                .map(this::toTransactionResponse)
-                .collect(Collectors.toList());
-
         return TransactionListResponse.builder()
-                .transactions(responses)
+                .transactions(transactions)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -100,8 +111,10 @@ public class TransactionService {
      * @return the transaction response
      */
     public TransactionResponse getTransactionById(Long transactionId, User user) {
-        Transaction transaction = findTransactionWithOwnershipCheck(transactionId, user);
-        return toTransactionResponse(transaction);
+        return transactionRepository.findResponseByIdAndUserId(transactionId, user.getId())
+                .orElseThrow(() -> transactionRepository.existsById(transactionId)
+                        ? new UnauthorizedAccessException("Transaction", transactionId)
+                        : new ResourceNotFoundException("Transaction", transactionId));
     }
 
     /**
@@ -116,6 +129,7 @@ public class TransactionService {
     @Transactional
     public TransactionResponse updateTransaction(Long transactionId, TransactionUpdateRequest request, User user) {
         Transaction transaction = findTransactionWithOwnershipCheck(transactionId, user);
+        TransactionSnapshot before = TransactionSnapshot.of(transaction);
 
         // Update amount if provided
         if (request.getAmount() != null) {
@@ -137,6 +151,8 @@ public class TransactionService {
         // Note: Date cannot be updated per specification
 
         Transaction updatedTransaction = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(TransactionsChangedEvent.of(user.getId(),
+                TransactionChange.updated(before, TransactionSnapshot.of(updatedTransaction))));
         return toTransactionResponse(updatedTransaction);
     }
 
@@ -149,7 +165,30 @@ public class TransactionService {
     @Transactional
     public void deleteTransaction(Long transactionId, User user) {
         Transaction transaction = findTransactionWithOwnershipCheck(transactionId, user);
+        TransactionSnapshot before = TransactionSnapshot.of(transaction);
         transactionRepository.delete(transaction);
+        eventPublisher.publishEvent(TransactionsChangedEvent.of(user.getId(), TransactionChange.deleted(before)));
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+
+    private void validateFilter(TransactionFilter filter) {
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null
+                && filter.getMinAmount().compareTo(filter.getMaxAmount()) > 0) {
+            throw new ValidationException("Minimum amount must not be greater than maximum amount");
+        }
     }
 
     private Transaction findTransactionWithOwnershipCheck(Long transactionId, User user) {
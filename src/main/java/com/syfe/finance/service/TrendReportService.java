@@ -0,0 +1,119 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.TrendReportResponse;
+import com.syfe.finance.dto.YearTrend;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Service for multi-year income, expense and savings trends.
+ * Each year is aggregated as a separate task on the report executor, inside
+ * its own read-only transaction and therefore on its own connection, so the
+ * latency of a trend follows the slowest year rather than the sum of all.
+ * Callers off the request path, such as report jobs, can choose where the
+ * years run instead.
+ */
+@Service
+public class TrendReportService {
+
+    static final int MAX_YEARS = 20;
+
+    private final ReportService reportService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService reportExecutor;
+
+    public TrendReportService(ReportService reportService,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("reportExecutor") ExecutorService reportExecutor) {
+        this.reportService = reportService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reportExecutor = reportExecutor;
+    }
+
+    /**
+     * Generates income, expense and savings totals for every year of a range.
+     *
+     * @param userId   the user ID
+     * @param fromYear the first year, inclusive
+     * @param toYear   the last year, inclusive
+     * @return the trend report response, oldest year first
+     */
+    public TrendReportResponse getTrendReport(Long userId, int fromYear, int toYear) {
+        return getTrendReport(userId, fromYear, toYear, reportExecutor);
+    }
+
+    /**
+     * Generates income, expense and savings totals for every year of a range,
+     * running the years on the given executor.
+     *
+     * @param userId   the user ID
+     * @param fromYear the first year, inclusive
+     * @param toYear   the last year, inclusive
+     * @param executor runs the per-year tasks; {@code Runnable::run} runs
+     *                 them one after another on the calling thread
+     * @return the trend report response, oldest year first
+     */
+    public TrendReportResponse getTrendReport(Long userId, int fromYear, int toYear, Executor executor) {
+        ReportService.validateYear(fromYear);
+        ReportService.validateYear(toYear);
+        if (fromYear > toYear) {
+            throw new ValidationException("Start year must not be after end year");
+        }
+        if (toYear - fromYear + 1 > MAX_YEARS) {
+            throw new ValidationException("A trend can span at most " + MAX_YEARS + " years");
+        }
+
+        List<CompletableFuture<YearTrend>> tasks = new ArrayList<>(toYear - fromYear + 1);
+        for (int year = fromYear; year <= toYear; year++) {
+            int taskYear = year;
+            tasks.add(CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(
+                    status -> toYearTrend(reportService.getYearlyReport(userId, taskYear))), executor));
+        }
+
+        List<YearTrend> years = new ArrayList<>(tasks.size());
+        try {
+            for (CompletableFuture<YearTrend> task : tasks) {
+                years.add(task.join());
+            }
+        } catch (CompletionException e) {
+            tasks.forEach(task -> task.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return TrendReportResponse.builder()
+                .fromYear(fromYear)
+                .toYear(toYear)
+                .years(years)
+                .build();
+    }
+
+    private YearTrend toYearTrend(YearlyReportResponse report) {
+        return YearTrend.builder()
+                .year(report.getYear())
+                .totalIncome(sum(report.getTotalIncome()))
+                .totalExpenses(sum(report.getTotalExpenses()))
+                .netSavings(report.getNetSavings())
+                .build();
+    }
+
+    private static BigDecimal sum(Map<String, BigDecimal> totals) {
+        return totals.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
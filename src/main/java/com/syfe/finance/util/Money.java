@@ -0,0 +1,98 @@
+package com.syfe.finance.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point amount of money held as a {@code long} number of cents, for
+ * summing amounts without allocating a {@link BigDecimal} per addition.
+ * Arithmetic fails with an {@link ArithmeticException} instead of overflowing,
+ * and amounts with more than two decimals are rejected rather than rounded.
+ * Convert back with {@link #toBigDecimal()} only when building responses.
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Number of decimals of every amount, matching the transaction amount column.
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Converts an amount with at most two decimals.
+     *
+     * @param amount the amount
+     * @return the same amount in cents
+     * @throws ArithmeticException if the amount has more than two decimals or
+     *                             does not fit a long number of cents
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(toCents(amount));
+    }
+
+    /**
+     * Converts an amount with at most two decimals to cents, for accumulating
+     * in a local {@code long} with {@link Math#addExact(long, long)}.
+     *
+     * @param amount the amount
+     * @return the number of cents
+     * @throws ArithmeticException if the amount has more than two decimals or
+     *                             does not fit a long number of cents
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(SCALE).longValueExact();
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    /**
+     * Returns the amount with exactly two decimals.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && money.cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
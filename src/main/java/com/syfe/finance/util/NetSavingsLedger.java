@@ -0,0 +1,136 @@
+package com.syfe.finance.util;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One user's income minus expenses per day, held in a Fenwick (binary indexed)
+ * tree over a contiguous range of epoch days. Adding a transaction on any day,
+ * including a backdated one, and asking for the net amount since a day both
+ * take O(log d) for a range of d days. The range grows to take in days before
+ * or after it, doubling so that growing stays rare.
+ * Thread-safe: every operation synchronizes on the ledger.
+ */
+public class NetSavingsLedger {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Epoch day of tree index 1
+    private long firstDay;
+    // 1-based trees of cents and transaction counts; index 0 is unused
+    private long[] net = new long[1];
+    private int[] counts = new int[1];
+    private long totalCents;
+    private int totalCount;
+
+    /**
+     * Records transactions on a day, or removes them with negative amounts.
+     *
+     * @param date         the transaction date
+     * @param cents        income minus expenses to add, in cents
+     * @param transactions number of transactions to add, negative on removal
+     */
+    public synchronized void add(LocalDate date, long cents, int transactions) {
+        long day = date.toEpochDay();
+        cover(day);
+        for (int i = index(day); i < net.length; i += i & -i) {
+            net[i] = Math.addExact(net[i], cents);
+            counts[i] += transactions;
+        }
+        totalCents = Math.addExact(totalCents, cents);
+        totalCount += transactions;
+    }
+
+    /**
+     * Returns income minus expenses of the transactions dated on or after a
+     * day.
+     *
+     * @param from the first day, inclusive
+     * @return the net amount with two decimals, or an unscaled zero if there
+     *         are no such transactions
+     */
+    public synchronized BigDecimal netSince(LocalDate from) {
+        long day = from.toEpochDay();
+        int capacity = net.length - 1;
+        if (capacity == 0 || day >= firstDay + capacity) {
+            return BigDecimal.ZERO;
+        }
+        int daysBefore = day <= firstDay ? 0 : index(day) - 1;
+        long cents = totalCents;
+        int count = totalCount;
+        for (int i = daysBefore; i > 0; i -= i & -i) {
+            cents -= net[i];
+            count -= counts[i];
+        }
+        return count == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(cents, Money.SCALE);
+    }
+
+    /**
+     * Returns the number of transactions recorded.
+     */
+    public synchronized int transactionCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of days the ledger currently covers.
+     */
+    public synchronized int capacity() {
+        return net.length - 1;
+    }
+
+    private int index(long day) {
+        return (int) (day - firstDay) + 1;
+    }
+
+    private void cover(long day) {
+        int capacity = net.length - 1;
+        if (capacity == 0) {
+            resize(day, INITIAL_CAPACITY);
+            return;
+        }
+        long lastDay = firstDay + capacity - 1;
+        if (day >= firstDay && day <= lastDay) {
+            return;
+        }
+        long newFirstDay = Math.min(firstDay, day);
+        long newLastDay = Math.max(lastDay, day);
+        int newCapacity = Math.toIntExact(Math.max(newLastDay - newFirstDay + 1, 2L * capacity));
+        // The spare days go on the side that grew, where the next such day is likely to fall
+        if (day < firstDay) {
+            newFirstDay = newLastDay - newCapacity + 1;
+        }
+        resize(newFirstDay, newCapacity);
+    }
+
+    // Unfolds both trees into per-day values, moves them into the new range and folds them again, in O(d)
+    private void resize(long newFirstDay, int newCapacity) {
+        int capacity = net.length - 1;
+        for (int i = capacity; i > 0; i--) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                net[parent] -= net[i];
+                counts[parent] -= counts[i];
+            }
+        }
+
+        long[] newNet = new long[newCapacity + 1];
+        int[] newCounts = new int[newCapacity + 1];
+        if (capacity > 0) {
+            int offset = (int) (firstDay - newFirstDay);
+            System.arraycopy(net, 1, newNet, 1 + offset, capacity);
+            System.arraycopy(counts, 1, newCounts, 1 + offset, capacity);
+        }
+        for (int i = 1; i <= newCapacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= newCapacity) {
+                newNet[parent] += newNet[i];
+                newCounts[parent] += newCounts[i];
+            }
+        }
+
+        firstDay = newFirstDay;
+        net = newNet;
+        counts = newCounts;
+    }
+}
@@ -0,0 +1,285 @@
+package com.syfe.finance.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Monte Carlo simulation of future savings. Every path starts from the
+ * current net savings and adds one month drawn at random, with replacement,
+ * from the historical monthly net amounts per month until the target date; a
+ * final partial month adds its share of a drawn month. Paths are simulated in
+ * fixed-size chunks on an executor, each chunk with its own
+ * {@link SplittableRandom} split from the seed in chunk order, so a seed gives
+ * the same result however many threads run it. All amounts are cents in
+ * primitive arrays.
+ */
+public class SavingsSimulation {
+
+    /** Percentiles reported at every checkpoint. */
+    public static final int[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    // Paths per task; fixed so that results do not depend on the thread count
+    static final int CHUNK_PATHS = 8192;
+
+    // Percentiles are found among at most 2^12 buckets per checkpoint
+    private static final int SELECT_BUCKET_BITS = 12;
+
+    private final long[] monthlyNetCents;
+    private final long startCents;
+    private final long targetCents;
+    private final int fullMonths;
+    private final int partialDays;
+    private final int partialMonthLength;
+    private final int[] checkpointSteps;
+
+    /**
+     * @param monthlyNetCents    historical net amounts per month to draw from;
+     *                           without any, every month adds nothing
+     * @param startCents         the net savings paths start from
+     * @param targetCents        the amount a path must reach
+     * @param fullMonths         whole months until the target date
+     * @param partialDays        days of a final, partial month, 0 if none
+     * @param partialMonthLength length of that month in days
+     * @param maxCheckpoints     most points to report percentiles at, spread
+     *                           evenly up to the target date, which is always
+     *                           one of them
+     */
+    public SavingsSimulation(long[] monthlyNetCents, long startCents, long targetCents, int fullMonths,
+            int partialDays, int partialMonthLength, int maxCheckpoints) {
+        if (fullMonths < 0 || partialDays < 0 || partialDays >= partialMonthLength) {
+            throw new IllegalArgumentException("Invalid horizon: " + fullMonths + " months and " + partialDays
+                    + " of " + partialMonthLength + " days");
+        }
+        if (fullMonths == 0 && partialDays == 0) {
+            throw new IllegalArgumentException("Nothing to simulate before the target date");
+        }
+        this.monthlyNetCents = monthlyNetCents.length > 0 ? monthlyNetCents.clone() : new long[]{0};
+        this.startCents = startCents;
+        this.targetCents = targetCents;
+        this.fullMonths = fullMonths;
+        this.partialDays = partialDays;
+        this.partialMonthLength = partialMonthLength;
+        this.checkpointSteps = checkpointSteps(steps(), maxCheckpoints);
+    }
+
+    /**
+     * Simulates paths and summarizes them.
+     *
+     * @param paths    number of paths
+     * @param seed     seed of the random streams
+     * @param executor runs the chunks; the calling thread waits for them
+     * @return the share of paths reaching the target and the percentiles
+     * @throws java.util.concurrent.RejectedExecutionException if the executor
+     *                                                         rejects a chunk
+     */
+    public Result run(int paths, long seed, Executor executor) {
+        if (paths < 1) {
+            throw new IllegalArgumentException("Paths must be positive: " + paths);
+        }
+        long[][] balances = new long[checkpointSteps.length][paths];
+        int chunks = (paths + CHUNK_PATHS - 1) / CHUNK_PATHS;
+        int[] reached = new int[chunks];
+
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Runnable> simulations = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int index = chunk;
+            SplittableRandom random = root.split();
+            int from = chunk * CHUNK_PATHS;
+            int to = Math.min(paths, from + CHUNK_PATHS);
+            simulations.add(() -> reached[index] = simulate(random, from, to, balances));
+        }
+        runAll(simulations, executor);
+
+        int[] ranks = new int[PERCENTILES.length];
+        for (int p = 0; p < PERCENTILES.length; p++) {
+            ranks[p] = rank(paths, PERCENTILES[p]);
+        }
+        long[][] percentileCents = new long[balances.length][];
+        List<Runnable> selections = new ArrayList<>(balances.length);
+        for (int checkpoint = 0; checkpoint < balances.length; checkpoint++) {
+            int index = checkpoint;
+            selections.add(() -> percentileCents[index] = select(balances[index], ranks));
+        }
+        runAll(selections, executor);
+        long reachedPaths = Arrays.stream(reached).asLongStream().sum();
+        return new Result((double) reachedPaths / paths, checkpointSteps.clone(), percentileCents);
+    }
+
+    /**
+     * Simulates paths {@code from} to {@code to}, storing their balance at each
+     * checkpoint.
+     *
+     * @return how many of them reached the target
+     */
+    private int simulate(SplittableRandom random, int from, int to, long[][] balances) {
+        long[] samples = monthlyNetCents;
+        int steps = steps();
+        int reached = 0;
+        for (int path = from; path < to; path++) {
+            long balance = startCents;
+            boolean reachedTarget = balance >= targetCents;
+            int checkpoint = 0;
+            for (int step = 1; step <= steps; step++) {
+                long month = samples[random.nextInt(samples.length)];
+                balance += step <= fullMonths ? month : month * partialDays / partialMonthLength;
+                reachedTarget |= balance >= targetCents;
+                if (step == checkpointSteps[checkpoint]) {
+                    balances[checkpoint++][path] = balance;
+                }
+            }
+            if (reachedTarget) {
+                reached++;
+            }
+        }
+        return reached;
+    }
+
+    private int steps() {
+        return partialDays > 0 ? fullMonths + 1 : fullMonths;
+    }
+
+    /**
+     * Spreads up to {@code maxCheckpoints} checkpoints evenly over the steps,
+     * the last one always at the final step.
+     */
+    static int[] checkpointSteps(int steps, int maxCheckpoints) {
+        int count = Math.max(1, Math.min(steps, maxCheckpoints));
+        int[] checkpoints = new int[count];
+        for (int i = 1; i <= count; i++) {
+            checkpoints[i - 1] = (int) (((long) i * steps + count - 1) / count);
+        }
+        return checkpoints;
+    }
+
+    /**
+     * Index of a nearest-rank percentile among {@code count} sorted values.
+     */
+    static int rank(int count, int percentile) {
+        return Math.max(0, (int) (((long) percentile * count + 99) / 100) - 1);
+    }
+
+    /**
+     * Returns the values that would sit at the given ascending indexes if the
+     * values were sorted, without sorting them: the values are counted into
+     * buckets of equal width over their range, and only the few buckets
+     * holding the wanted indexes are gathered and sorted.
+     */
+    static long[] select(long[] values, int[] indexes) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        long[] selected = new long[indexes.length];
+        if (min == max) {
+            Arrays.fill(selected, min);
+            return selected;
+        }
+        // Power-of-two bucket width, so a value's bucket is a shift away
+        long range = Math.subtractExact(max, min);
+        int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(range) - SELECT_BUCKET_BITS);
+        int[] counts = new int[(int) (range >>> shift) + 1];
+        for (long value : values) {
+            counts[(int) ((value - min) >>> shift)]++;
+        }
+
+        // Bucket of each wanted index and the index's position inside it
+        int[] buckets = new int[indexes.length];
+        int[] offsets = new int[indexes.length];
+        int bucket = 0;
+        int before = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            while (before + counts[bucket] <= indexes[i]) {
+                before += counts[bucket++];
+            }
+            buckets[i] = bucket;
+            offsets[i] = indexes[i] - before;
+        }
+
+        long[][] gathered = new long[counts.length][];
+        for (int b : buckets) {
+            if (gathered[b] == null) {
+                gathered[b] = new long[counts[b]];
+                counts[b] = 0;
+            }
+        }
+        for (long value : values) {
+            int b = (int) ((value - min) >>> shift);
+            long[] target = gathered[b];
+            if (target != null) {
+                target[counts[b]++] = value;
+            }
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            long[] target = gathered[buckets[i]];
+            if (i == 0 || buckets[i] != buckets[i - 1]) {
+                Arrays.sort(target);
+            }
+            selected[i] = target[offsets[i]];
+        }
+        return selected;
+    }
+
+    private static void runAll(List<Runnable> tasks, Executor executor) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(tasks.get(i), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Outcome of a simulation.
+     */
+    public static class Result {
+
+        private final double probability;
+        private final int[] checkpointSteps;
+        private final long[][] percentileCents;
+
+        Result(double probability, int[] checkpointSteps, long[][] percentileCents) {
+            this.probability = probability;
+            this.checkpointSteps = checkpointSteps;
+            this.percentileCents = percentileCents;
+        }
+
+        /**
+         * Returns the share of paths that reached the target at some step.
+         */
+        public double getProbability() {
+            return probability;
+        }
+
+        /**
+         * Returns the steps percentiles were taken after, ascending; step
+         * {@code n} is the end of the n-th simulated month.
+         */
+        public int[] getCheckpointSteps() {
+            return checkpointSteps.clone();
+        }
+
+        /**
+         * Returns the balance of each of {@link #PERCENTILES} at a checkpoint.
+         *
+         * @param checkpoint index into {@link #getCheckpointSteps()}
+         * @return cents per percentile, ascending
+         */
+        public long[] getPercentileCents(int checkpoint) {
+            return percentileCents[checkpoint].clone();
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.syfe.finance.util;
+
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.MonthlyCategoryTotal;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionSnapshot;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One user's transactions held column by column in primitive arrays, sorted by
+ * date and then id: epoch day, amount in cents, category code and type, plus
+ * the id needed to apply updates and deletions. A period is located with two
+ * binary searches and aggregated in a single scan without allocating per row.
+ * Categories are stored as dense codes into a small dictionary of names, so
+ * per-category totals are accumulated in plain arrays.
+ * Thread-safe: aggregations share a read lock, updates take the write lock.
+ */
+public class TransactionColumns {
+
+    /**
+     * Bytes one row takes across all columns.
+     */
+    public static final int BYTES_PER_ROW = Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES;
+
+    private static final byte INCOME = (byte) TransactionType.INCOME.ordinal();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private long[] cents = new long[INITIAL_CAPACITY];
+    private int[] categories = new int[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    private final List<String> categoryNames = new ArrayList<>();
+    private final Map<Long, Integer> categoryCodes = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Appends a transaction while the columns are built. Rows must arrive
+     * ordered by date and then id.
+     *
+     * @param id         the transaction ID
+     * @param date       the transaction date
+     * @param amount     the amount, with at most two decimals
+     * @param categoryId the category ID
+     * @param category   the category name
+     * @param type       the transaction type
+     * @throws IllegalArgumentException if the row is out of order
+     */
+    public void append(long id, LocalDate date, BigDecimal amount, Long categoryId, String category,
+            TransactionType type) {
+        int epochDay = Math.toIntExact(date.toEpochDay());
+        lock.writeLock().lock();
+        try {
+            if (size > 0 && compare(epochDays[size - 1], ids[size - 1], epochDay, id) >= 0) {
+                throw new IllegalArgumentException("Transaction " + id + " is out of date order");
+            }
+            ensureCapacity(size + 1);
+            set(size++, id, epochDay, Money.toCents(amount),
+                    categoryCodes.computeIfAbsent(categoryId, key -> register(category)), type);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the spare capacity left over from building.
+     */
+    public void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            resize(size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes and adds transactions in one pass over the columns. Added rows
+     * replace any row with the same id, and unknown removed ids are ignored.
+     * Every added row is converted before any row is removed, so a row that
+     * cannot be held leaves the columns unchanged.
+     *
+     * @param removedIds IDs of deleted transactions and previous versions of
+     *                   updated ones
+     * @param added      created transactions and new versions of updated ones
+     * @return false, leaving the columns unchanged, if an added row belongs to
+     *         a category the columns have no name for
+     * @throws ArithmeticException if an added amount has more than two
+     *                             decimals; the columns are left unchanged
+     */
+    public boolean update(Collection<Long> removedIds, List<TransactionSnapshot> added) {
+        List<TransactionSnapshot> sortedAdded = new ArrayList<>(added);
+        sortedAdded.sort(Comparator.comparing(TransactionSnapshot::getDate).thenComparing(TransactionSnapshot::getId));
+        long[] removed = new long[removedIds.size() + sortedAdded.size()];
+        int removedCount = 0;
+        for (Long id : removedIds) {
+            removed[removedCount++] = id;
+        }
+        long[] addedIds = new long[sortedAdded.size()];
+        int[] addedEpochDays = new int[sortedAdded.size()];
+        long[] addedCents = new long[sortedAdded.size()];
+        byte[] addedTypes = new byte[sortedAdded.size()];
+        for (int i = 0; i < sortedAdded.size(); i++) {
+            TransactionSnapshot snapshot = sortedAdded.get(i);
+            addedIds[i] = snapshot.getId();
+            addedEpochDays[i] = Math.toIntExact(snapshot.getDate().toEpochDay());
+            addedCents[i] = Money.toCents(snapshot.getAmount());
+            addedTypes[i] = (byte) snapshot.getType().ordinal();
+            removed[removedCount++] = snapshot.getId();
+        }
+        Arrays.sort(removed);
+
+        lock.writeLock().lock();
+        try {
+            int[] addedCategories = new int[sortedAdded.size()];
+            for (int i = 0; i < sortedAdded.size(); i++) {
+                Integer code = categoryCodes.get(sortedAdded.get(i).getCategoryId());
+                if (code == null) {
+                    return false;
+                }
+                addedCategories[i] = code;
+            }
+            compact(removed);
+            merge(addedIds, addedEpochDays, addedCents, addedCategories, addedTypes);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sums the transactions dated in {@code [from, to)} per category and type.
+     *
+     * @param from the first day, inclusive
+     * @param to   the day after the last, exclusive
+     * @return one total per category and type that has transactions
+     */
+    public List<CategoryTotal> categoryTotals(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            long[] totals = new long[categoryNames.size() * 2];
+            boolean[] present = new boolean[totals.length];
+            sum(lowerBound(from), lowerBound(to), totals, present);
+
+            List<CategoryTotal> result = new ArrayList<>();
+            for (int slot = 0; slot < totals.length; slot++) {
+                if (present[slot]) {
+                    result.add(new CategoryTotal(categoryNames.get(slot >> 1), typeOf(slot),
+                            BigDecimal.valueOf(totals[slot], Money.SCALE)));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums the transactions of a year per month, category and type.
+     *
+     * @param year the year
+     * @return one total per month, category and type that has transactions
+     */
+    public List<MonthlyCategoryTotal> monthlyCategoryTotals(int year) {
+        lock.readLock().lock();
+        try {
+            List<MonthlyCategoryTotal> result = new ArrayList<>();
+            long[] totals = new long[categoryNames.size() * 2];
+            boolean[] present = new boolean[totals.length];
+            LocalDate monthStart = LocalDate.of(year, 1, 1);
+            int start = lowerBound(monthStart);
+            for (int month = 1; month <= 12; month++) {
+                monthStart = monthStart.plusMonths(1);
+                int end = lowerBound(monthStart);
+                Arrays.fill(totals, 0);
+                Arrays.fill(present, false);
+                sum(start, end, totals, present);
+                for (int slot = 0; slot < totals.length; slot++) {
+                    if (present[slot]) {
+                        result.add(new MonthlyCategoryTotal(month, categoryNames.get(slot >> 1), typeOf(slot),
+                                BigDecimal.valueOf(totals[slot], Money.SCALE)));
+                    }
+                }
+                start = end;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns income minus expenses of the transactions dated on or after a
+     * day.
+     *
+     * @param from the first day, inclusive
+     * @return the net amount with two decimals, or an unscaled zero if there
+     *         are no such transactions
+     */
+    public BigDecimal netSince(LocalDate from) {
+        lock.readLock().lock();
+        try {
+            int start = lowerBound(from);
+            if (start == size) {
+                return BigDecimal.ZERO;
+            }
+            long net = 0;
+            for (int i = start; i < size; i++) {
+                net = types[i] == INCOME ? Math.addExact(net, cents[i]) : Math.subtractExact(net, cents[i]);
+            }
+            return BigDecimal.valueOf(net, Money.SCALE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of transactions held.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the bytes held by the column arrays, including spare capacity.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) ids.length * BYTES_PER_ROW;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Income and expenses of category code c are accumulated in slots 2c and 2c + 1
+    private void sum(int start, int end, long[] totals, boolean[] present) {
+        for (int i = start; i < end; i++) {
+            int slot = categories[i] << 1 | (types[i] == INCOME ? 0 : 1);
+            totals[slot] = Math.addExact(totals[slot], cents[i]);
+            present[slot] = true;
+        }
+    }
+
+    private static TransactionType typeOf(int slot) {
+        return (slot & 1) == 0 ? TransactionType.INCOME : TransactionType.EXPENSE;
+    }
+
+    /**
+     * Returns the first row dated on or after the day.
+     */
+    private int lowerBound(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void compact(long[] removed) {
+        if (removed.length == 0) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (Arrays.binarySearch(removed, ids[i]) < 0) {
+                if (kept != i) {
+                    set(kept, ids[i], epochDays[i], cents[i], categories[i], types[i]);
+                }
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    // Merges rows sorted by date and id from the back, so every existing row moves at most once
+    private void merge(long[] addedIds, int[] addedEpochDays, long[] addedCents, int[] addedCategories,
+            byte[] addedTypes) {
+        int added = addedIds.length;
+        if (added == 0) {
+            return;
+        }
+        ensureCapacity(size + added);
+        int existing = size - 1;
+        int next = added - 1;
+        for (int target = size + added - 1; next >= 0; target--) {
+            if (existing >= 0
+                    && compare(epochDays[existing], ids[existing], addedEpochDays[next], addedIds[next]) > 0) {
+                set(target, ids[existing], epochDays[existing], cents[existing], categories[existing],
+                        types[existing]);
+                existing--;
+            } else {
+                set(target, addedIds[next], addedEpochDays[next], addedCents[next], addedCategories[next],
+                        addedTypes[next]);
+                next--;
+            }
+        }
+        size += added;
+    }
+
+    private void set(int index, long id, int epochDay, long amountCents, int category, TransactionType type) {
+        set(index, id, epochDay, amountCents, category, (byte) type.ordinal());
+    }
+
+    private void set(int index, long id, int epochDay, long amountCents, int category, byte type) {
+        ids[index] = id;
+        epochDays[index] = epochDay;
+        cents[index] = amountCents;
+        categories[index] = category;
+        types[index] = type;
+    }
+
+    private static int compare(int epochDay, long id, int otherEpochDay, long otherId) {
+        int byDate = Integer.compare(epochDay, otherEpochDay);
+        return byDate != 0 ? byDate : Long.compare(id, otherId);
+    }
+
+    private int register(String category) {
+        categoryNames.add(category);
+        return categoryNames.size() - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            resize(Math.max(capacity, ids.length + (ids.length >> 1)));
+        }
+    }
+
+    private void resize(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        cents = Arrays.copyOf(cents, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        types = Arrays.copyOf(types, capacity);
+    }
+}
@@ -0,0 +1,62 @@
+package com.syfe.finance.util;
+
+import com.syfe.finance.exception.ValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction listings ordered by (date DESC, id DESC).
+ * Points at the last row of the previous page; the next page starts strictly
+ * after it.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class TransactionCursor {
+
+    /**
+     * Sentinel that sorts after every real transaction, used for the first page
+     * so the same seek query serves every page.
+     */
+    public static final TransactionCursor FIRST = new TransactionCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+
+    private final LocalDate date;
+    private final Long id;
+
+    /**
+     * Encodes the cursor as a URL-safe token.
+     */
+    public String encode() {
+        String raw = date + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A null or blank token means
+     * the first page.
+     *
+     * @param token the client supplied cursor
+     * @return the decoded cursor
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new ValidationException("Invalid cursor");
+            }
+            return new TransactionCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+}
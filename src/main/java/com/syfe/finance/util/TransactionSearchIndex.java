@@ -0,0 +1,189 @@
+package com.syfe.finance.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over transaction descriptions.
+ * Descriptions are split into lower-case word tokens; every query token must
+ * match the prefix of some token of a transaction for it to be a hit. Terms
+ * are kept sorted so a prefix is a range lookup rather than a scan.
+ * Thread-safe: searches share a read lock, updates take the write lock.
+ */
+public class TransactionSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Newest first, matching transaction listings
+    private static final Comparator<Document> NEWEST_FIRST = Comparator
+            .comparing((Document document) -> document.date)
+            .thenComparing(document -> document.id)
+            .reversed();
+
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a transaction, replacing any previous entry with the same id.
+     *
+     * @param id          the transaction ID
+     * @param date        the transaction date, used to order results
+     * @param description the text to index; may be null
+     */
+    public void put(Long id, LocalDate date, String description) {
+        List<String> tokens = tokenize(description);
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            documents.put(id, new Document(id, date, tokens));
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a transaction; unknown ids are ignored.
+     *
+     * @param id the transaction ID
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds transactions whose description contains a word starting with each
+     * token of the query.
+     *
+     * @param query the search text
+     * @param limit the maximum number of ids to return
+     * @return matching transaction ids, newest first
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> matches = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Set<Long> match = prefixMatch(token);
+                if (match.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                matches.add(match);
+            }
+            // Probe the smallest posting set against the others
+            matches.sort(Comparator.comparingInt(Set::size));
+
+            PriorityQueue<Document> top = new PriorityQueue<>(limit + 1, NEWEST_FIRST.reversed());
+            candidates:
+            for (Long id : matches.get(0)) {
+                for (int i = 1; i < matches.size(); i++) {
+                    if (!matches.get(i).contains(id)) {
+                        continue candidates;
+                    }
+                }
+                top.add(documents.get(id));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Document> hits = new ArrayList<>(top);
+            hits.sort(NEWEST_FIRST);
+            List<Long> ids = new ArrayList<>(hits.size());
+            hits.forEach(document -> ids.add(document.id));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed transactions.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private Set<Long> prefixMatch(String prefix) {
+        NavigableMap<String, Set<Long>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.size() == 1) {
+            return range.firstEntry().getValue();
+        }
+        Set<Long> ids = new HashSet<>();
+        range.values().forEach(ids::addAll);
+        return ids;
+    }
+
+    private void removeDocument(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens) {
+            Set<Long> ids = postings.get(token);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static final class Document {
+
+        private final Long id;
+        private final LocalDate date;
+        private final List<String> tokens;
+
+        private Document(Long id, LocalDate date, List<String> tokens) {
+            this.id = id;
+            this.date = date;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.syfe.finance.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user write counters guarding state derived from a user's transactions,
+ * such as cached reports, columns or ledgers, against concurrent writes.
+ * A loader takes a {@link #snapshot} before reading the database, and every
+ * committed write {@link #bump}s the counter before it updates or drops the
+ * derived state. A loader that finds the counter no longer
+ * {@link #unchanged} may have read the data from before such a write while
+ * the write found nothing to update, so it must use what it loaded for the
+ * current request only and not keep it.
+ * Thread-safe.
+ */
+public class UserGenerations {
+
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the user's current generation, to be passed to
+     * {@link #unchanged} once loading is done.
+     *
+     * @param userId the user ID
+     * @return the current generation
+     */
+    public long snapshot(Long userId) {
+        return generation(userId).get();
+    }
+
+    /**
+     * Records a committed write of the user's transactions.
+     *
+     * @param userId the user ID
+     */
+    public void bump(Long userId) {
+        generation(userId).incrementAndGet();
+    }
+
+    /**
+     * Tells whether no write was recorded since a snapshot.
+     *
+     * @param userId   the user ID
+     * @param snapshot a value returned by {@link #snapshot} for the same user
+     * @return true if the user's generation still equals the snapshot
+     */
+    public boolean unchanged(Long userId, long snapshot) {
+        return generation(userId).get() == snapshot;
+    }
+
+    private AtomicLong generation(Long userId) {
+        return generations.computeIfAbsent(userId, id -> new AtomicLong());
+    }
+}
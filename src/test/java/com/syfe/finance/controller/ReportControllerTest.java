@@ -1,11 +1,19 @@
 package com.syfe.finance.controller;
 
+import com.syfe.finance.config.SecurityConfig;
+import com.syfe.finance.dto.CacheStatsResponse;
 import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.RangeReportResponse;
+import com.syfe.finance.dto.TrendReportResponse;
+import com.syfe.finance.dto.YearTrend;
 import com.syfe.finance.dto.YearlyReportResponse;
 import com.syfe.finance.entity.User;
+import com.syfe.finance.exception.ValidationException;
 import com.syfe.finance.service.AuthService;
 import com.syfe.finance.service.CustomUserDetailsService;
+import com.syfe.finance.service.ReportCache;
 import com.syfe.finance.service.ReportService;
+import com.syfe.finance.service.TrendReportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,11 +21,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.Mockito.*;
@@ -26,6 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(ReportController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(SecurityConfig.class)
 class ReportControllerTest {
 
     @Autowired
@@ -34,6 +47,12 @@ class ReportControllerTest {
     @MockBean
     private ReportService reportService;
 
+    @MockBean
+    private ReportCache reportCache;
+
+    @MockBean
+    private TrendReportService trendReportService;
+
     @MockBean
     private AuthService authService;
 
@@ -100,11 +119,157 @@ class ReportControllerTest {
                 .build();
 
         when(authService.getCurrentUser()).thenReturn(user);
-        when(reportService.getYearlyReport(1L, 2026)).thenReturn(response);
+        when(reportService.getYearlyReport(1L, 2026, false)).thenReturn(response);
 
         mockMvc.perform(get("/api/reports/yearly/2026"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.year").value(2026))
-                .andExpect(jsonPath("$.netSavings").value(36000.00));
+                .andExpect(jsonPath("$.netSavings").value(36000.00))
+                .andExpect(jsonPath("$.months").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/yearly/{year}?breakdown=true - Returns yearly report with months")
+    void getYearlyReport_WithBreakdown() throws Exception {
+        MonthlyReportResponse january = MonthlyReportResponse.builder()
+                .month(1)
+                .year(2026)
+                .totalIncome(Map.of("Salary", new BigDecimal("5000.00")))
+                .totalExpenses(Map.of())
+                .netSavings(new BigDecimal("5000.00"))
+                .build();
+        YearlyReportResponse response = YearlyReportResponse.builder()
+                .year(2026)
+                .totalIncome(Map.of("Salary", new BigDecimal("5000.00")))
+                .totalExpenses(Map.of())
+                .netSavings(new BigDecimal("5000.00"))
+                .months(List.of(january))
+                .build();
+
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportService.getYearlyReport(1L, 2026, true)).thenReturn(response);
+
+        mockMvc.perform(get("/api/reports/yearly/2026").param("breakdown", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.months[0].month").value(1))
+                .andExpect(jsonPath("$.months[0].totalIncome.Salary").value(5000.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/range - Returns report for a date range")
+    void getRangeReport_Success() throws Exception {
+        RangeReportResponse response = RangeReportResponse.builder()
+                .from(LocalDate.of(2026, 1, 15))
+                .to(LocalDate.of(2026, 2, 14))
+                .totalIncome(Map.of("Salary", new BigDecimal("5000.00")))
+                .totalExpenses(Map.of())
+                .netSavings(new BigDecimal("5000.00"))
+                .build();
+
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportService.getRangeReport(1L, LocalDate.of(2026, 1, 15), LocalDate.of(2026, 2, 14)))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/reports/range")
+                        .param("from", "2026-01-15")
+                        .param("to", "2026-02-14"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2026-01-15"))
+                .andExpect(jsonPath("$.to").value("2026-02-14"))
+                .andExpect(jsonPath("$.totalIncome.Salary").value(5000.00))
+                .andExpect(jsonPath("$.netSavings").value(5000.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/yearly/{year} - Out-of-range year returns 400")
+    void getYearlyReport_InvalidYear() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportService.getYearlyReport(1L, 1_000_000_000, false))
+                .thenThrow(new ValidationException("Year must be between 1900 and 9999: 1000000000"));
+
+        mockMvc.perform(get("/api/reports/yearly/1000000000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Year must be between 1900 and 9999: 1000000000"));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/range - Missing bound returns 400")
+    void getRangeReport_MissingBound() throws Exception {
+        mockMvc.perform(get("/api/reports/range").param("from", "2026-01-15"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reportService);
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/rolling/{days} - Returns report for the last days")
+    void getRollingReport_Success() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportService.getRollingReport(1L, 30)).thenReturn(RangeReportResponse.builder()
+                .netSavings(new BigDecimal("-42.00"))
+                .build());
+
+        mockMvc.perform(get("/api/reports/rolling/30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.netSavings").value(-42.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/trend - Returns yearly totals for a range of years")
+    void getTrendReport_Success() throws Exception {
+        TrendReportResponse response = TrendReportResponse.builder()
+                .fromYear(2025)
+                .toYear(2026)
+                .years(List.of(
+                        YearTrend.builder().year(2025).totalIncome(new BigDecimal("60000.00"))
+                                .totalExpenses(new BigDecimal("24000.00")).netSavings(new BigDecimal("36000.00"))
+                                .build(),
+                        YearTrend.builder().year(2026).totalIncome(BigDecimal.ZERO)
+                                .totalExpenses(new BigDecimal("500.00")).netSavings(new BigDecimal("-500.00"))
+                                .build()))
+                .build();
+
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(trendReportService.getTrendReport(1L, 2025, 2026)).thenReturn(response);
+
+        mockMvc.perform(get("/api/reports/trend")
+                        .param("fromYear", "2025")
+                        .param("toYear", "2026"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.years.length()").value(2))
+                .andExpect(jsonPath("$.years[0].year").value(2025))
+                .andExpect(jsonPath("$.years[0].netSavings").value(36000.00))
+                .andExpect(jsonPath("$.years[1].totalExpenses").value(500.00));
+    }
+
+    @Test
+    @WithMockUser(roles = {"USER", "ADMIN"})
+    @DisplayName("GET /api/reports/cache/stats - Returns report cache counters")
+    void getCacheStats_Success() throws Exception {
+        when(reportCache.stats()).thenReturn(CacheStatsResponse.builder()
+                .hits(7)
+                .misses(3)
+                .evictions(1)
+                .invalidations(2)
+                .size(2)
+                .build());
+
+        mockMvc.perform(get("/api/reports/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(7))
+                .andExpect(jsonPath("$.misses").value(3))
+                .andExpect(jsonPath("$.evictions").value(1))
+                .andExpect(jsonPath("$.invalidations").value(2))
+                .andExpect(jsonPath("$.size").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("GET /api/reports/cache/stats - Non-admin gets 403")
+    void getCacheStats_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/reports/cache/stats"))
+                .andExpect(status().isForbidden());
+
+        verify(reportCache, never()).stats();
     }
 }
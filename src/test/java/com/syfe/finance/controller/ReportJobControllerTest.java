@@ -0,0 +1,154 @@
+package com.syfe.finance.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.ReportJobRequest;
+import com.syfe.finance.dto.ReportJobResponse;
+import com.syfe.finance.dto.ReportJobStatus;
+import com.syfe.finance.dto.ReportJobType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.exception.ResourceNotFoundException;
+import com.syfe.finance.exception.ServiceBusyException;
+import com.syfe.finance.service.AuthService;
+import com.syfe.finance.service.CustomUserDetailsService;
+import com.syfe.finance.service.ReportJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReportJobController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ReportJobControllerTest {
+
+    private static final String JOB_ID = "0d7c6a3e-0f55-4b1e-9a57-2f6f4c1c9b11";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ReportJobService reportJobService;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private CustomUserDetailsService userDetailsService;
+
+    @MockBean
+    private AuthenticationManager authenticationManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .id(1L)
+                .username("test@example.com")
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /api/reports/jobs - Accepts job and points to it")
+    void submitJob_Accepted() throws Exception {
+        ReportJobRequest request = ReportJobRequest.builder()
+                .type(ReportJobType.TREND)
+                .fromYear(2010)
+                .toYear(2026)
+                .build();
+        ReportJobResponse response = ReportJobResponse.builder()
+                .id(JOB_ID)
+                .type(ReportJobType.TREND)
+                .status(ReportJobStatus.QUEUED)
+                .submittedAt(Instant.parse("2026-01-15T10:00:00Z"))
+                .build();
+
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportJobService.submit(eq(1L), any(ReportJobRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/api/reports/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/reports/jobs/" + JOB_ID))
+                .andExpect(jsonPath("$.id").value(JOB_ID))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.result").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/reports/jobs - Missing type returns 400")
+    void submitJob_MissingType() throws Exception {
+        mockMvc.perform(post("/api/reports/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"year\": 2026}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Report type is required"));
+    }
+
+    @Test
+    @DisplayName("POST /api/reports/jobs - Full queue returns 503 with Retry-After")
+    void submitJob_QueueFull() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportJobService.submit(eq(1L), any(ReportJobRequest.class)))
+                .thenThrow(new ServiceBusyException("Too many report jobs are queued, please try again later"));
+
+        mockMvc.perform(post("/api/reports/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"type\": \"YEARLY\", \"year\": 2026}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/jobs/{id} - Returns finished job with result")
+    void getJob_Succeeded() throws Exception {
+        ReportJobResponse response = ReportJobResponse.builder()
+                .id(JOB_ID)
+                .type(ReportJobType.MONTHLY)
+                .status(ReportJobStatus.SUCCEEDED)
+                .result(MonthlyReportResponse.builder()
+                        .month(1)
+                        .year(2026)
+                        .netSavings(new BigDecimal("3000.00"))
+                        .build())
+                .build();
+
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportJobService.getJob(1L, JOB_ID)).thenReturn(response);
+
+        mockMvc.perform(get("/api/reports/jobs/" + JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.result.month").value(1))
+                .andExpect(jsonPath("$.result.netSavings").value(3000.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/reports/jobs/{id} - Unknown or expired job returns 404")
+    void getJob_NotFound() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(reportJobService.getJob(1L, JOB_ID))
+                .thenThrow(new ResourceNotFoundException("Report job", "id", JOB_ID));
+
+        mockMvc.perform(get("/api/reports/jobs/" + JOB_ID))
+                .andExpect(status().isNotFound());
+    }
+}
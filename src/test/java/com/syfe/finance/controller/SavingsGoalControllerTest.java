@@ -3,8 +3,10 @@ package com.syfe.finance.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.syfe.finance.dto.*;
 import com.syfe.finance.entity.User;
+import com.syfe.finance.exception.ServiceBusyException;
 import com.syfe.finance.service.AuthService;
 import com.syfe.finance.service.CustomUserDetailsService;
+import com.syfe.finance.service.GoalProgressStream;
 import com.syfe.finance.service.SavingsGoalService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,11 +18,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -40,6 +45,9 @@ class SavingsGoalControllerTest {
     @MockBean
     private SavingsGoalService savingsGoalService;
 
+    @MockBean
+    private GoalProgressStream goalProgressStream;
+
     @MockBean
     private AuthService authService;
 
@@ -120,7 +128,111 @@ class SavingsGoalControllerTest {
         mockMvc.perform(get("/api/goals/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1))
-                .andExpect(jsonPath("$.currentProgress").value(3000.00));
+                .andExpect(jsonPath("$.currentProgress").value(3000.00))
+                .andExpect(jsonPath("$.forecast").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/goals/{id}/forecast - Returns projected completion and required savings")
+    void getGoalForecast_Success() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(savingsGoalService.getGoalForecast(1L, user)).thenReturn(GoalForecastResponse.builder()
+                .goalId(1L)
+                .monthlySavingsRate(new BigDecimal("1000.00"))
+                .trailingMonths(3)
+                .remainingAmount(new BigDecimal("7000.00"))
+                .projectedCompletionDate(LocalDate.of(2026, 8, 1))
+                .requiredMonthlySavings(new BigDecimal("1166.67"))
+                .onTrack(false)
+                .build());
+
+        mockMvc.perform(get("/api/goals/1/forecast"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.goalId").value(1))
+                .andExpect(jsonPath("$.projectedCompletionDate").value("2026-08-01"))
+                .andExpect(jsonPath("$.requiredMonthlySavings").value(1166.67))
+                .andExpect(jsonPath("$.onTrack").value(false));
+    }
+
+    @Test
+    @DisplayName("POST /api/goals/{id}/simulate - Returns probability and percentile bands")
+    void simulateGoal_Success() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(savingsGoalService.simulateGoal(eq(1L), any(GoalSimulationRequest.class), eq(user)))
+                .thenReturn(GoalSimulationResponse.builder()
+                        .goalId(1L)
+                        .paths(5000)
+                        .seed(42L)
+                        .probability(0.8123)
+                        .bands(Arrays.asList(GoalSimulationBand.builder()
+                                .date(LocalDate.of(2026, 8, 1))
+                                .p5(new BigDecimal("4000.00"))
+                                .p50(new BigDecimal("9000.00"))
+                                .p95(new BigDecimal("14000.00"))
+                                .build()))
+                        .build());
+
+        mockMvc.perform(post("/api/goals/1/simulate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"paths\": 5000, \"seed\": 42}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.probability").value(0.8123))
+                .andExpect(jsonPath("$.bands[0].date").value("2026-08-01"))
+                .andExpect(jsonPath("$.bands[0].p50").value(9000.00));
+    }
+
+    @Test
+    @DisplayName("POST /api/goals/{id}/simulate - Runs with defaults without a body")
+    void simulateGoal_NoBody() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(savingsGoalService.simulateGoal(eq(1L), any(GoalSimulationRequest.class), eq(user)))
+                .thenReturn(GoalSimulationResponse.builder().goalId(1L).build());
+
+        mockMvc.perform(post("/api/goals/1/simulate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.goalId").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /api/goals/{id}/simulate - Rejects a non-positive number of paths")
+    void simulateGoal_InvalidPaths() throws Exception {
+        mockMvc.perform(post("/api/goals/1/simulate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"paths\": 0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Paths must be positive"));
+        verify(savingsGoalService, never()).simulateGoal(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("GET /api/goals/stream - Streams goal progress events")
+    void streamGoals_Success() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        SseEmitter emitter = new SseEmitter();
+        when(goalProgressStream.subscribe(user)).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/api/goals/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event().name("progress").data("{\"goalId\":1}"));
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        assertTrue(result.getResponse().getContentType().startsWith(MediaType.TEXT_EVENT_STREAM_VALUE));
+        assertEquals("event:progress\ndata:{\"goalId\":1}\n\n", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("GET /api/goals/stream - Too many subscribers returns 503 with Retry-After")
+    void streamGoals_TooManySubscribers() throws Exception {
+        when(authService.getCurrentUser()).thenReturn(user);
+        when(goalProgressStream.subscribe(user))
+                .thenThrow(new ServiceBusyException("Too many goal progress subscribers, please try again later"));
+
+        mockMvc.perform(get("/api/goals/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
     }
 
     @Test
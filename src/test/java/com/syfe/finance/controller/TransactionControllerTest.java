@@ -2,9 +2,16 @@ package com.syfe.finance.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.syfe.finance.dto.*;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.entity.User;
 import com.syfe.finance.service.AuthService;
+import com.syfe.finance.service.DataVersionService;
 import com.syfe.finance.service.CustomUserDetailsService;
+import com.syfe.finance.service.TransactionBatchService;
+import com.syfe.finance.service.TransactionExportService;
+import com.syfe.finance.service.TransactionImportService;
+import com.syfe.finance.service.TransactionSearchService;
 import com.syfe.finance.service.TransactionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,15 +21,22 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -53,6 +67,21 @@ class TransactionControllerTest {
         @MockBean
         private com.syfe.finance.service.CategoryService categoryService;
 
+        @MockBean
+        private TransactionExportService transactionExportService;
+
+        @MockBean
+        private TransactionBatchService transactionBatchService;
+
+        @MockBean
+        private TransactionImportService transactionImportService;
+
+        @MockBean
+        private TransactionSearchService transactionSearchService;
+
+        @MockBean
+        private DataVersionService dataVersionService;
+
         private User user;
         private TransactionRequest transactionRequest;
         private TransactionResponse transactionResponse;
@@ -79,6 +108,8 @@ class TransactionControllerTest {
                                 .description("January salary")
                                 .type("INCOME")
                                 .build();
+
+                when(dataVersionService.etag(eq(1L), any())).thenReturn("\"v1\"");
         }
 
         @Test
@@ -97,6 +128,92 @@ class TransactionControllerTest {
                                 .andExpect(jsonPath("$.category").value("Salary"));
         }
 
+        @Test
+        @DisplayName("POST /api/transactions with more than 2 decimals - Returns 400")
+        void createTransaction_TooManyDecimals() throws Exception {
+                transactionRequest.setAmount(new BigDecimal("10.005"));
+
+                mockMvc.perform(post("/api/transactions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(transactionRequest)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message")
+                                                .value("Amount must have at most 15 digits and 2 decimal places"));
+                verifyNoInteractions(transactionService);
+        }
+
+        @Test
+        @DisplayName("POST /api/transactions/batch - Returns per-item results")
+        void createTransactions_Batch() throws Exception {
+                BatchTransactionRequest batchRequest = BatchTransactionRequest.builder()
+                                .transactions(Arrays.asList(transactionRequest, transactionRequest))
+                                .build();
+                BatchTransactionResponse batchResponse = BatchTransactionResponse.builder()
+                                .created(1)
+                                .failed(1)
+                                .results(Arrays.asList(
+                                                BatchItemResult.builder().index(0).status(BatchItemResult.CREATED).id(1L).build(),
+                                                BatchItemResult.builder().index(1).status(BatchItemResult.FAILED)
+                                                                .error("Category not found with name: Salary").build()))
+                                .build();
+
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionBatchService.createTransactions(anyList(), any(User.class))).thenReturn(batchResponse);
+
+                mockMvc.perform(post("/api/transactions/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(batchRequest)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.results[0].id").value(1))
+                                .andExpect(jsonPath("$.results[1].status").value("FAILED"));
+        }
+
+        @Test
+        @DisplayName("POST /api/transactions/batch - Empty batch returns 400")
+        void createTransactions_EmptyBatch() throws Exception {
+                mockMvc.perform(post("/api/transactions/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"transactions\":[]}"))
+                                .andExpect(status().isBadRequest());
+
+                verifyNoInteractions(transactionBatchService);
+        }
+
+        @Test
+        @DisplayName("POST /api/transactions/import - Returns import summary")
+        void importTransactions_Success() throws Exception {
+                MockMultipartFile file = new MockMultipartFile("file", "statement.csv", "text/csv",
+                                "date,amount,category\n2026-01-15,10.00,Food\n".getBytes(StandardCharsets.UTF_8));
+                ImportResultResponse importResponse = ImportResultResponse.builder()
+                                .rowsRead(1)
+                                .imported(1)
+                                .errors(Collections.emptyList())
+                                .build();
+
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionImportService.importCsv(any(InputStream.class), eq(user))).thenReturn(importResponse);
+
+                mockMvc.perform(multipart("/api/transactions/import").file(file))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.rowsRead").value(1))
+                                .andExpect(jsonPath("$.imported").value(1));
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions/import/progress - Returns the user's running imports")
+        void getImportProgress_Success() throws Exception {
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionImportService.getProgress(1L)).thenReturn(Arrays.asList(
+                                ImportProgressResponse.builder().rowsRead(20000).imported(19990).failed(10).build()));
+
+                mockMvc.perform(get("/api/transactions/import/progress"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].rowsRead").value(20000))
+                                .andExpect(jsonPath("$[0].imported").value(19990))
+                                .andExpect(jsonPath("$[0].failed").value(10));
+        }
+
         @Test
         @DisplayName("GET /api/transactions - Returns list")
         void getAllTransactions_Success() throws Exception {
@@ -114,6 +231,153 @@ class TransactionControllerTest {
                                 .andExpect(jsonPath("$.transactions[0].id").value(1));
         }
 
+        @Test
+        @DisplayName("GET /api/transactions - Returns the data version ETag")
+        void getAllTransactions_SetsETag() throws Exception {
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionService.getAllTransactions(eq(1L), any(), any(), any()))
+                                .thenReturn(TransactionListResponse.builder()
+                                                .transactions(Collections.emptyList())
+                                                .build());
+
+                mockMvc.perform(get("/api/transactions"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "\"v1\""));
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions with matching If-None-Match - Returns 304 without querying")
+        void getAllTransactions_NotModified() throws Exception {
+                when(authService.getCurrentUser()).thenReturn(user);
+
+                mockMvc.perform(get("/api/transactions").header("If-None-Match", "\"v1\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                verifyNoInteractions(transactionService, categoryService);
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions?cursor=&limit= - Passes paging parameters")
+        void getAllTransactions_WithCursor() throws Exception {
+                TransactionListResponse listResponse = TransactionListResponse.builder()
+                                .transactions(Arrays.asList(transactionResponse))
+                                .nextCursor("next")
+                                .build();
+
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionService.getAllTransactions(eq(1L), any(), eq("abc"), eq(10)))
+                                .thenReturn(listResponse);
+
+                mockMvc.perform(get("/api/transactions").param("cursor", "abc").param("limit", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.nextCursor").value("next"));
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions with filters - Builds a combined filter")
+        void getAllTransactions_WithFilters() throws Exception {
+                TransactionListResponse listResponse = TransactionListResponse.builder()
+                                .transactions(Arrays.asList(transactionResponse))
+                                .build();
+
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionService.getAllTransactions(eq(1L), any(), any(), any()))
+                                .thenReturn(listResponse);
+
+                mockMvc.perform(get("/api/transactions")
+                                .param("startDate", "2026-01-01")
+                                .param("categoryId", "1", "2")
+                                .param("type", "INCOME")
+                                .param("minAmount", "10.50")
+                                .param("description", "bonus"))
+                                .andExpect(status().isOk());
+
+                TransactionFilter expected = TransactionFilter.builder()
+                                .startDate(LocalDate.of(2026, 1, 1))
+                                .categoryIds(Arrays.asList(1L, 2L))
+                                .type(TransactionType.INCOME)
+                                .minAmount(new BigDecimal("10.50"))
+                                .description("bonus")
+                                .build();
+                verify(transactionService).getAllTransactions(1L, expected, null, null);
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions with category and categoryId - Category name takes precedence")
+        void getAllTransactions_CategoryNameTakesPrecedence() throws Exception {
+                Category salary = Category.builder().id(3L).name("Salary").build();
+
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(categoryService.findCategoryByNameForUser("Salary", 1L)).thenReturn(salary);
+                when(transactionService.getAllTransactions(eq(1L), any(), any(), any()))
+                                .thenReturn(TransactionListResponse.builder().transactions(Collections.emptyList()).build());
+
+                mockMvc.perform(get("/api/transactions")
+                                .param("categoryId", "1", "2")
+                                .param("category", "Salary"))
+                                .andExpect(status().isOk());
+
+                TransactionFilter expected = TransactionFilter.builder()
+                                .categoryIds(Arrays.asList(3L))
+                                .build();
+                verify(transactionService).getAllTransactions(1L, expected, null, null);
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions?type=invalid - Returns 400")
+        void getAllTransactions_InvalidType() throws Exception {
+                when(authService.getCurrentUser()).thenReturn(user);
+
+                mockMvc.perform(get("/api/transactions").param("type", "LOAN"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("Invalid value for parameter: type"));
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions/search - Returns matches")
+        void searchTransactions_Success() throws Exception {
+                TransactionListResponse listResponse = TransactionListResponse.builder()
+                                .transactions(Arrays.asList(transactionResponse))
+                                .build();
+
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionSearchService.search(1L, "salary", 20)).thenReturn(listResponse);
+
+                mockMvc.perform(get("/api/transactions/search").param("q", "salary").param("limit", "20"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.transactions[0].id").value(1));
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions/search without q - Returns 400")
+        void searchTransactions_MissingQuery() throws Exception {
+                mockMvc.perform(get("/api/transactions/search"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("Missing required parameter: q"));
+        }
+
+        @Test
+        @DisplayName("GET /api/transactions/export - Streams NDJSON")
+        void exportTransactions_Success() throws Exception {
+                when(authService.getCurrentUser()).thenReturn(user);
+                when(transactionExportService.exportTransactions(eq(1L), any(OutputStream.class)))
+                                .thenAnswer(invocation -> {
+                                        OutputStream out = invocation.getArgument(1);
+                                        out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+                                        return 1L;
+                                });
+
+                MvcResult result = mockMvc.perform(get("/api/transactions/export"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType("application/x-ndjson"))
+                                .andExpect(content().string("{\"id\":1}\n"));
+        }
+
         @Test
         @DisplayName("GET /api/transactions/{id} - Returns single transaction")
         void getTransactionById_Success() throws Exception {
@@ -142,6 +406,20 @@ class TransactionControllerTest {
                                 .andExpect(status().isOk());
         }
 
+        @Test
+        @DisplayName("PUT /api/transactions/{id} with more than 2 decimals - Returns 400")
+        void updateTransaction_TooManyDecimals() throws Exception {
+                TransactionUpdateRequest updateRequest = TransactionUpdateRequest.builder()
+                                .amount(new BigDecimal("6000.001"))
+                                .build();
+
+                mockMvc.perform(put("/api/transactions/1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(updateRequest)))
+                                .andExpect(status().isBadRequest());
+                verifyNoInteractions(transactionService);
+        }
+
         @Test
         @DisplayName("DELETE /api/transactions/{id} - Success")
         void deleteTransaction_Success() throws Exception {
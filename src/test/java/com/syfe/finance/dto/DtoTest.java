@@ -183,7 +183,7 @@ class DtoTest {
         TransactionListResponse t1 = new TransactionListResponse();
         t1.setTransactions(list);
 
-        TransactionListResponse t2 = new TransactionListResponse(list);
+        TransactionListResponse t2 = new TransactionListResponse(list, null);
         assertEquals(t1, t2);
         assertEquals(t1.hashCode(), t2.hashCode());
 
@@ -313,7 +313,7 @@ class DtoTest {
 
         GoalResponse g2 = new GoalResponse(1L, "Emergency Fund", new BigDecimal("10000.00"),
                 LocalDate.of(2026, 12, 31), LocalDate.of(2026, 1, 1),
-                new BigDecimal("3000.00"), 30.0, new BigDecimal("7000.00"));
+                new BigDecimal("3000.00"), 30.0, new BigDecimal("7000.00"), null);
         assertEquals(g1, g2);
         assertEquals(g1.hashCode(), g2.hashCode());
 
@@ -393,7 +393,7 @@ class DtoTest {
         y1.setTotalExpenses(expenses);
         y1.setNetSavings(new BigDecimal("36000.00"));
 
-        YearlyReportResponse y2 = new YearlyReportResponse(2026, income, expenses, new BigDecimal("36000.00"));
+        YearlyReportResponse y2 = new YearlyReportResponse(2026, income, expenses, new BigDecimal("36000.00"), null);
         assertEquals(y1, y2);
         assertEquals(y1.hashCode(), y2.hashCode());
 
@@ -124,6 +124,18 @@ class ExceptionTest {
         assertEquals(400, response.getBody().getStatus());
     }
 
+    @Test
+    @DisplayName("GlobalExceptionHandler - handles ServiceBusyException")
+    void testHandleServiceBusyException() {
+        ServiceBusyException ex = new ServiceBusyException("Busy");
+        ResponseEntity<ErrorResponse> response = handler.handleServiceBusyException(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(503, response.getBody().getStatus());
+        assertEquals("Busy", response.getBody().getMessage());
+        assertNotNull(response.getHeaders().getFirst("Retry-After"));
+    }
+
     @Test
     @DisplayName("GlobalExceptionHandler - handles BadCredentialsException")
     void testHandleBadCredentialsException() {
@@ -0,0 +1,27 @@
+package com.syfe.finance.repository;
+
+import org.hibernate.BaseSessionEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the JDBC batches Hibernate executes so tests can check that inserts
+ * are really sent in batches.
+ */
+public class JdbcBatchCounter extends BaseSessionEventListener {
+
+    private static final AtomicLong BATCHES = new AtomicLong();
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        BATCHES.incrementAndGet();
+    }
+
+    static long batches() {
+        return BATCHES.get();
+    }
+
+    static void clear() {
+        BATCHES.set(0);
+    }
+}
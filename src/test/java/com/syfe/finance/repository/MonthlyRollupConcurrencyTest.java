@@ -0,0 +1,123 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.MonthlyRollup;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.service.MonthlyRollupService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs rollup maintenance in concurrent, committing transactions, which the
+ * rolled-back tests of {@link MonthlyRollupRepositoryTest} cannot.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(MonthlyRollupService.class)
+class MonthlyRollupConcurrencyTest {
+
+    @Autowired
+    private MonthlyRollupService monthlyRollupService;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            user = User.builder().username("test@example.com").password("password").build();
+            entityManager.persist(user);
+            food = Category.builder().name("Food").type(TransactionType.EXPENSE).build();
+            entityManager.persist(food);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM MonthlyRollup").executeUpdate();
+            entityManager.createQuery("DELETE FROM Category").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("Two first writes to the same rollup row both count instead of failing the later one")
+    void onTransactionsChanged_ConcurrentFirstWrites() throws Exception {
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    monthlyRollupService.onTransactionsChanged(created(1L, "100.00"));
+                    firstInserted.countDown();
+                    await(commitFirst);
+                }));
+        assertTrue(firstInserted.await(10, TimeUnit.SECONDS));
+
+        // Does not see the uncommitted row, so inserts too and waits on the unique key
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status ->
+                        monthlyRollupService.onTransactionsChanged(created(2L, "50.00"))));
+        Thread.sleep(200);
+        commitFirst.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+
+        List<MonthlyRollup> rollups = monthlyRollupRepository.findAll();
+        assertEquals(1, rollups.size());
+        assertEquals(new BigDecimal("150.00"), rollups.get(0).getTotal());
+        assertEquals(2, rollups.get(0).getTransactionCount());
+    }
+
+    private TransactionsChangedEvent created(Long id, String amount) {
+        return TransactionsChangedEvent.of(user.getId(), TransactionChange.created(TransactionSnapshot.builder()
+                .id(id)
+                .userId(user.getId())
+                .categoryId(food.getId())
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal(amount))
+                .date(LocalDate.of(2026, 1, 10))
+                .build()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
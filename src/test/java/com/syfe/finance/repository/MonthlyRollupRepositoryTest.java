@@ -0,0 +1,259 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.RangeReportResponse;
+import com.syfe.finance.dto.TransactionRequest;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.dto.TransactionUpdateRequest;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.service.CategoryService;
+import com.syfe.finance.service.MonthlyRollupService;
+import com.syfe.finance.service.ReportCache;
+import com.syfe.finance.service.ReportService;
+import com.syfe.finance.service.ReportSource;
+import com.syfe.finance.service.TransactionColumnStore;
+import com.syfe.finance.service.TransactionService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests roll back, so the report cache is never invalidated after commit; let entries expire at once
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.reports.cache.ttl=0s"
+})
+@Import({TransactionService.class, CategoryService.class, MonthlyRollupService.class, ReportService.class,
+        ReportCache.class, TransactionColumnStore.class})
+class MonthlyRollupRepositoryTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = persist(User.builder().username("test@example.com").password("password").build());
+        persist(Category.builder().name("Salary").type(TransactionType.INCOME).build());
+        persist(Category.builder().name("Food").type(TransactionType.EXPENSE).build());
+        persist(Category.builder().name("Rent").type(TransactionType.EXPENSE).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Creating transactions adds to one rollup row per month, category and type")
+    void create_MaintainsRollups() {
+        create("5000.00", LocalDate.of(2026, 1, 15), "Salary");
+        create("500.00", LocalDate.of(2026, 1, 10), "Food");
+        create("300.00", LocalDate.of(2026, 1, 20), "Food");
+        create("1500.00", LocalDate.of(2026, 2, 5), "Rent");
+
+        assertEquals(3, monthlyRollupRepository.count());
+
+        MonthlyReportResponse january = reportService.getMonthlyReport(user.getId(), 2026, 1);
+        assertEquals(new BigDecimal("5000.00"), january.getTotalIncome().get("Salary"));
+        assertEquals(new BigDecimal("800.00"), january.getTotalExpenses().get("Food"));
+        assertEquals(new BigDecimal("4200.00"), january.getNetSavings());
+
+        YearlyReportResponse year = reportService.getYearlyReport(user.getId(), 2026);
+        assertEquals(new BigDecimal("1500.00"), year.getTotalExpenses().get("Rent"));
+        assertEquals(new BigDecimal("2700.00"), year.getNetSavings());
+    }
+
+    @Test
+    @DisplayName("Amount and category changes move totals between rollup rows")
+    void update_MovesTotals() {
+        TransactionResponse food = create("500.00", LocalDate.of(2026, 1, 10), "Food");
+        create("300.00", LocalDate.of(2026, 1, 20), "Food");
+
+        transactionService.updateTransaction(food.getId(), TransactionUpdateRequest.builder()
+                .amount(new BigDecimal("700.00"))
+                .category("Rent")
+                .build(), user);
+
+        MonthlyReportResponse january = reportService.getMonthlyReport(user.getId(), 2026, 1);
+        assertEquals(new BigDecimal("300.00"), january.getTotalExpenses().get("Food"));
+        assertEquals(new BigDecimal("700.00"), january.getTotalExpenses().get("Rent"));
+        assertEquals(new BigDecimal("-1000.00"), january.getNetSavings());
+    }
+
+    @Test
+    @DisplayName("Deleting the last transaction of a row removes the row")
+    void delete_RemovesEmptyRows() {
+        TransactionResponse salary = create("5000.00", LocalDate.of(2026, 1, 15), "Salary");
+        TransactionResponse food = create("500.00", LocalDate.of(2026, 1, 10), "Food");
+
+        transactionService.deleteTransaction(food.getId(), user);
+
+        assertEquals(1, monthlyRollupRepository.count());
+        MonthlyReportResponse january = reportService.getMonthlyReport(user.getId(), 2026, 1);
+        assertTrue(january.getTotalExpenses().isEmpty());
+
+        transactionService.deleteTransaction(salary.getId(), user);
+        assertEquals(0, monthlyRollupRepository.count());
+        assertEquals(BigDecimal.ZERO, reportService.getMonthlyReport(user.getId(), 2026, 1).getNetSavings());
+    }
+
+    @Test
+    @DisplayName("Reports read one statement of rollup rows regardless of transaction count")
+    void reports_SingleStatement() {
+        for (int i = 0; i < 50; i++) {
+            create("10.00", LocalDate.of(2026, 1, 1 + i % 28), i % 2 == 0 ? "Food" : "Rent");
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+
+        YearlyReportResponse year = reportService.getYearlyReport(user.getId(), 2026);
+
+        assertEquals(new BigDecimal("250.00"), year.getTotalExpenses().get("Food"));
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(0, statistics().getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Net savings of a month range across a year boundary come from one rollup aggregate")
+    void sumNetOfMonthRange_SingleStatement() {
+        create("5000.00", LocalDate.of(2025, 11, 30), "Salary");
+        create("1000.00", LocalDate.of(2025, 12, 15), "Salary");
+        create("300.00", LocalDate.of(2026, 1, 10), "Food");
+        create("200.00", LocalDate.of(2026, 2, 1), "Rent");
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+
+        assertEquals(0, new BigDecimal("500.00").compareTo(
+                monthlyRollupRepository.sumNetOfMonthRange(user.getId(), 2025, 12, 2026, 2)));
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertNull(monthlyRollupRepository.sumNetOfMonthRange(user.getId(), 2026, 3, 2026, 5));
+    }
+
+    @Test
+    @DisplayName("The yearly breakdown reads one statement and matches the monthly reports")
+    void yearlyBreakdown_SingleStatement() {
+        create("5000.00", LocalDate.of(2025, 1, 15), "Salary");
+        create("500.00", LocalDate.of(2025, 1, 10), "Food");
+        create("300.00", LocalDate.of(2025, 3, 20), "Food");
+        create("1500.00", LocalDate.of(2025, 12, 31), "Rent");
+        create("99.00", LocalDate.of(2026, 1, 1), "Food");
+        ReportService fromTransactions = reportServiceFrom(ReportSource.QUERY);
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+
+        YearlyReportResponse year = reportService.getYearlyReport(user.getId(), 2025, true);
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(new BigDecimal("2700.00"), year.getNetSavings());
+        assertEquals(12, year.getMonths().size());
+        for (MonthlyReportResponse month : year.getMonths()) {
+            assertEquals(reportService.getMonthlyReport(user.getId(), 2025, month.getMonth()), month);
+        }
+        assertEquals(year, fromTransactions.getYearlyReport(user.getId(), 2025, true));
+        assertEquals(year, reportServiceFrom(ReportSource.COLUMNAR).getYearlyReport(user.getId(), 2025, true));
+    }
+
+    @Test
+    @DisplayName("Range reports composed from rollups match aggregating the transactions directly")
+    void rangeReport_MatchesTransactions() {
+        create("5000.00", LocalDate.of(2025, 11, 30), "Salary");
+        create("120.00", LocalDate.of(2025, 12, 1), "Food");
+        create("80.00", LocalDate.of(2025, 12, 31), "Food");
+        create("1500.00", LocalDate.of(2026, 1, 1), "Rent");
+        create("4000.00", LocalDate.of(2026, 2, 14), "Salary");
+        create("60.00", LocalDate.of(2026, 2, 15), "Food");
+
+        ReportService fromTransactions = reportServiceFrom(ReportSource.QUERY);
+        ReportService fromColumns = reportServiceFrom(ReportSource.COLUMNAR);
+        LocalDate[][] ranges = {
+                {LocalDate.of(2025, 11, 30), LocalDate.of(2026, 2, 14)},
+                {LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31)},
+                {LocalDate.of(2025, 12, 2), LocalDate.of(2026, 1, 1)},
+                {LocalDate.of(2025, 1, 1), LocalDate.of(2026, 12, 31)},
+                {LocalDate.of(2026, 2, 15), LocalDate.of(2026, 2, 15)},
+        };
+        for (LocalDate[] range : ranges) {
+            RangeReportResponse expected = fromTransactions.getRangeReport(user.getId(), range[0], range[1]);
+            RangeReportResponse actual = reportService.getRangeReport(user.getId(), range[0], range[1]);
+            assertEquals(expected, actual, range[0] + ".." + range[1]);
+            assertEquals(expected, fromColumns.getRangeReport(user.getId(), range[0], range[1]),
+                    "columnar " + range[0] + ".." + range[1]);
+        }
+        assertEquals(new BigDecimal("7300.00"), reportService.getRangeReport(user.getId(),
+                LocalDate.of(2025, 11, 30), LocalDate.of(2026, 2, 14)).getNetSavings());
+    }
+
+    @Test
+    @DisplayName("Column rows stream oldest first and build columns that match the GROUP BY totals")
+    void columnRows_OldestFirst() {
+        create("1500.00", LocalDate.of(2026, 2, 5), "Rent");
+        create("5000.00", LocalDate.of(2026, 1, 15), "Salary");
+        create("500.00", LocalDate.of(2026, 1, 15), "Food");
+
+        TransactionColumnStore columnStore = columnStore();
+        assertEquals(new BigDecimal("3000.00"), columnStore.netSince(user.getId(), LocalDate.of(2026, 1, 15)));
+        assertEquals(new BigDecimal("-1500.00"), columnStore.netSince(user.getId(), LocalDate.of(2026, 1, 16)));
+        assertEquals(BigDecimal.ZERO, columnStore.netSince(user.getId(), LocalDate.of(2026, 2, 6)));
+        assertEquals(reportServiceFrom(ReportSource.QUERY).getMonthlyReport(user.getId(), 2026, 1),
+                reportServiceFrom(ReportSource.COLUMNAR).getMonthlyReport(user.getId(), 2026, 1));
+    }
+
+    private ReportService reportServiceFrom(ReportSource source) {
+        return new ReportService(monthlyRollupRepository, transactionRepository, columnStore(),
+                new ReportCache(1, Duration.ZERO), source);
+    }
+
+    // A fresh store, so the columns are built from the transactions created by the test
+    private TransactionColumnStore columnStore() {
+        return new TransactionColumnStore(transactionRepository, transactionTemplate, DataSize.ofMegabytes(1));
+    }
+
+    private TransactionResponse create(String amount, LocalDate date, String category) {
+        return transactionService.createTransaction(TransactionRequest.builder()
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .category(category)
+                .build(), user);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
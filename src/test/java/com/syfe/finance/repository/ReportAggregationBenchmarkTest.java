@@ -0,0 +1,199 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.service.ReportCache;
+import com.syfe.finance.service.ReportService;
+import com.syfe.finance.service.ReportSource;
+import com.syfe.finance.service.TransactionColumnStore;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the ways of building a yearly report over 10k, 100k and 1M
+ * transactions of one user: loading entities and summing in Java, a GROUP BY
+ * projection, reading the monthly rollups, and scanning in-memory columns
+ * (timed once loaded; the one-off build is reported separately). Opt-in
+ * because seeding takes a while:
+ * {@code mvn test -Dtest=ReportAggregationBenchmarkTest -Dbenchmarks=true},
+ * optionally with {@code -Dbenchmarks.sizes=10000,100000}. The 1M size needs a
+ * larger heap than the default, e.g. {@code -DargLine=-Xmx3g}.
+ */
+@DataJpaTest
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ReportAggregationBenchmarkTest {
+
+    private static final int YEAR = 2025;
+    private static final int CATEGORY_COUNT = 12;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private long nextId = 1_000_000_000L;
+
+    @Test
+    void compareYearlyReportAggregation() {
+        // Entries expire immediately, so every run measures the aggregation itself
+        ReportCache noCache = new ReportCache(1, Duration.ZERO);
+        TransactionColumnStore columnStore = new TransactionColumnStore(transactionRepository, transactionTemplate,
+                DataSize.ofMegabytes(256));
+        ReportService groupBy = new ReportService(monthlyRollupRepository, transactionRepository, columnStore,
+                noCache, ReportSource.QUERY);
+        ReportService rollup = new ReportService(monthlyRollupRepository, transactionRepository, columnStore,
+                noCache, ReportSource.ROLLUP);
+        ReportService columnar = new ReportService(monthlyRollupRepository, transactionRepository, columnStore,
+                noCache, ReportSource.COLUMNAR);
+
+        System.out.printf("%12s %16s %16s %16s %16s %16s%n", "transactions", "entity loop ms", "group by ms",
+                "rollup ms", "column build ms", "columnar ms");
+        for (String size : System.getProperty("benchmarks.sizes", "10000,100000,1000000").split(",")) {
+            int transactions = Integer.parseInt(size.trim());
+            Long userId = seed(transactions);
+
+            BigDecimal expected = entityLoop(userId);
+            entityManager.clear();
+            assertEquals(0, expected.compareTo(groupBy.getYearlyReport(userId, YEAR).getNetSavings()));
+            assertEquals(0, expected.compareTo(rollup.getYearlyReport(userId, YEAR).getNetSavings()));
+            long buildStartedAt = System.nanoTime();
+            assertEquals(0, expected.compareTo(columnar.getYearlyReport(userId, YEAR).getNetSavings()));
+            double buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000.0;
+
+            System.out.printf("%12d %16.1f %16.1f %16.1f %16.1f %16.3f%n", transactions,
+                    median(() -> entityLoop(userId)),
+                    median(() -> netSavings(groupBy.getYearlyReport(userId, YEAR))),
+                    median(() -> netSavings(rollup.getYearlyReport(userId, YEAR))),
+                    buildMillis,
+                    median(() -> netSavings(columnar.getYearlyReport(userId, YEAR))));
+        }
+    }
+
+    /**
+     * The approach reports used before aggregation moved into the database:
+     * every transaction of the year is loaded as an entity and its lazy
+     * category resolved inside the loop.
+     */
+    private BigDecimal entityLoop(Long userId) {
+        List<Transaction> transactions = entityManager.createQuery(
+                "SELECT t FROM Transaction t WHERE t.user.id = :userId AND YEAR(t.date) = :year", Transaction.class)
+                .setParameter("userId", userId)
+                .setParameter("year", YEAR)
+                .getResultList();
+        Map<String, BigDecimal> income = new HashMap<>();
+        Map<String, BigDecimal> expenses = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            Map<String, BigDecimal> totals = transaction.getType() == TransactionType.INCOME ? income : expenses;
+            totals.merge(transaction.getCategory().getName(), transaction.getAmount(), BigDecimal::add);
+        }
+        BigDecimal totalIncome = income.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalExpenses = expenses.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        return totalIncome.subtract(totalExpenses);
+    }
+
+    private BigDecimal netSavings(YearlyReportResponse report) {
+        return report.getNetSavings();
+    }
+
+    private double median(Supplier<BigDecimal> run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.get();
+            entityManager.clear();
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startedAt = System.nanoTime();
+            run.get();
+            millis[i] = (System.nanoTime() - startedAt) / 1_000_000.0;
+            entityManager.clear();
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+    private Long seed(int transactions) {
+        User user = User.builder()
+                .username("benchmark-" + transactions + "@example.com")
+                .password("password")
+                .build();
+        entityManager.persist(user);
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            Category category = Category.builder()
+                    .name("Category " + i)
+                    .type(i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE)
+                    .user(user)
+                    .build();
+            entityManager.persist(category);
+            categories.add(category);
+        }
+        entityManager.flush();
+
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO transaction (id, amount, date, description, type, user_id, category_id) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                LocalDate firstDay = LocalDate.of(YEAR, 1, 1);
+                for (int i = 0; i < transactions; i++) {
+                    Category category = categories.get(i % CATEGORY_COUNT);
+                    insert.setLong(1, nextId++);
+                    insert.setBigDecimal(2, BigDecimal.valueOf(100 + i % 10_000, 2));
+                    insert.setDate(3, Date.valueOf(firstDay.plusDays(i % 365)));
+                    insert.setString(4, "Benchmark transaction " + i);
+                    insert.setString(5, category.getType().name());
+                    insert.setLong(6, user.getId());
+                    insert.setLong(7, category.getId());
+                    insert.addBatch();
+                    if (i % 1_000 == 999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            // Rows written behind Hibernate's back bypass the rollup listener
+            try (PreparedStatement rollup = connection.prepareStatement(
+                    "INSERT INTO monthly_rollup "
+                            + "(user_id, rollup_year, rollup_month, category_id, type, total, transaction_count) "
+                            + "SELECT user_id, YEAR(date), MONTH(date), category_id, type, SUM(amount), COUNT(*) "
+                            + "FROM transaction WHERE user_id = ? "
+                            + "GROUP BY user_id, YEAR(date), MONTH(date), category_id, type")) {
+                rollup.setLong(1, user.getId());
+                rollup.executeUpdate();
+            }
+        });
+        entityManager.clear();
+        return user.getId();
+    }
+}
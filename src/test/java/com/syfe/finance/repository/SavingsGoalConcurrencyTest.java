@@ -0,0 +1,153 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.GoalRequest;
+import com.syfe.finance.dto.GoalResponse;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.SavingsGoal;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.service.GoalForecastService;
+import com.syfe.finance.service.GoalProgressService;
+import com.syfe.finance.service.GoalSimulationService;
+import com.syfe.finance.service.NetSavingsLedgerStore;
+import com.syfe.finance.service.SavingsGoalService;
+import com.syfe.finance.service.TransactionColumnStore;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates a goal while a transaction write is in flight, in concurrent,
+ * committing transactions, which the rolled-back tests of
+ * {@link SavingsGoalRepositoryTest} cannot.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SavingsGoalService.class, GoalProgressService.class})
+class SavingsGoalConcurrencyTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+
+    @MockBean
+    private TransactionColumnStore columnStore;
+
+    @MockBean
+    private NetSavingsLedgerStore ledgerStore;
+
+    @MockBean
+    private GoalForecastService forecastService;
+
+    @MockBean
+    private GoalSimulationService simulationService;
+
+    @Autowired
+    private SavingsGoalService savingsGoalService;
+
+    @Autowired
+    private GoalProgressService goalProgressService;
+
+    @Autowired
+    private SavingsGoalRepository savingsGoalRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Category salary;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            user = User.builder().username("test@example.com").password("password").build();
+            entityManager.persist(user);
+            salary = Category.builder().name("Salary").type(TransactionType.INCOME).build();
+            entityManager.persist(salary);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM SavingsGoal").executeUpdate();
+            entityManager.createQuery("DELETE FROM Transaction").executeUpdate();
+            entityManager.createQuery("DELETE FROM Category").executeUpdate();
+            entityManager.createQuery("DELETE FROM User").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("A goal created while a transaction write commits counts the transaction exactly once")
+    void createGoal_ConcurrentTransactionWrite() throws Exception {
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch commitWrite = new CountDownLatch(1);
+
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    Transaction transaction = Transaction.builder()
+                            .amount(new BigDecimal("100.00"))
+                            .date(JANUARY.plusDays(9))
+                            .type(TransactionType.INCOME)
+                            .user(entityManager.getReference(User.class, user.getId()))
+                            .category(entityManager.getReference(Category.class, salary.getId()))
+                            .build();
+                    entityManager.persist(transaction);
+                    entityManager.flush();
+                    goalProgressService.onTransactionsChanged(TransactionsChangedEvent.of(user.getId(),
+                            TransactionChange.created(TransactionSnapshot.of(transaction))));
+                    written.countDown();
+                    await(commitWrite);
+                }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+
+        // Would otherwise sum without the uncommitted transaction, while the
+        // write's update cannot see the uncommitted goal
+        CompletableFuture<GoalResponse> create = CompletableFuture.supplyAsync(() ->
+                savingsGoalService.createGoal(GoalRequest.builder()
+                        .goalName("Holiday")
+                        .targetAmount(new BigDecimal("1000.00"))
+                        .targetDate(LocalDate.now().plusYears(1))
+                        .startDate(JANUARY)
+                        .build(), user));
+        Thread.sleep(200);
+        commitWrite.countDown();
+        write.get(10, TimeUnit.SECONDS);
+        GoalResponse goal = create.get(10, TimeUnit.SECONDS);
+
+        SavingsGoal stored = savingsGoalRepository.findById(goal.getId()).orElseThrow();
+        assertEquals(new BigDecimal("100.00"), stored.getNetSavings());
+        assertTrue(savingsGoalRepository.findNetSavingsDrift().isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
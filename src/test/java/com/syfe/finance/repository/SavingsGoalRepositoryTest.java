@@ -0,0 +1,182 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.GoalProgressDrift;
+import com.syfe.finance.dto.TransactionRequest;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.dto.TransactionUpdateRequest;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.SavingsGoal;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.service.CategoryService;
+import com.syfe.finance.service.GoalProgressService;
+import com.syfe.finance.service.MonthlyRollupService;
+import com.syfe.finance.service.TransactionService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TransactionService.class, CategoryService.class, MonthlyRollupService.class, GoalProgressService.class})
+class SavingsGoalRepositoryTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private GoalProgressService goalProgressService;
+
+    @Autowired
+    private SavingsGoalRepository savingsGoalRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private SavingsGoal fromJanuary;
+    private SavingsGoal fromFebruary;
+
+    @BeforeEach
+    void setUp() {
+        user = persist(User.builder().username("test@example.com").password("password").build());
+        persist(Category.builder().name("Salary").type(TransactionType.INCOME).build());
+        persist(Category.builder().name("Food").type(TransactionType.EXPENSE).build());
+        fromJanuary = persist(goal(JANUARY));
+        fromFebruary = persist(goal(JANUARY.plusMonths(1)));
+        User otherUser = persist(User.builder().username("other@example.com").password("password").build());
+        persist(SavingsGoal.builder()
+                .goalName("Other")
+                .targetAmount(new BigDecimal("1000.00"))
+                .targetDate(LocalDate.now().plusYears(1))
+                .startDate(JANUARY)
+                .user(otherUser)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Transaction writes update the stored progress of exactly the goals started by their date")
+    void transactionWrites_MaintainStoredProgress() {
+        create("5000.00", JANUARY.plusDays(14), "Salary");
+        TransactionResponse food = create("500.00", JANUARY.plusMonths(1).plusDays(4), "Food");
+        create("100.00", JANUARY.minusDays(1), "Salary");
+
+        assertEquals(new BigDecimal("4500.00"), netSavings(fromJanuary));
+        assertEquals(new BigDecimal("-500.00"), netSavings(fromFebruary));
+
+        transactionService.updateTransaction(food.getId(), TransactionUpdateRequest.builder()
+                .amount(new BigDecimal("700.00"))
+                .build(), user);
+        assertEquals(new BigDecimal("4300.00"), netSavings(fromJanuary));
+        assertEquals(new BigDecimal("-700.00"), netSavings(fromFebruary));
+
+        transactionService.deleteTransaction(food.getId(), user);
+        assertEquals(new BigDecimal("5000.00"), netSavings(fromJanuary));
+        assertEquals(new BigDecimal("0.00"), netSavings(fromFebruary));
+        assertTrue(savingsGoalRepository.findNetSavingsDrift().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Saving a goal read before a transaction write keeps the progress the write stored")
+    void saveGoalReadBeforeWrite_KeepsStoredProgress() {
+        entityManager.clear();
+        SavingsGoal goal = savingsGoalRepository.findById(fromJanuary.getId()).orElseThrow();
+
+        create("5000.00", JANUARY.plusDays(14), "Salary");
+        goal.setTargetAmount(new BigDecimal("20000.00"));
+        savingsGoalRepository.save(goal);
+
+        assertEquals(new BigDecimal("5000.00"), netSavings(fromJanuary));
+        assertEquals(new BigDecimal("20000.00"),
+                savingsGoalRepository.findById(fromJanuary.getId()).orElseThrow().getTargetAmount());
+    }
+
+    @Test
+    @DisplayName("Changes on several dates are applied per interval between goal start dates")
+    void multiDateChanges_MaintainStoredProgress() {
+        goalProgressService.onTransactionsChanged(new TransactionsChangedEvent(user.getId(), List.of(
+                TransactionChange.created(snapshot(JANUARY.minusDays(3), "1.00", TransactionType.INCOME)),
+                TransactionChange.created(snapshot(JANUARY.plusDays(3), "10.00", TransactionType.INCOME)),
+                TransactionChange.created(snapshot(JANUARY.plusMonths(1), "4.00", TransactionType.EXPENSE)),
+                TransactionChange.created(snapshot(JANUARY.plusMonths(2), "1.50", TransactionType.INCOME)))));
+
+        assertEquals(new BigDecimal("7.50"), netSavings(fromJanuary));
+        assertEquals(new BigDecimal("-2.50"), netSavings(fromFebruary));
+        assertEquals(List.of(JANUARY, JANUARY.plusMonths(1)),
+                savingsGoalRepository.findStartDatesByUserId(user.getId()));
+    }
+
+    @Test
+    @DisplayName("The consistency check recomputes every goal, flags drift and corrects it")
+    void checkConsistency_FlagsAndRepairsDrift() {
+        create("5000.00", JANUARY.plusDays(14), "Salary");
+        create("800.00", JANUARY.plusMonths(1).plusDays(4), "Food");
+        // Drift the January goal behind the write path's back
+        savingsGoalRepository.addToNetSavingsStartedBy(user.getId(), JANUARY, new BigDecimal("1.00"));
+        entityManager.clear();
+
+        List<GoalProgressDrift> drifts = goalProgressService.checkConsistency();
+
+        assertEquals(1, drifts.size());
+        assertEquals(fromJanuary.getId(), drifts.get(0).getGoalId());
+        assertEquals(0, new BigDecimal("4201.00").compareTo(drifts.get(0).getStored()));
+        assertEquals(0, new BigDecimal("4200.00").compareTo(drifts.get(0).getExpected()));
+        assertEquals(new BigDecimal("4200.00"), netSavings(fromJanuary));
+        assertTrue(savingsGoalRepository.findNetSavingsDrift().isEmpty());
+    }
+
+    private BigDecimal netSavings(SavingsGoal goal) {
+        entityManager.flush();
+        entityManager.clear();
+        return savingsGoalRepository.findById(goal.getId()).orElseThrow().getNetSavings();
+    }
+
+    private TransactionResponse create(String amount, LocalDate date, String category) {
+        return transactionService.createTransaction(TransactionRequest.builder()
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .category(category)
+                .build(), user);
+    }
+
+    private SavingsGoal goal(LocalDate startDate) {
+        return SavingsGoal.builder()
+                .goalName("Goal from " + startDate)
+                .targetAmount(new BigDecimal("10000.00"))
+                .targetDate(LocalDate.now().plusYears(1))
+                .startDate(startDate)
+                .user(user)
+                .build();
+    }
+
+    private TransactionSnapshot snapshot(LocalDate date, String amount, TransactionType type) {
+        return TransactionSnapshot.builder()
+                .id(1L)
+                .userId(user.getId())
+                .categoryId(1L)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .build();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+}
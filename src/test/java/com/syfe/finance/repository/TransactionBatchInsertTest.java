@@ -0,0 +1,121 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.BatchTransactionResponse;
+import com.syfe.finance.dto.TransactionRequest;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.service.CategoryService;
+import com.syfe.finance.service.TransactionBatchService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that batch ingestion really reaches the database as JDBC batches of
+ * {@code hibernate.jdbc.batch_size} rows, with one prepared insert per chunk.
+ * Batching silently turns off if, e.g., the id generator becomes IDENTITY,
+ * which sends one statement per row instead.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.syfe.finance.repository.SqlStatementCapture",
+        "spring.jpa.properties.hibernate.session.events.auto=com.syfe.finance.repository.JdbcBatchCounter"
+})
+class TransactionBatchInsertTest {
+
+    private static final int ROWS = 1000;
+    // spring.jpa.properties.hibernate.jdbc.batch_size in application.properties
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private ValidatorFactory validatorFactory;
+    private TransactionBatchService transactionBatchService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        CategoryService categoryService = new CategoryService(categoryRepository, transactionRepository,
+                eventPublisher);
+        transactionBatchService = new TransactionBatchService(transactionRepository, categoryService,
+                validatorFactory.getValidator(), transactionTemplate, entityManager, eventPublisher);
+
+        user = User.builder().username("test@example.com").password("password").build();
+        entityManager.persist(user);
+        entityManager.persist(Category.builder().name("Food").type(TransactionType.EXPENSE).user(user).build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+        SqlStatementCapture.clear();
+        JdbcBatchCounter.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("A 1000-row batch is inserted in JDBC batches rather than one statement per row")
+    void createTransactions_InsertsInJdbcBatches() {
+        List<TransactionRequest> requests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            requests.add(TransactionRequest.builder()
+                    .amount(new BigDecimal("10.00"))
+                    .date(LocalDate.now().minusDays(1 + i % 30))
+                    .category("Food")
+                    .description("Row " + i)
+                    .build());
+        }
+
+        BatchTransactionResponse response = transactionBatchService.createTransactions(requests, user);
+
+        assertEquals(ROWS, response.getCreated());
+        assertEquals(ROWS, statistics().getEntityInsertCount());
+        long insertStatements = SqlStatementCapture.statements().stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("insert into transaction "))
+                .count();
+        // One per 500-row chunk, each executed in batches
+        assertEquals(2, insertStatements);
+        assertEquals(ROWS / JDBC_BATCH_SIZE, JdbcBatchCounter.batches());
+        assertEquals(ROWS, transactionRepository.count());
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,117 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.ImportResultResponse;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.service.CategoryService;
+import com.syfe.finance.service.TransactionBatchService;
+import com.syfe.finance.service.TransactionImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures CSV import throughput over 10k and 100k rows of one user, from
+ * parsing to committed chunks, and prints rows per second. Runs outside a
+ * test transaction so every chunk commits as it does in production. Opt-in
+ * because it takes a while:
+ * {@code mvn test -Dtest=TransactionImportBenchmarkTest -Dbenchmarks=true},
+ * optionally with {@code -Dbenchmarks.sizes=10000,100000,1000000}.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class TransactionImportBenchmarkTest {
+
+    private static final int CATEGORY_COUNT = 12;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void measureImportThroughput() {
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            CategoryService categoryService = new CategoryService(categoryRepository, transactionRepository,
+                    eventPublisher);
+            TransactionImportService importService = new TransactionImportService(
+                    new TransactionBatchService(transactionRepository, categoryService,
+                            validatorFactory.getValidator(), transactionTemplate, entityManager, eventPublisher),
+                    categoryService);
+
+            // The first run warms up parsing, validation and the insert path
+            importService.importCsv(csv(5_000), seedUser("warmup"));
+
+            System.out.printf("%12s %12s %12s %14s%n", "rows", "imported", "ms", "rows/sec");
+            for (String size : System.getProperty("benchmarks.sizes", "10000,100000").split(",")) {
+                int rows = Integer.parseInt(size.trim());
+                User user = seedUser(String.valueOf(rows));
+                ByteArrayInputStream input = csv(rows);
+
+                long startedAt = System.nanoTime();
+                ImportResultResponse result = importService.importCsv(input, user);
+                double millis = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+                assertEquals(rows, result.getImported());
+                System.out.printf("%12d %12d %12.1f %14.1f%n", rows, result.getImported(), millis,
+                        rows / millis * 1000);
+            }
+        }
+    }
+
+    private User seedUser(String name) {
+        return transactionTemplate.execute(status -> {
+            User user = User.builder()
+                    .username("import-benchmark-" + name + "@example.com")
+                    .password("password")
+                    .build();
+            entityManager.persist(user);
+            for (int i = 0; i < CATEGORY_COUNT; i++) {
+                entityManager.persist(Category.builder()
+                        .name("Category " + i)
+                        .type(i % 3 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE)
+                        .user(user)
+                        .build());
+            }
+            return user;
+        });
+    }
+
+    private static ByteArrayInputStream csv(int rows) {
+        StringBuilder csv = new StringBuilder(rows * 48).append("date,amount,category,description\n");
+        LocalDate firstDay = LocalDate.now().minusDays(365);
+        for (int i = 0; i < rows; i++) {
+            csv.append(firstDay.plusDays(i % 365)).append(',')
+                    .append(1 + i % 10_000).append('.').append(String.format("%02d", i % 100)).append(',')
+                    .append("Category ").append(i % CATEGORY_COUNT).append(',')
+                    .append("Statement line ").append(i).append('\n');
+        }
+        return new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,383 @@
+package com.syfe.finance.repository;
+
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.DailyNetAmount;
+import com.syfe.finance.dto.TransactionFilter;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.util.TransactionCursor;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.syfe.finance.repository.SqlStatementCapture"
+})
+class TransactionRepositoryTest {
+
+    private static final int CATEGORY_COUNT = 10;
+    private static final int TRANSACTION_COUNT = 40;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private User otherUser;
+    private List<Category> categories;
+
+    @BeforeEach
+    void setUp() {
+        user = persist(User.builder().username("test@example.com").password("password").build());
+        otherUser = persist(User.builder().username("other@example.com").password("password").build());
+
+        categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories.add(persist(Category.builder()
+                    .name("Category " + i)
+                    .type(i % 2 == 0 ? TransactionType.INCOME : TransactionType.EXPENSE)
+                    .user(user)
+                    .build()));
+        }
+
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            Category category = categories.get(i % CATEGORY_COUNT);
+            persist(Transaction.builder()
+                    .amount(new BigDecimal("10.00"))
+                    .date(LocalDate.of(2026, 1, 1).plusDays(i / 2))
+                    .description("Transaction " + i)
+                    .type(category.getType())
+                    .user(user)
+                    .category(category)
+                    .build());
+        }
+        persist(Transaction.builder()
+                .amount(new BigDecimal("99.00"))
+                .date(LocalDate.of(2026, 1, 1))
+                .type(TransactionType.EXPENSE)
+                .user(otherUser)
+                .category(categories.get(1))
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+        SqlStatementCapture.clear();
+    }
+
+    @Test
+    @DisplayName("Listing a page issues a single statement regardless of category count")
+    void findPageByUserId_SingleStatement() {
+        List<TransactionResponse> page = transactionRepository.findPage(
+                user.getId(), new TransactionFilter(), TransactionCursor.FIRST, TRANSACTION_COUNT);
+
+        assertEquals(TRANSACTION_COUNT, page.size());
+        assertTrue(page.stream().allMatch(response -> response.getCategory().startsWith("Category ")));
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(0, statistics().getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Entity-based listing needs one extra statement per distinct lazy category")
+    void entityListing_IssuesStatementPerCategory() {
+        List<Transaction> transactions = entityManager.createQuery(
+                "SELECT t FROM Transaction t WHERE t.user.id = :userId", Transaction.class)
+                .setParameter("userId", user.getId())
+                .getResultList();
+        transactions.forEach(transaction -> transaction.getCategory().getName());
+
+        assertEquals(1 + CATEGORY_COUNT, statistics().getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Keyset pages are disjoint and ordered by date then id descending")
+    void findPageByUserId_SeeksAfterCursor() {
+        List<TransactionResponse> all = new ArrayList<>();
+        TransactionCursor cursor = TransactionCursor.FIRST;
+        List<TransactionResponse> page;
+        do {
+            page = transactionRepository.findPage(user.getId(), new TransactionFilter(), cursor, 7);
+            all.addAll(page);
+            if (!page.isEmpty()) {
+                TransactionResponse last = page.get(page.size() - 1);
+                cursor = new TransactionCursor(last.getDate(), last.getId());
+            }
+        } while (page.size() == 7);
+
+        assertEquals(TRANSACTION_COUNT, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            TransactionResponse previous = all.get(i - 1);
+            TransactionResponse current = all.get(i);
+            assertTrue(previous.getDate().isAfter(current.getDate())
+                    || (previous.getDate().equals(current.getDate()) && previous.getId() > current.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("Single transaction projection is scoped to its owner")
+    void findResponseByIdAndUserId_ScopedToOwner() {
+        Long id = transactionRepository.findPage(user.getId(), new TransactionFilter(),
+                TransactionCursor.FIRST, 1).get(0).getId();
+
+        assertTrue(transactionRepository.findResponseByIdAndUserId(id, user.getId()).isPresent());
+        assertTrue(transactionRepository.findResponseByIdAndUserId(id, otherUser.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("A lone start date is an open-ended lower bound")
+    void findPage_OpenEndedStartDate() {
+        LocalDate startDate = LocalDate.of(2026, 1, 15);
+
+        List<TransactionResponse> page = transactionRepository.findPage(user.getId(),
+                TransactionFilter.builder().startDate(startDate).build(), TransactionCursor.FIRST, 100);
+
+        assertEquals(12, page.size());
+        assertTrue(page.stream().noneMatch(response -> response.getDate().isBefore(startDate)));
+    }
+
+    @Test
+    @DisplayName("Amount, type, category and description filters combine with AND")
+    void findPage_CombinedFilters() {
+        persist(Transaction.builder()
+                .amount(new BigDecimal("250.00"))
+                .date(LocalDate.of(2026, 1, 10))
+                .description("Annual 100% BONUS")
+                .type(TransactionType.INCOME)
+                .user(user)
+                .category(categories.get(0))
+                .build());
+        entityManager.flush();
+
+        TransactionFilter filter = TransactionFilter.builder()
+                .categoryIds(List.of(categories.get(0).getId(), categories.get(2).getId()))
+                .type(TransactionType.INCOME)
+                .minAmount(new BigDecimal("100.00"))
+                .maxAmount(new BigDecimal("500.00"))
+                .description("100% bonus")
+                .build();
+        List<TransactionResponse> page = transactionRepository.findPage(user.getId(), filter,
+                TransactionCursor.FIRST, 100);
+
+        assertEquals(1, page.size());
+        assertEquals("Annual 100% BONUS", page.get(0).getDescription());
+
+        filter.setDescription("1000% bonus");
+        assertTrue(transactionRepository.findPage(user.getId(), filter, TransactionCursor.FIRST, 100).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Date-led filter combinations compile to one parameterized statement on the user/date index")
+    void findPage_DateLedCombinations_UseUserDateIndex() {
+        assertSingleStatementOnIndex(new TransactionFilter(), "IDX_TRANSACTION_USER_DATE");
+        assertSingleStatementOnIndex(TransactionFilter.builder()
+                .startDate(LocalDate.of(2026, 1, 5))
+                .build(), "IDX_TRANSACTION_USER_DATE");
+        assertSingleStatementOnIndex(TransactionFilter.builder()
+                .startDate(LocalDate.of(2026, 1, 5))
+                .endDate(LocalDate.of(2026, 1, 20))
+                .build(), "IDX_TRANSACTION_USER_DATE");
+        assertSingleStatementOnIndex(TransactionFilter.builder()
+                .endDate(LocalDate.of(2026, 1, 20))
+                .type(TransactionType.EXPENSE)
+                .minAmount(new BigDecimal("5.00"))
+                .maxAmount(new BigDecimal("50.00"))
+                .description("Transaction")
+                .build(), "IDX_TRANSACTION_USER_DATE");
+    }
+
+    @Test
+    @DisplayName("Category filter combinations compile to one parameterized statement on a user-led index")
+    void findPage_CategoryCombinations_UseUserCategoryIndex() {
+        assertSingleStatementOnIndex(TransactionFilter.builder()
+                .categoryIds(List.of(categories.get(1).getId()))
+                .startDate(LocalDate.of(2026, 1, 5))
+                .endDate(LocalDate.of(2026, 1, 20))
+                .build(), "IDX_TRANSACTION_USER_CATEGORY_DATE");
+        // Without a date range the planner may read the user/date index in order and filter
+        assertSingleStatementOnIndex(TransactionFilter.builder()
+                .categoryIds(List.of(categories.get(1).getId()))
+                .build(), "IDX_TRANSACTION_USER_");
+        assertSingleStatementOnIndex(TransactionFilter.builder()
+                .categoryIds(List.of(categories.get(1).getId(), categories.get(3).getId()))
+                .startDate(LocalDate.of(2026, 1, 5))
+                .build(), "IDX_TRANSACTION_USER_");
+    }
+
+    @Test
+    @DisplayName("Category totals are summed by the database in one statement without loading entities")
+    void findCategoryTotals_SingleGroupByStatement() {
+        List<CategoryTotal> month = transactionRepository.findCategoryTotalsByUserIdAndDateRange(
+                user.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+
+        assertEquals(CATEGORY_COUNT, month.size());
+        // 40 transactions of 10.00 spread evenly over 10 categories, all in January
+        assertTrue(month.stream().allMatch(total -> total.getTotal().compareTo(new BigDecimal("40.00")) == 0));
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(0, statistics().getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Report date ranges are half-open")
+    void findCategoryTotals_HalfOpenRange() {
+        // Setup spreads transactions over January 1st to 20th, two per day
+        assertEquals(new BigDecimal("20.00"), sumOf(transactionRepository.findCategoryTotalsByUserIdAndDateRange(
+                user.getId(), LocalDate.of(2026, 1, 20), LocalDate.of(2026, 1, 21))));
+        assertTrue(transactionRepository.findCategoryTotalsByUserIdAndDateRange(
+                user.getId(), LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Report date ranges seek on the user/date index instead of filtering every row of the user")
+    void findCategoryTotals_SeeksOnUserDateIndex() {
+        transactionRepository.findCategoryTotalsByUserIdAndDateRange(
+                user.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+
+        String plan = explain(SqlStatementCapture.statements().get(0));
+        assertTrue(indexCondition(plan).contains("IDX_TRANSACTION_USER_DATE"), plan);
+        assertTrue(indexCondition(plan).contains("DATE >="), plan);
+
+        // Wrapping the column in a function leaves only the user prefix usable
+        SqlStatementCapture.clear();
+        entityManager.createQuery("SELECT SUM(t.amount) FROM Transaction t "
+                        + "WHERE t.user.id = :userId AND YEAR(t.date) = :year AND MONTH(t.date) = :month")
+                .setParameter("userId", user.getId())
+                .setParameter("year", 2026)
+                .setParameter("month", 1)
+                .getSingleResult();
+        String functionPlan = explain(SqlStatementCapture.statements().get(0));
+        assertFalse(indexCondition(functionPlan).contains("DATE >="), functionPlan);
+    }
+
+    @Test
+    @DisplayName("Net savings are one scalar aggregate over the user/date index, null when nothing matches")
+    void sumNetAmount_SingleScalarStatement() {
+        persist(Transaction.builder()
+                .amount(new BigDecimal("100.00"))
+                .date(LocalDate.of(2026, 1, 25))
+                .type(TransactionType.INCOME)
+                .user(user)
+                .category(categories.get(0))
+                .build());
+        persist(Transaction.builder()
+                .amount(new BigDecimal("30.00"))
+                .date(LocalDate.of(2026, 1, 26))
+                .type(TransactionType.EXPENSE)
+                .user(user)
+                .category(categories.get(1))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+        SqlStatementCapture.clear();
+
+        // Setup's transactions net to zero; the other user's expense is excluded
+        assertEquals(new BigDecimal("70.00"),
+                transactionRepository.sumNetAmountByUserIdAndDateFrom(user.getId(), LocalDate.of(2026, 1, 1)));
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(0, statistics().getEntityLoadCount());
+        String plan = explain(SqlStatementCapture.statements().get(0));
+        assertTrue(indexCondition(plan).contains("IDX_TRANSACTION_USER_DATE"), plan);
+
+        assertEquals(new BigDecimal("-30.00"),
+                transactionRepository.sumNetAmountByUserIdAndDateFrom(user.getId(), LocalDate.of(2026, 1, 26)));
+        assertNull(transactionRepository.sumNetAmountByUserIdAndDateFrom(user.getId(), LocalDate.of(2026, 1, 27)));
+    }
+
+    @Test
+    @DisplayName("Daily net amounts are grouped per day, oldest first, in one statement")
+    void findDailyNetAmounts_GroupedPerDay() {
+        persist(Transaction.builder()
+                .amount(new BigDecimal("100.00"))
+                .date(LocalDate.of(2026, 1, 20))
+                .type(TransactionType.INCOME)
+                .user(user)
+                .category(categories.get(0))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+
+        List<DailyNetAmount> days = transactionRepository.findDailyNetAmountsByUserIdAndDateFrom(
+                user.getId(), LocalDate.of(2026, 1, 19));
+
+        // Setup's two transactions per day net to zero
+        assertEquals(List.of(
+                new DailyNetAmount(LocalDate.of(2026, 1, 19), new BigDecimal("0.00"), 2L),
+                new DailyNetAmount(LocalDate.of(2026, 1, 20), new BigDecimal("100.00"), 3L)), days);
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(0, statistics().getEntityLoadCount());
+
+        List<DailyNetAmount> allDays = transactionRepository.findDailyNetAmountsByUserId(user.getId());
+        assertEquals(TRANSACTION_COUNT / 2, allDays.size());
+        assertEquals(LocalDate.of(2026, 1, 1), allDays.get(0).getDate());
+        assertEquals(days.get(1), allDays.get(allDays.size() - 1));
+    }
+
+    private void assertSingleStatementOnIndex(TransactionFilter filter, String index) {
+        statistics().clear();
+        SqlStatementCapture.clear();
+
+        transactionRepository.findPage(user.getId(), filter, TransactionCursor.FIRST, 10);
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        String sql = SqlStatementCapture.statements().get(0);
+        // Every value is bound, so each combination is a single reusable statement
+        assertFalse(sql.contains("2026") || sql.contains("%"), sql);
+        String plan = explain(sql);
+        assertTrue(plan.contains(index), plan);
+    }
+
+    private BigDecimal sumOf(List<CategoryTotal> totals) {
+        return totals.stream().map(CategoryTotal::getTotal).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Returns the index and condition H2 uses to read the transaction table,
+     * which its plans print as a comment after the table name.
+     */
+    private String indexCondition(String plan) {
+        int start = plan.indexOf("/*", plan.indexOf("\"PUBLIC\".\"TRANSACTION\""));
+        return plan.substring(start, plan.indexOf("*/", start));
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -6,6 +6,7 @@ import com.syfe.finance.dto.CreateCategoryRequest;
 import com.syfe.finance.entity.Category;
 import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.entity.User;
+import com.syfe.finance.event.CategoriesChangedEvent;
 import com.syfe.finance.exception.DuplicateResourceException;
 import com.syfe.finance.exception.ResourceNotFoundException;
 import com.syfe.finance.exception.UnauthorizedAccessException;
@@ -19,9 +20,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +40,9 @@ class CategoryServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -104,6 +110,7 @@ class CategoryServiceTest {
         assertEquals("Investments", response.getName());
         assertTrue(response.isCustom());
         verify(categoryRepository).save(any(Category.class));
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(user.getId()));
     }
 
     @Test
@@ -145,6 +152,7 @@ class CategoryServiceTest {
 
         assertDoesNotThrow(() -> categoryService.deleteCategory("Freelance", user));
         verify(categoryRepository).delete(customCategory);
+        verify(eventPublisher).publishEvent(new CategoriesChangedEvent(user.getId()));
     }
 
     @Test
@@ -209,4 +217,26 @@ class CategoryServiceTest {
         assertNotNull(result);
         assertEquals("Salary", result.getName());
     }
+
+    @Test
+    @DisplayName("Should resolve several category names in one query")
+    void findCategoriesByNamesForUser_Success() {
+        List<String> names = Arrays.asList("Salary", "Freelance", "Unknown");
+        when(categoryRepository.findByNameInAndUserIdOrDefault(names, user.getId()))
+                .thenReturn(Arrays.asList(defaultCategory, customCategory));
+
+        Map<String, Category> result = categoryService.findCategoriesByNamesForUser(names, user.getId());
+
+        assertEquals(2, result.size());
+        assertSame(defaultCategory, result.get("Salary"));
+        assertSame(customCategory, result.get("Freelance"));
+        assertFalse(result.containsKey("Unknown"));
+    }
+
+    @Test
+    @DisplayName("Should not query for an empty set of category names")
+    void findCategoriesByNamesForUser_Empty() {
+        assertTrue(categoryService.findCategoriesByNamesForUser(List.of(), user.getId()).isEmpty());
+        verifyNoInteractions(categoryRepository);
+    }
 }
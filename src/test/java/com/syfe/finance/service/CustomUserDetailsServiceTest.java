@@ -0,0 +1,79 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.entity.User;
+import com.syfe.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new CustomUserDetailsService(userRepository, Set.of("admin@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should grant only ROLE_USER to regular users")
+    void loadUserByUsername_RegularUser() {
+        when(userRepository.findByUsername("test@example.com"))
+                .thenReturn(Optional.of(user("test@example.com")));
+
+        UserDetails details = userDetailsService.loadUserByUsername("test@example.com");
+
+        assertEquals(Set.of("ROLE_USER"), authorities(details));
+    }
+
+    @Test
+    @DisplayName("Should also grant ROLE_ADMIN to configured admin usernames")
+    void loadUserByUsername_AdminUser() {
+        when(userRepository.findByUsername("admin@example.com"))
+                .thenReturn(Optional.of(user("admin@example.com")));
+
+        UserDetails details = userDetailsService.loadUserByUsername("admin@example.com");
+
+        assertEquals(Set.of("ROLE_USER", "ROLE_ADMIN"), authorities(details));
+    }
+
+    @Test
+    @DisplayName("Should throw when the username is unknown")
+    void loadUserByUsername_NotFound() {
+        when(userRepository.findByUsername("missing@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("missing@example.com"));
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .id(1L)
+                .username(username)
+                .password("encoded")
+                .build();
+    }
+
+    private static Set<String> authorities(UserDetails details) {
+        return details.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,69 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.event.CategoriesChangedEvent;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataVersionServiceTest {
+
+    private DataVersionService dataVersionService;
+
+    @BeforeEach
+    void setUp() {
+        dataVersionService = new DataVersionService();
+    }
+
+    @Test
+    @DisplayName("Should bump only the changed user's version on committed changes")
+    void onChanges_BumpsUserVersion() {
+        dataVersionService.onTransactionsChanged(TransactionsChangedEvent.of(1L,
+                TransactionChange.deleted(TransactionSnapshot.builder().id(5L).userId(1L).build())));
+        dataVersionService.onCategoriesChanged(new CategoriesChangedEvent(1L));
+
+        assertEquals(2, dataVersionService.currentVersion(1L));
+        assertEquals(0, dataVersionService.currentVersion(2L));
+    }
+
+    @Test
+    @DisplayName("Should produce a stable strong ETag until the data changes")
+    void etag_ChangesWithVersionAndVariant() {
+        String etag = dataVersionService.etag(1L, List.of(10));
+
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+        assertEquals(etag, dataVersionService.etag(1L, List.of(10)));
+        assertNotEquals(etag, dataVersionService.etag(1L, List.of(20)));
+        assertNotEquals(etag, dataVersionService.etag(2L, List.of(10)));
+
+        dataVersionService.bump(1L);
+        assertNotEquals(etag, dataVersionService.etag(1L, List.of(10)));
+    }
+
+    @Test
+    @DisplayName("Should tell apart variants whose joined text or String hash codes are equal")
+    void variantDigest_NoCollisions() {
+        // "Aa" and "BB" share a String hash code
+        assertNotEquals(DataVersionService.variantDigest(List.of("Aa")),
+                DataVersionService.variantDigest(List.of("BB")));
+        // A comma inside a value must not look like two values
+        assertNotEquals(DataVersionService.variantDigest(Arrays.asList("a, b", null)),
+                DataVersionService.variantDigest(Arrays.asList("a", "b")));
+        assertNotEquals(DataVersionService.variantDigest(Arrays.asList((Object) null)),
+                DataVersionService.variantDigest(List.of("null")));
+        assertEquals(22, DataVersionService.variantDigest(List.of("limit", 10)).length());
+    }
+
+    @Test
+    @DisplayName("Should never reuse ETags across restarts")
+    void etag_IncludesBootNonce() {
+        assertNotEquals(dataVersionService.etag(1L, null), new DataVersionService().etag(1L, null));
+    }
+}
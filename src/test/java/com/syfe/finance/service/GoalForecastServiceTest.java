@@ -0,0 +1,122 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalForecastResponse;
+import com.syfe.finance.entity.SavingsGoal;
+import com.syfe.finance.repository.MonthlyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalForecastServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    private GoalForecastService forecastService;
+
+    @BeforeEach
+    void setUp() {
+        forecastService = new GoalForecastService(monthlyRollupRepository, 3,
+                Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should average net savings over the trailing complete months, leaving out the current one")
+    void monthlySavingsRate_TrailingCompleteMonths() {
+        when(monthlyRollupRepository.sumNetOfMonthRange(1L, 2025, 12, 2026, 2)).thenReturn(new BigDecimal("3000.01"));
+
+        assertEquals(new BigDecimal("1000.00"), forecastService.monthlySavingsRate(1L));
+    }
+
+    @Test
+    @DisplayName("Should treat months without transactions as a zero rate")
+    void monthlySavingsRate_NoTransactions() {
+        when(monthlyRollupRepository.sumNetOfMonthRange(1L, 2025, 12, 2026, 2)).thenReturn(null);
+
+        assertEquals(new BigDecimal("0.00"), forecastService.monthlySavingsRate(1L));
+    }
+
+    @Test
+    @DisplayName("Should project completion at the current rate and the rate needed by the target date")
+    void forecast_OnTrack() {
+        SavingsGoal goal = goal(TODAY.plusYears(1));
+
+        GoalForecastResponse forecast = forecastService.forecast(goal, new BigDecimal("6000.00"),
+                new BigDecimal("1000.00"));
+
+        // Six average months of 30.436875 days, rounded up
+        assertEquals(TODAY.plusDays(183), forecast.getProjectedCompletionDate());
+        assertEquals(new BigDecimal("500.34"), forecast.getRequiredMonthlySavings());
+        assertTrue(forecast.getOnTrack());
+        assertEquals(3, forecast.getTrailingMonths());
+        assertEquals(1L, forecast.getGoalId());
+    }
+
+    @Test
+    @DisplayName("Should flag a goal that the current rate reaches only after its target date")
+    void forecast_Behind() {
+        GoalForecastResponse forecast = forecastService.forecast(goal(TODAY.plusMonths(2)),
+                new BigDecimal("6000.00"), new BigDecimal("1000.00"));
+
+        assertFalse(forecast.getOnTrack());
+        assertTrue(forecast.getRequiredMonthlySavings().compareTo(new BigDecimal("2900.00")) > 0);
+    }
+
+    @Test
+    @DisplayName("Should not project completion without positive savings")
+    void forecast_NoSavings() {
+        GoalForecastResponse forecast = forecastService.forecast(goal(TODAY.plusYears(1)),
+                new BigDecimal("6000.00"), new BigDecimal("-50.00"));
+
+        assertNull(forecast.getProjectedCompletionDate());
+        assertFalse(forecast.getOnTrack());
+
+        assertNull(forecastService.forecast(goal(TODAY.plusYears(1)), new BigDecimal("1000000000.00"),
+                new BigDecimal("0.01")).getProjectedCompletionDate());
+    }
+
+    @Test
+    @DisplayName("Should report reached goals as complete today")
+    void forecast_Reached() {
+        GoalForecastResponse forecast = forecastService.forecast(goal(TODAY.plusYears(1)),
+                new BigDecimal("0.00"), new BigDecimal("-50.00"));
+
+        assertEquals(TODAY, forecast.getProjectedCompletionDate());
+        assertEquals(new BigDecimal("0.00"), forecast.getRequiredMonthlySavings());
+        assertTrue(forecast.getOnTrack());
+    }
+
+    @Test
+    @DisplayName("Should require the whole remaining amount once the target date has passed")
+    void forecast_Overdue() {
+        GoalForecastResponse forecast = forecastService.forecast(goal(TODAY.minusDays(1)),
+                new BigDecimal("250.00"), new BigDecimal("1000.00"));
+
+        assertEquals(new BigDecimal("250.00"), forecast.getRequiredMonthlySavings());
+        assertFalse(forecast.getOnTrack());
+    }
+
+    private static SavingsGoal goal(LocalDate targetDate) {
+        return SavingsGoal.builder()
+                .id(1L)
+                .goalName("Emergency Fund")
+                .targetAmount(new BigDecimal("10000.00"))
+                .startDate(TODAY.minusMonths(6))
+                .targetDate(targetDate)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalProgressDrift;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.SavingsGoalRepository;
+import com.syfe.finance.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalProgressServiceTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+
+    @Mock
+    private SavingsGoalRepository savingsGoalRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private GoalProgressService goalProgressService;
+
+    @BeforeEach
+    void setUp() {
+        goalProgressService = new GoalProgressService(savingsGoalRepository, userRepository, true);
+    }
+
+    @Test
+    @DisplayName("Should add a single change to the goals started by its date, without reading goals")
+    void onTransactionsChanged_SingleDate() {
+        goalProgressService.onTransactionsChanged(TransactionsChangedEvent.of(1L,
+                TransactionChange.created(snapshot(1L, JANUARY.plusDays(5), "250.00", TransactionType.EXPENSE))));
+
+        InOrder inOrder = inOrder(userRepository, savingsGoalRepository);
+        inOrder.verify(userRepository).findAndLockById(1L);
+        inOrder.verify(savingsGoalRepository).addToNetSavingsStartedBy(1L, JANUARY.plusDays(5),
+                new BigDecimal("-250.00"));
+        verify(savingsGoalRepository, never()).findStartDatesByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Should move an edited amount by the difference only")
+    void onTransactionsChanged_UpdateNetsOut() {
+        goalProgressService.onTransactionsChanged(TransactionsChangedEvent.of(1L, TransactionChange.updated(
+                snapshot(1L, JANUARY, "100.00", TransactionType.INCOME),
+                snapshot(1L, JANUARY, "100.00", TransactionType.INCOME))));
+
+        verifyNoInteractions(savingsGoalRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("Should issue one update per interval between goal start dates that has changes")
+    void onTransactionsChanged_GroupsByStartDateInterval() {
+        when(savingsGoalRepository.findStartDatesByUserId(1L))
+                .thenReturn(List.of(JANUARY, JANUARY.plusDays(10), JANUARY.plusDays(20)));
+
+        goalProgressService.onTransactionsChanged(new TransactionsChangedEvent(1L, List.of(
+                // Before every goal
+                TransactionChange.created(snapshot(1L, JANUARY.minusDays(1), "999.00", TransactionType.INCOME)),
+                // First interval
+                TransactionChange.created(snapshot(2L, JANUARY, "100.00", TransactionType.INCOME)),
+                TransactionChange.created(snapshot(3L, JANUARY.plusDays(9), "30.00", TransactionType.EXPENSE)),
+                // Backdated from the last interval into the second
+                TransactionChange.updated(snapshot(4L, JANUARY.plusDays(25), "50.00", TransactionType.INCOME),
+                        snapshot(4L, JANUARY.plusDays(12), "50.00", TransactionType.INCOME)))));
+
+        verify(savingsGoalRepository).addToNetSavingsStartedBy(1L, JANUARY, new BigDecimal("70.00"));
+        verify(savingsGoalRepository).addToNetSavingsStartedBy(1L, JANUARY.plusDays(10), new BigDecimal("50.00"));
+        verify(savingsGoalRepository).addToNetSavingsStartedBy(1L, JANUARY.plusDays(20), new BigDecimal("-50.00"));
+        verify(savingsGoalRepository, times(3)).addToNetSavingsStartedBy(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should flag and correct drifted goals")
+    void checkConsistency_RepairsDrift() {
+        GoalProgressDrift drift = new GoalProgressDrift(7L, 1L, new BigDecimal("10.00"), new BigDecimal("25.00"));
+        when(savingsGoalRepository.findNetSavingsDrift()).thenReturn(List.of(drift));
+
+        assertEquals(List.of(drift), goalProgressService.checkConsistency());
+        verify(savingsGoalRepository).correctNetSavings(7L, new BigDecimal("10.00"), new BigDecimal("25.00"));
+    }
+
+    @Test
+    @DisplayName("Should only flag drift when repair is disabled")
+    void checkConsistency_ReportOnly() {
+        goalProgressService = new GoalProgressService(savingsGoalRepository, userRepository, false);
+        when(savingsGoalRepository.findNetSavingsDrift()).thenReturn(List.of(
+                new GoalProgressDrift(7L, 1L, new BigDecimal("10.00"), new BigDecimal("25.00"))));
+
+        assertEquals(1, goalProgressService.checkConsistency().size());
+        verify(savingsGoalRepository, never()).correctNetSavings(any(), any(), any());
+    }
+
+    private static TransactionSnapshot snapshot(long id, LocalDate date, String amount, TransactionType type) {
+        return TransactionSnapshot.builder()
+                .id(id)
+                .userId(1L)
+                .categoryId(10L)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .build();
+    }
+}
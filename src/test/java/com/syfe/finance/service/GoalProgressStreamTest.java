@@ -0,0 +1,291 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalListResponse;
+import com.syfe.finance.dto.GoalProgressUpdate;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.exception.ServiceBusyException;
+import com.syfe.finance.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalProgressStreamTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 15);
+    private static final int OUTBOX_CAPACITY = 2;
+
+    @Mock
+    private SavingsGoalService savingsGoalService;
+
+    private GoalProgressStream stream;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Runs pushes on the calling thread
+        stream = streamWith(Runnable::run, 2);
+        user = User.builder().id(1L).username("test@example.com").build();
+    }
+
+    @Test
+    @DisplayName("Should register a subscriber after loading its goal list")
+    void subscribe_SendsGoalList() {
+        when(savingsGoalService.getAllGoals(user)).thenReturn(new GoalListResponse(new ArrayList<>()));
+
+        assertNotNull(stream.subscribe(user));
+
+        assertEquals(1, stream.subscriberCount());
+        verify(savingsGoalService).getAllGoals(user);
+    }
+
+    @Test
+    @DisplayName("Should reject subscribers beyond the limit")
+    void subscribe_TooManySubscribers() {
+        when(savingsGoalService.getAllGoals(user)).thenReturn(new GoalListResponse(new ArrayList<>()));
+        stream.subscribe(user);
+        stream.subscribe(user);
+
+        assertThrows(ServiceBusyException.class, () -> stream.subscribe(user));
+        assertEquals(2, stream.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should not keep a subscriber whose goal list failed to load")
+    void subscribe_GoalListFails() {
+        when(savingsGoalService.getAllGoals(user)).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> stream.subscribe(user));
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should ignore changes of users without subscribers")
+    void onTransactionsChanged_NoSubscribers() {
+        stream.onTransactionsChanged(income(DAY, "100.00"));
+
+        verifyNoInteractions(savingsGoalService);
+    }
+
+    @Test
+    @DisplayName("Should look up the goals moved by a subscriber's changes")
+    void onTransactionsChanged_PushesUpdates() {
+        when(savingsGoalService.getAllGoals(user)).thenReturn(new GoalListResponse(new ArrayList<>()));
+        when(savingsGoalService.getProgressUpdates(any(), any())).thenReturn(List.of(GoalProgressUpdate.builder()
+                .goalId(7L)
+                .currentProgress(new BigDecimal("100.00"))
+                .progressChange(new BigDecimal("100.00"))
+                .build()));
+        stream.subscribe(user);
+
+        stream.onTransactionsChanged(income(DAY, "100.00"));
+
+        verify(savingsGoalService).getProgressUpdates(1L, new TreeMap<>(Map.of(DAY, new BigDecimal("100.00"))));
+        assertEquals(1, stream.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should close the user's streams when the push queue is full")
+    void onTransactionsChanged_QueueFull() {
+        stream = streamWith(task -> {
+            throw new RejectedExecutionException("full");
+        }, 2);
+        when(savingsGoalService.getAllGoals(user)).thenReturn(new GoalListResponse(new ArrayList<>()));
+        stream.subscribe(user);
+
+        stream.onTransactionsChanged(income(DAY, "100.00"));
+
+        assertEquals(0, stream.subscriberCount());
+        verify(savingsGoalService, never()).getProgressUpdates(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should read progress for a push only after the ledger applied the commit")
+    void onTransactionsChanged_AfterLedger() {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        when(transactionRepository.findDailyNetAmountsByUserId(1L)).thenReturn(List.of());
+        NetSavingsLedgerStore ledgerStore = new NetSavingsLedgerStore(transactionRepository, Duration.ofMinutes(30));
+        ledgerStore.netSince(1L, DAY);
+        when(savingsGoalService.getAllGoals(user)).thenReturn(new GoalListResponse(new ArrayList<>()));
+        List<BigDecimal> readNet = new ArrayList<>();
+        when(savingsGoalService.getProgressUpdates(any(), any())).thenAnswer(invocation -> {
+            readNet.add(ledgerStore.netSince(1L, DAY));
+            return List.of();
+        });
+        stream.subscribe(user);
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(TransactionalEventListenerFactory.class);
+            // The stream registers first, so only the listeners' order puts the ledger ahead
+            context.registerBean(GoalProgressStream.class, () -> stream);
+            context.registerBean(NetSavingsLedgerStore.class, () -> ledgerStore);
+            context.refresh();
+
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                context.publishEvent(income(DAY, "100.00"));
+                List<TransactionSynchronization> synchronizations =
+                        TransactionSynchronizationManager.getSynchronizations();
+                synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+                synchronizations.forEach(synchronization ->
+                        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        }
+
+        assertEquals(List.of(new BigDecimal("100.00")), readNet);
+    }
+
+    @Test
+    @DisplayName("Should keep serving other subscribers while one client stalls, and close the stalled stream")
+    void onTransactionsChanged_SlowClient() throws Exception {
+        ExecutorService senders = Executors.newFixedThreadPool(2);
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            RecordingEmitter slow = new RecordingEmitter(stalled, release);
+            RecordingEmitter fast = new RecordingEmitter(null, null);
+            Deque<SseEmitter> emitters = new ArrayDeque<>(List.of(slow, fast));
+            stream = new GoalProgressStream(savingsGoalService, Runnable::run, senders,
+                    timeout -> emitters.remove(), Duration.ofMinutes(30), 2, OUTBOX_CAPACITY);
+            User otherUser = User.builder().id(2L).username("other@example.com").build();
+            when(savingsGoalService.getAllGoals(any())).thenReturn(new GoalListResponse(new ArrayList<>()));
+            when(savingsGoalService.getProgressUpdates(any(), any())).thenReturn(List.of(GoalProgressUpdate.builder()
+                    .goalId(7L)
+                    .currentProgress(new BigDecimal("100.00"))
+                    .progressChange(new BigDecimal("100.00"))
+                    .build()));
+            stream.subscribe(user);
+            stream.subscribe(otherUser);
+
+            // The slow client's sender blocks on its first update
+            stream.onTransactionsChanged(income(1L, DAY, "100.00"));
+            assertTrue(stalled.await(10, TimeUnit.SECONDS));
+            // The goal list, then each update
+            fast.awaitEvents(1);
+            for (int i = 0; i < 3; i++) {
+                stream.onTransactionsChanged(income(2L, DAY, "100.00"));
+                fast.awaitEvents(2 + i);
+            }
+
+            // Fills the stalled stream's outbox, then overflows it
+            for (int i = 0; i <= OUTBOX_CAPACITY; i++) {
+                stream.onTransactionsChanged(income(1L, DAY, "100.00"));
+            }
+            assertEquals(1, stream.subscriberCount());
+            stream.onTransactionsChanged(income(2L, DAY, "100.00"));
+            fast.awaitEvents(5);
+
+            release.countDown();
+            assertTrue(slow.completed.await(10, TimeUnit.SECONDS));
+            assertEquals(2, slow.events.get());
+            assertFalse(fast.isCompleted());
+        } finally {
+            release.countDown();
+            senders.shutdownNow();
+        }
+    }
+
+    private GoalProgressStream streamWith(Executor executor, int maxSubscribers) {
+        return new GoalProgressStream(savingsGoalService, executor, Runnable::run, SseEmitter::new,
+                Duration.ofMinutes(30), maxSubscribers, OUTBOX_CAPACITY);
+    }
+
+    private static TransactionsChangedEvent income(LocalDate date, String amount) {
+        return income(1L, date, amount);
+    }
+
+    private static TransactionsChangedEvent income(Long userId, LocalDate date, String amount) {
+        return TransactionsChangedEvent.of(userId, TransactionChange.created(TransactionSnapshot.builder()
+                .id(1L)
+                .userId(userId)
+                .categoryId(1L)
+                .type(TransactionType.INCOME)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .build()));
+    }
+
+    /**
+     * Counts the events sent to it and, if given latches, stalls on the first
+     * event after the goal list like a client that stopped reading.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch stalled;
+        private final CountDownLatch release;
+        private final AtomicInteger events = new AtomicInteger();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private RecordingEmitter(CountDownLatch stalled, CountDownLatch release) {
+            this.stalled = stalled;
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (events.incrementAndGet() == 2 && stalled != null) {
+                stalled.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        boolean isCompleted() {
+            return completed.getCount() == 0;
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (events.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(count, events.get());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.GoalSimulationBand;
+import com.syfe.finance.dto.GoalSimulationRequest;
+import com.syfe.finance.dto.GoalSimulationResponse;
+import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.entity.SavingsGoal;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.exception.ServiceBusyException;
+import com.syfe.finance.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GoalSimulationServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private ReportService reportService;
+
+    private GoalSimulationService simulationService;
+    private SavingsGoal goal;
+
+    @BeforeEach
+    void setUp() {
+        simulationService = serviceWith(Runnable::run);
+        goal = SavingsGoal.builder()
+                .id(1L)
+                .goalName("Emergency Fund")
+                .targetAmount(new BigDecimal("800.00"))
+                .startDate(TODAY.minusMonths(6))
+                .targetDate(TODAY.plusMonths(3).plusDays(15))
+                .user(User.builder().id(1L).username("test@example.com").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should draw months from the trailing history since the first active month")
+    void simulate_TrailingHistory() {
+        // Nothing before November, then 200.00 saved every month
+        when(reportService.getYearlyReport(1L, 2025, true)).thenReturn(year(2025, 11, "200.00"));
+        when(reportService.getYearlyReport(1L, 2026, true)).thenReturn(year(2026, 1, "200.00"));
+
+        GoalSimulationResponse response = simulationService.simulate(goal, new BigDecimal("100.00"),
+                GoalSimulationRequest.builder().paths(500).seed(7L).build());
+
+        // November to February
+        assertEquals(4, response.getHistoryMonths());
+        assertEquals(500, response.getPaths());
+        assertEquals(7L, response.getSeed());
+        // 100.00 + 3 * 200.00 + 15/30 * 200.00 reaches 800.00 on the target date only
+        assertEquals(1.0, response.getProbability());
+        List<GoalSimulationBand> bands = response.getBands();
+        assertEquals(4, bands.size());
+        assertEquals(TODAY.plusMonths(1), bands.get(0).getDate());
+        assertEquals(new BigDecimal("300.00"), bands.get(0).getP50());
+        assertEquals(goal.getTargetDate(), bands.get(3).getDate());
+        assertEquals(new BigDecimal("800.00"), bands.get(3).getP5());
+    }
+
+    @Test
+    @DisplayName("Should give the same result for the same seed")
+    void simulate_Reproducible() {
+        when(reportService.getYearlyReport(1L, 2025, true)).thenReturn(year(2025, 1, "150.00"));
+        YearlyReportResponse thisYear = year(2026, 1, "150.00");
+        thisYear.getMonths().set(0, month(2026, 1, "-400.00"));
+        when(reportService.getYearlyReport(1L, 2026, true)).thenReturn(thisYear);
+        GoalSimulationRequest request = GoalSimulationRequest.builder().paths(2000).seed(42L).build();
+
+        // Reached unless one of the four drawn months is the January loss
+        GoalSimulationResponse first = simulationService.simulate(goal, new BigDecimal("300.00"), request);
+        GoalSimulationResponse second = simulationService.simulate(goal, new BigDecimal("300.00"), request);
+
+        assertEquals(first.getProbability(), second.getProbability());
+        assertEquals(first.getBands(), second.getBands());
+        assertEquals(Math.pow(11.0 / 12, 4), first.getProbability(), 0.05);
+    }
+
+    @Test
+    @DisplayName("Should reject more paths than allowed")
+    void simulate_TooManyPaths() {
+        assertThrows(ValidationException.class, () -> simulationService.simulate(goal, BigDecimal.ZERO,
+                GoalSimulationRequest.builder().paths(1_000_001).build()));
+        verifyNoInteractions(reportService);
+    }
+
+    @Test
+    @DisplayName("Should reject goals whose target date has passed")
+    void simulate_TargetDatePassed() {
+        goal.setTargetDate(TODAY);
+
+        assertThrows(ValidationException.class,
+                () -> simulationService.simulate(goal, BigDecimal.ZERO, new GoalSimulationRequest()));
+    }
+
+    @Test
+    @DisplayName("Should report a saturated simulation pool as busy")
+    void simulate_PoolSaturated() {
+        simulationService = serviceWith(task -> {
+            throw new RejectedExecutionException("full");
+        });
+        when(reportService.getYearlyReport(eq(1L), anyInt(), eq(true))).thenReturn(year(2025, 1, "0.00"));
+
+        assertThrows(ServiceBusyException.class,
+                () -> simulationService.simulate(goal, BigDecimal.ZERO, new GoalSimulationRequest()));
+    }
+
+    private GoalSimulationService serviceWith(Executor executor) {
+        return new GoalSimulationService(reportService, executor, 12, 1000, 1_000_000, 12,
+                Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    /**
+     * A yearly report with the given net savings in every month from
+     * {@code firstActiveMonth} and no transactions before it.
+     */
+    private static YearlyReportResponse year(int year, int firstActiveMonth, String monthlyNet) {
+        List<MonthlyReportResponse> months = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            months.add(month >= firstActiveMonth
+                    ? month(year, month, monthlyNet)
+                    : MonthlyReportResponse.builder()
+                            .year(year)
+                            .month(month)
+                            .totalIncome(new HashMap<>())
+                            .totalExpenses(new HashMap<>())
+                            .netSavings(BigDecimal.ZERO)
+                            .build());
+        }
+        return YearlyReportResponse.builder().year(year).months(months).build();
+    }
+
+    private static MonthlyReportResponse month(int year, int month, String net) {
+        BigDecimal amount = new BigDecimal(net);
+        Map<String, BigDecimal> totals = new HashMap<>(Map.of("Salary", amount.abs()));
+        return MonthlyReportResponse.builder()
+                .year(year)
+                .month(month)
+                .totalIncome(amount.signum() >= 0 ? totals : new HashMap<>())
+                .totalExpenses(amount.signum() < 0 ? totals : new HashMap<>())
+                .netSavings(amount)
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.DailyNetAmount;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NetSavingsLedgerStoreTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private NetSavingsLedgerStore ledgerStore;
+
+    @BeforeEach
+    void setUp() {
+        ledgerStore = new NetSavingsLedgerStore(transactionRepository, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Should build a user's ledger once from daily totals and answer later lookups from memory")
+    void netSince_BuildsLedgerLazilyOnce() {
+        when(transactionRepository.findDailyNetAmountsByUserId(1L)).thenReturn(List.of(
+                new DailyNetAmount(JANUARY, new BigDecimal("5000.00"), 1L),
+                new DailyNetAmount(JANUARY.plusDays(10), new BigDecimal("-200.00"), 2L)));
+
+        assertEquals(new BigDecimal("4800.00"), ledgerStore.netSince(1L, JANUARY));
+        assertEquals(new BigDecimal("-200.00"), ledgerStore.netSince(1L, JANUARY.plusDays(1)));
+        assertEquals(BigDecimal.ZERO, ledgerStore.netSince(1L, JANUARY.plusDays(11)));
+        verify(transactionRepository, times(1)).findDailyNetAmountsByUserId(1L);
+        assertEquals(1, ledgerStore.loadedLedgerCount());
+    }
+
+    @Test
+    @DisplayName("Should apply committed creates, backdated updates and deletes to a loaded ledger")
+    void onTransactionsChanged_UpdatesLoadedLedger() {
+        when(transactionRepository.findDailyNetAmountsByUserId(1L)).thenReturn(List.of(
+                new DailyNetAmount(JANUARY, new BigDecimal("5000.00"), 1L)));
+        ledgerStore.netSince(1L, JANUARY);
+
+        commit(new TransactionsChangedEvent(1L, List.of(
+                TransactionChange.updated(snapshot(1L, JANUARY, "5000.00", TransactionType.INCOME),
+                        snapshot(1L, JANUARY.minusMonths(2), "4000.00", TransactionType.INCOME)),
+                TransactionChange.created(snapshot(2L, JANUARY.plusDays(5), "250.00", TransactionType.EXPENSE)))));
+
+        assertEquals(new BigDecimal("3750.00"), ledgerStore.netSince(1L, JANUARY.minusMonths(2)));
+        assertEquals(new BigDecimal("-250.00"), ledgerStore.netSince(1L, JANUARY));
+
+        commit(TransactionsChangedEvent.of(1L,
+                TransactionChange.deleted(snapshot(2L, JANUARY.plusDays(5), "250.00", TransactionType.EXPENSE))));
+
+        assertEquals(BigDecimal.ZERO, ledgerStore.netSince(1L, JANUARY));
+        verify(transactionRepository, times(1)).findDailyNetAmountsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should drop a ledger a change could not be applied to, leaving it untouched until rebuilt")
+    void onTransactionsChanged_FailedChangeDropsLedger() {
+        when(transactionRepository.findDailyNetAmountsByUserId(1L))
+                .thenReturn(List.of(new DailyNetAmount(JANUARY, new BigDecimal("5000.00"), 1L)))
+                .thenReturn(List.of(new DailyNetAmount(JANUARY, new BigDecimal("4000.01"), 1L)));
+        ledgerStore.netSince(1L, JANUARY);
+
+        // The before version is valid and comes first, so it would be applied alone without the up-front check
+        commit(TransactionsChangedEvent.of(1L, TransactionChange.updated(
+                snapshot(1L, JANUARY, "5000.00", TransactionType.INCOME),
+                snapshot(1L, JANUARY, "4000.005", TransactionType.INCOME))));
+
+        assertEquals(0, ledgerStore.loadedLedgerCount());
+        assertEquals(new BigDecimal("4000.01"), ledgerStore.netSince(1L, JANUARY));
+        verify(transactionRepository, times(2)).findDailyNetAmountsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes of users whose ledger is not loaded")
+    void onTransactionsChanged_NotLoaded() {
+        commit(TransactionsChangedEvent.of(1L,
+                TransactionChange.created(snapshot(2L, JANUARY, "250.00", TransactionType.INCOME))));
+
+        assertEquals(0, ledgerStore.loadedLedgerCount());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should not keep a ledger built while a change to the same user was committing")
+    void netSince_BuiltDuringCommitNotCached() {
+        TransactionsChangedEvent event = TransactionsChangedEvent.of(1L,
+                TransactionChange.created(snapshot(2L, JANUARY, "250.00", TransactionType.INCOME)));
+        ledgerStore.beforeTransactionsCommit(event);
+        // Already committed, so the daily totals include the change not applied yet
+        when(transactionRepository.findDailyNetAmountsByUserId(1L)).thenReturn(List.of(
+                new DailyNetAmount(JANUARY, new BigDecimal("250.00"), 1L)));
+
+        assertEquals(new BigDecimal("250.00"), ledgerStore.netSince(1L, JANUARY));
+        assertEquals(0, ledgerStore.loadedLedgerCount());
+
+        ledgerStore.onTransactionsChanged(event);
+        ledgerStore.afterTransactionsCompletion(event);
+        assertEquals(new BigDecimal("250.00"), ledgerStore.netSince(1L, JANUARY));
+        assertEquals(1, ledgerStore.loadedLedgerCount());
+    }
+
+    @Test
+    @DisplayName("Should not keep a ledger built while a change to the same user committed")
+    void netSince_ConcurrentChangeNotCached() {
+        when(transactionRepository.findDailyNetAmountsByUserId(1L)).thenAnswer(invocation -> {
+            commit(TransactionsChangedEvent.of(1L,
+                    TransactionChange.created(snapshot(2L, JANUARY, "250.00", TransactionType.INCOME))));
+            return List.of();
+        });
+
+        ledgerStore.netSince(1L, JANUARY);
+
+        assertEquals(0, ledgerStore.loadedLedgerCount());
+    }
+
+    @Test
+    @DisplayName("Should ignore completion of a write that rolled back before commit")
+    void afterTransactionsCompletion_Unmarked() {
+        ledgerStore.afterTransactionsCompletion(TransactionsChangedEvent.of(1L,
+                TransactionChange.created(snapshot(2L, JANUARY, "250.00", TransactionType.INCOME))));
+        when(transactionRepository.findDailyNetAmountsByUserId(1L)).thenReturn(List.of());
+
+        ledgerStore.netSince(1L, JANUARY);
+
+        assertEquals(1, ledgerStore.loadedLedgerCount());
+    }
+
+    @Test
+    @DisplayName("Should drop ledgers of idle users")
+    void evictIdleLedgers_DropsIdle() {
+        ledgerStore = new NetSavingsLedgerStore(transactionRepository, Duration.ZERO);
+        when(transactionRepository.findDailyNetAmountsByUserId(1L)).thenReturn(List.of());
+        ledgerStore.netSince(1L, JANUARY);
+
+        ledgerStore.evictIdleLedgers();
+
+        assertEquals(0, ledgerStore.loadedLedgerCount());
+    }
+
+    private void commit(TransactionsChangedEvent event) {
+        ledgerStore.beforeTransactionsCommit(event);
+        ledgerStore.onTransactionsChanged(event);
+        ledgerStore.afterTransactionsCompletion(event);
+    }
+
+    private static TransactionSnapshot snapshot(long id, LocalDate date, String amount, TransactionType type) {
+        return TransactionSnapshot.builder()
+                .id(id)
+                .userId(1L)
+                .categoryId(10L)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .build();
+    }
+}
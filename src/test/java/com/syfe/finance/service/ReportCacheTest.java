@@ -0,0 +1,146 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.CacheStatsResponse;
+import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+
+    private ReportCache reportCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        reportCache = new ReportCache(100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load a report once and then serve it from the cache")
+    void monthly_LoadsOnce() {
+        MonthlyReportResponse first = monthly(USER_ID, 2026, 1);
+        MonthlyReportResponse second = monthly(USER_ID, 2026, 1);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        CacheStatsResponse stats = reportCache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    @DisplayName("Should invalidate only the month and year of a committed change")
+    void onTransactionsChanged_InvalidatesAffectedPeriods() {
+        monthly(USER_ID, 2026, 1);
+        monthly(USER_ID, 2026, 2);
+        yearly(USER_ID, 2026);
+        yearly(USER_ID, 2025);
+        monthly(OTHER_USER_ID, 2026, 1);
+
+        reportCache.onTransactionsChanged(TransactionsChangedEvent.of(USER_ID,
+                TransactionChange.created(snapshot(LocalDate.of(2026, 1, 15)))));
+        loads.set(0);
+
+        monthly(USER_ID, 2026, 1);
+        yearly(USER_ID, 2026);
+        assertEquals(2, loads.get());
+
+        monthly(USER_ID, 2026, 2);
+        yearly(USER_ID, 2025);
+        monthly(OTHER_USER_ID, 2026, 1);
+        assertEquals(2, loads.get());
+        assertEquals(2, reportCache.stats().getInvalidations());
+    }
+
+    @Test
+    @DisplayName("Should cache yearly reports with and without breakdown separately and invalidate both")
+    void yearly_BreakdownVariants() {
+        YearlyReportResponse plain = yearly(USER_ID, 2026, false);
+        YearlyReportResponse detailed = yearly(USER_ID, 2026, true);
+        assertNotSame(plain, detailed);
+        assertSame(detailed, yearly(USER_ID, 2026, true));
+        assertEquals(2, loads.get());
+
+        reportCache.onTransactionsChanged(TransactionsChangedEvent.of(USER_ID,
+                TransactionChange.deleted(snapshot(LocalDate.of(2026, 7, 4)))));
+
+        yearly(USER_ID, 2026, false);
+        yearly(USER_ID, 2026, true);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should invalidate the periods of both the old and the new state of an update")
+    void onTransactionsChanged_UpdateInvalidatesBothSides() {
+        monthly(USER_ID, 2025, 12);
+        monthly(USER_ID, 2026, 1);
+
+        reportCache.onTransactionsChanged(TransactionsChangedEvent.of(USER_ID, TransactionChange.updated(
+                snapshot(LocalDate.of(2025, 12, 31)), snapshot(LocalDate.of(2026, 1, 1)))));
+        loads.set(0);
+
+        monthly(USER_ID, 2025, 12);
+        monthly(USER_ID, 2026, 1);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not keep a report computed while a change was committed")
+    void monthly_DiscardsReportRacingWithInvalidation() {
+        MonthlyReportResponse stale = reportCache.monthly(USER_ID, 2026, 1, () -> {
+            reportCache.onTransactionsChanged(TransactionsChangedEvent.of(USER_ID,
+                    TransactionChange.created(snapshot(LocalDate.of(2026, 1, 15)))));
+            return MonthlyReportResponse.builder().month(1).year(2026).build();
+        });
+
+        assertNotSame(stale, monthly(USER_ID, 2026, 1));
+        assertEquals(1, loads.get());
+    }
+
+    private MonthlyReportResponse monthly(Long userId, int year, int month) {
+        return reportCache.monthly(userId, year, month, () -> {
+            loads.incrementAndGet();
+            return MonthlyReportResponse.builder().month(month).year(year).build();
+        });
+    }
+
+    private YearlyReportResponse yearly(Long userId, int year) {
+        return yearly(userId, year, false);
+    }
+
+    private YearlyReportResponse yearly(Long userId, int year, boolean breakdown) {
+        return reportCache.yearly(userId, year, breakdown, () -> {
+            loads.incrementAndGet();
+            return YearlyReportResponse.builder().year(year).build();
+        });
+    }
+
+    private TransactionSnapshot snapshot(LocalDate date) {
+        return TransactionSnapshot.builder()
+                .id(10L)
+                .userId(USER_ID)
+                .categoryId(1L)
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("10.00"))
+                .date(date)
+                .build();
+    }
+}
@@ -0,0 +1,298 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.RangeReportResponse;
+import com.syfe.finance.dto.ReportJobRequest;
+import com.syfe.finance.dto.ReportJobResponse;
+import com.syfe.finance.dto.ReportJobStatus;
+import com.syfe.finance.dto.ReportJobType;
+import com.syfe.finance.dto.TrendReportResponse;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.exception.ResourceNotFoundException;
+import com.syfe.finance.exception.ServiceBusyException;
+import com.syfe.finance.exception.UnauthorizedAccessException;
+import com.syfe.finance.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration RESULT_TTL = Duration.ofMinutes(30);
+    private static final int MAX_JOBS_PER_USER = 3;
+    private static final int MAX_JOBS = 5;
+
+    @Mock
+    private ReportService reportService;
+
+    @Mock
+    private TrendReportService trendReportService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Holds submitted jobs until the test runs them
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-15T10:00:00Z"));
+    private ReportJobService reportJobService;
+
+    @BeforeEach
+    void setUp() {
+        reportJobService = new ReportJobService(reportService, trendReportService, transactionManager,
+                queue::add, RESULT_TTL, MAX_JOBS_PER_USER, MAX_JOBS, clock);
+    }
+
+    @Test
+    @DisplayName("Should queue a job and return its id without generating the report")
+    void submit_QueuesJob() {
+        ReportJobResponse response = reportJobService.submit(USER_ID, monthlyRequest());
+
+        assertNotNull(response.getId());
+        assertEquals(ReportJobType.MONTHLY, response.getType());
+        assertEquals(ReportJobStatus.QUEUED, response.getStatus());
+        assertEquals(clock.instant(), response.getSubmittedAt());
+        assertNull(response.getResult());
+        assertEquals(1, queue.size());
+        verifyNoInteractions(reportService);
+    }
+
+    @Test
+    @DisplayName("Should report the result once the job has run, in a read-only transaction")
+    void getJob_Succeeded() {
+        MonthlyReportResponse report = MonthlyReportResponse.builder()
+                .month(1).year(2026).netSavings(new BigDecimal("100.00")).build();
+        when(reportService.getMonthlyReport(USER_ID, 2026, 1)).thenReturn(report);
+        String jobId = reportJobService.submit(USER_ID, monthlyRequest()).getId();
+
+        clock.advance(Duration.ofSeconds(5));
+        queue.remove().run();
+        ReportJobResponse response = reportJobService.getJob(USER_ID, jobId);
+
+        assertEquals(ReportJobStatus.SUCCEEDED, response.getStatus());
+        assertSame(report, response.getResult());
+        assertEquals(clock.instant(), response.getCompletedAt());
+        assertEquals(clock.instant().plus(RESULT_TTL), response.getExpiresAt());
+        assertNull(response.getError());
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("Should pass the range and trend parameters through")
+    void getJob_RangeAndTrend() {
+        RangeReportResponse range = RangeReportResponse.builder().build();
+        TrendReportResponse trend = TrendReportResponse.builder().build();
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        when(reportService.getRangeReport(USER_ID, from, to)).thenReturn(range);
+        when(trendReportService.getTrendReport(eq(USER_ID), eq(2010), eq(2025), any(Executor.class)))
+                .thenReturn(trend);
+
+        String rangeJob = reportJobService.submit(USER_ID, ReportJobRequest.builder()
+                .type(ReportJobType.RANGE).from(from).to(to).build()).getId();
+        String trendJob = reportJobService.submit(USER_ID, ReportJobRequest.builder()
+                .type(ReportJobType.TREND).fromYear(2010).toYear(2025).build()).getId();
+        queue.forEach(Runnable::run);
+
+        assertSame(range, reportJobService.getJob(USER_ID, rangeJob).getResult());
+        assertSame(trend, reportJobService.getJob(USER_ID, trendJob).getResult());
+    }
+
+    @Test
+    @DisplayName("Should run the years of a trend job on the job thread, never on the interactive report pool")
+    void getJob_TrendStaysOffReportExecutor() {
+        ExecutorService reportExecutor = mock(ExecutorService.class);
+        reportJobService = new ReportJobService(reportService,
+                new TrendReportService(reportService, transactionManager, reportExecutor), transactionManager,
+                queue::add, RESULT_TTL, MAX_JOBS_PER_USER, MAX_JOBS, clock);
+        Thread jobThread = Thread.currentThread();
+        when(reportService.getYearlyReport(eq(USER_ID), anyInt())).thenAnswer(invocation -> {
+            assertSame(jobThread, Thread.currentThread());
+            return YearlyReportResponse.builder()
+                    .year(invocation.getArgument(1))
+                    .totalIncome(Map.of())
+                    .totalExpenses(Map.of())
+                    .netSavings(BigDecimal.ZERO)
+                    .build();
+        });
+
+        String jobId = reportJobService.submit(USER_ID, ReportJobRequest.builder()
+                .type(ReportJobType.TREND).fromYear(2020).toYear(2025).build()).getId();
+        queue.remove().run();
+
+        ReportJobResponse response = reportJobService.getJob(USER_ID, jobId);
+        assertEquals(ReportJobStatus.SUCCEEDED, response.getStatus());
+        assertEquals(6, ((TrendReportResponse) response.getResult()).getYears().size());
+        verify(reportService, times(6)).getYearlyReport(eq(USER_ID), anyInt());
+        verifyNoInteractions(reportExecutor);
+    }
+
+    @Test
+    @DisplayName("Should mark the job failed with the validation message")
+    void getJob_FailedValidation() {
+        when(reportService.getMonthlyReport(USER_ID, 2026, 1))
+                .thenThrow(new ValidationException("Month must be between 1 and 12"));
+        String jobId = reportJobService.submit(USER_ID, monthlyRequest()).getId();
+
+        queue.remove().run();
+        ReportJobResponse response = reportJobService.getJob(USER_ID, jobId);
+
+        assertEquals(ReportJobStatus.FAILED, response.getStatus());
+        assertEquals("Month must be between 1 and 12", response.getError());
+        assertNull(response.getResult());
+    }
+
+    @Test
+    @DisplayName("Should hide the cause of unexpected failures")
+    void getJob_FailedUnexpectedly() {
+        when(reportService.getMonthlyReport(USER_ID, 2026, 1)).thenThrow(new IllegalStateException("boom"));
+        String jobId = reportJobService.submit(USER_ID, monthlyRequest()).getId();
+
+        queue.remove().run();
+
+        assertEquals("Report generation failed", reportJobService.getJob(USER_ID, jobId).getError());
+    }
+
+    @Test
+    @DisplayName("Should reject jobs beyond the per-user cap until the user's jobs expire")
+    void submit_PerUserCap() {
+        for (int i = 0; i < MAX_JOBS_PER_USER; i++) {
+            reportJobService.submit(USER_ID, monthlyRequest());
+        }
+        queue.forEach(Runnable::run);
+
+        assertThrows(ServiceBusyException.class, () -> reportJobService.submit(USER_ID, monthlyRequest()));
+        // Other users are not affected
+        reportJobService.submit(2L, monthlyRequest());
+
+        clock.advance(RESULT_TTL);
+        reportJobService.submit(USER_ID, monthlyRequest());
+        assertEquals(2, reportJobService.size());
+    }
+
+    @Test
+    @DisplayName("Should reject jobs beyond the total cap")
+    void submit_TotalCap() {
+        for (int i = 0; i < MAX_JOBS; i++) {
+            reportJobService.submit(USER_ID + i, monthlyRequest());
+        }
+
+        assertThrows(ServiceBusyException.class, () -> reportJobService.submit(USER_ID + MAX_JOBS,
+                monthlyRequest()));
+        assertEquals(MAX_JOBS, reportJobService.size());
+        assertEquals(MAX_JOBS, queue.size());
+    }
+
+    @Test
+    @DisplayName("Should reject a request missing a field its type needs")
+    void submit_MissingField() {
+        ReportJobRequest request = ReportJobRequest.builder().type(ReportJobType.MONTHLY).year(2026).build();
+
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> reportJobService.submit(USER_ID, request));
+        assertEquals("Field 'month' is required for a MONTHLY report", ex.getMessage());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should fail fast and forget the job when the executor queue is full")
+    void submit_QueueFull() {
+        Executor full = command -> {
+            throw new RejectedExecutionException("full");
+        };
+        reportJobService = new ReportJobService(reportService, trendReportService, transactionManager, full,
+                RESULT_TTL, MAX_JOBS_PER_USER, MAX_JOBS, clock);
+
+        assertThrows(ServiceBusyException.class, () -> reportJobService.submit(USER_ID, monthlyRequest()));
+        assertEquals(0, reportJobService.size());
+    }
+
+    @Test
+    @DisplayName("Should not show a job to another user")
+    void getJob_OtherUser() {
+        String jobId = reportJobService.submit(USER_ID, monthlyRequest()).getId();
+
+        assertThrows(UnauthorizedAccessException.class, () -> reportJobService.getJob(2L, jobId));
+    }
+
+    @Test
+    @DisplayName("Should throw for an unknown job")
+    void getJob_Unknown() {
+        assertThrows(ResourceNotFoundException.class, () -> reportJobService.getJob(USER_ID, "missing"));
+    }
+
+    @Test
+    @DisplayName("Should discard finished jobs once their result has expired, but never unfinished ones")
+    void evictExpired_DropsExpiredResults() {
+        when(reportService.getMonthlyReport(USER_ID, 2026, 1)).thenReturn(MonthlyReportResponse.builder().build());
+        String finished = reportJobService.submit(USER_ID, monthlyRequest()).getId();
+        queue.remove().run();
+        String queued = reportJobService.submit(USER_ID, monthlyRequest()).getId();
+
+        clock.advance(RESULT_TTL.minusSeconds(1));
+        reportJobService.evictExpired();
+        assertEquals(2, reportJobService.size());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThrows(ResourceNotFoundException.class, () -> reportJobService.getJob(USER_ID, finished));
+        reportJobService.evictExpired();
+        assertEquals(1, reportJobService.size());
+        assertEquals(ReportJobStatus.QUEUED, reportJobService.getJob(USER_ID, queued).getStatus());
+    }
+
+    private static ReportJobRequest monthlyRequest() {
+        return ReportJobRequest.builder().type(ReportJobType.MONTHLY).year(2026).month(1).build();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
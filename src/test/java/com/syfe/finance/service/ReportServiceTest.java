@@ -1,21 +1,24 @@
 package com.syfe.finance.service;
 
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.MonthlyCategoryTotal;
 import com.syfe.finance.dto.MonthlyReportResponse;
+import com.syfe.finance.dto.RangeReportResponse;
 import com.syfe.finance.dto.YearlyReportResponse;
-import com.syfe.finance.entity.Category;
-import com.syfe.finance.entity.Transaction;
 import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.entity.User;
+import com.syfe.finance.exception.ValidationException;
+import com.syfe.finance.repository.MonthlyRollupRepository;
 import com.syfe.finance.repository.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,79 +30,42 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ReportServiceTest {
 
+    @Mock
+    private MonthlyRollupRepository monthlyRollupRepository;
+
     @Mock
     private TransactionRepository transactionRepository;
 
-    @InjectMocks
+    @Mock
+    private TransactionColumnStore columnStore;
+
     private ReportService reportService;
 
     private User user;
-    private Category salaryCategory;
-    private Category foodCategory;
-    private Category rentCategory;
-    private Transaction incomeTransaction;
-    private Transaction expenseTransaction1;
-    private Transaction expenseTransaction2;
+    private CategoryTotal salaryTotal;
+    private CategoryTotal foodTotal;
+    private CategoryTotal rentTotal;
 
     @BeforeEach
     void setUp() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.ROLLUP);
         user = User.builder()
                 .id(1L)
                 .username("test@example.com")
                 .build();
 
-        salaryCategory = Category.builder()
-                .id(1L)
-                .name("Salary")
-                .type(TransactionType.INCOME)
-                .build();
-
-        foodCategory = Category.builder()
-                .id(2L)
-                .name("Food")
-                .type(TransactionType.EXPENSE)
-                .build();
-
-        rentCategory = Category.builder()
-                .id(3L)
-                .name("Rent")
-                .type(TransactionType.EXPENSE)
-                .build();
-
-        incomeTransaction = Transaction.builder()
-                .id(1L)
-                .amount(new BigDecimal("5000.00"))
-                .date(LocalDate.of(2026, 1, 15))
-                .type(TransactionType.INCOME)
-                .category(salaryCategory)
-                .user(user)
-                .build();
-
-        expenseTransaction1 = Transaction.builder()
-                .id(2L)
-                .amount(new BigDecimal("500.00"))
-                .date(LocalDate.of(2026, 1, 10))
-                .type(TransactionType.EXPENSE)
-                .category(foodCategory)
-                .user(user)
-                .build();
-
-        expenseTransaction2 = Transaction.builder()
-                .id(3L)
-                .amount(new BigDecimal("1500.00"))
-                .date(LocalDate.of(2026, 1, 5))
-                .type(TransactionType.EXPENSE)
-                .category(rentCategory)
-                .user(user)
-                .build();
+        salaryTotal = new CategoryTotal("Salary", TransactionType.INCOME, new BigDecimal("5000.00"));
+        foodTotal = new CategoryTotal("Food", TransactionType.EXPENSE, new BigDecimal("500.00"));
+        rentTotal = new CategoryTotal("Rent", TransactionType.EXPENSE, new BigDecimal("1500.00"));
     }
 
     @Test
     @DisplayName("Should get monthly report with data")
     void getMonthlyReport_WithData() {
-        List<Transaction> transactions = Arrays.asList(incomeTransaction, expenseTransaction1, expenseTransaction2);
-        when(transactionRepository.findByUserIdAndYearAndMonth(user.getId(), 2026, 1))
-                .thenReturn(transactions);
+        List<CategoryTotal> totals = Arrays.asList(salaryTotal, foodTotal, rentTotal);
+        when(monthlyRollupRepository.findMonthTotals(user.getId(), 2026, 1))
+                .thenReturn(totals);
 
         MonthlyReportResponse response = reportService.getMonthlyReport(user.getId(), 2026, 1);
 
@@ -123,7 +89,7 @@ class ReportServiceTest {
     @Test
     @DisplayName("Should get monthly report with no data")
     void getMonthlyReport_NoData() {
-        when(transactionRepository.findByUserIdAndYearAndMonth(user.getId(), 2026, 2))
+        when(monthlyRollupRepository.findMonthTotals(user.getId(), 2026, 2))
                 .thenReturn(Collections.emptyList());
 
         MonthlyReportResponse response = reportService.getMonthlyReport(user.getId(), 2026, 2);
@@ -137,20 +103,11 @@ class ReportServiceTest {
     }
 
     @Test
-    @DisplayName("Should aggregate multiple transactions in same category")
+    @DisplayName("Should merge totals reported under the same category name")
     void getMonthlyReport_AggregatesSameCategory() {
-        Transaction anotherFoodExpense = Transaction.builder()
-                .id(4L)
-                .amount(new BigDecimal("300.00"))
-                .date(LocalDate.of(2026, 1, 20))
-                .type(TransactionType.EXPENSE)
-                .category(foodCategory)
-                .user(user)
-                .build();
-
-        List<Transaction> transactions = Arrays.asList(expenseTransaction1, anotherFoodExpense);
-        when(transactionRepository.findByUserIdAndYearAndMonth(user.getId(), 2026, 1))
-                .thenReturn(transactions);
+        CategoryTotal moreFood = new CategoryTotal("Food", TransactionType.EXPENSE, new BigDecimal("300.00"));
+        when(monthlyRollupRepository.findMonthTotals(user.getId(), 2026, 1))
+                .thenReturn(Arrays.asList(foodTotal, moreFood));
 
         MonthlyReportResponse response = reportService.getMonthlyReport(user.getId(), 2026, 1);
 
@@ -159,12 +116,42 @@ class ReportServiceTest {
         assertEquals(new BigDecimal("800.00"), response.getTotalExpenses().get("Food"));
     }
 
+    @Test
+    @DisplayName("Should keep two decimals when income and expenses cancel out")
+    void getMonthlyReport_BalancedKeepsScale() {
+        CategoryTotal refund = new CategoryTotal("Salary", TransactionType.INCOME, new BigDecimal("500.00"));
+        when(monthlyRollupRepository.findMonthTotals(user.getId(), 2026, 1))
+                .thenReturn(Arrays.asList(refund, foodTotal));
+
+        MonthlyReportResponse response = reportService.getMonthlyReport(user.getId(), 2026, 1);
+
+        assertEquals(new BigDecimal("0.00"), response.getNetSavings());
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid month without querying")
+    void getMonthlyReport_InvalidMonth() {
+        assertThrows(ValidationException.class, () -> reportService.getMonthlyReport(user.getId(), 2026, 13));
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject years out of range without querying")
+    void getReport_InvalidYear() {
+        assertThrows(ValidationException.class, () -> reportService.getMonthlyReport(user.getId(), 1_000_000_000, 1));
+        assertThrows(ValidationException.class,
+                () -> reportService.getYearlyReport(user.getId(), ReportService.MIN_YEAR - 1));
+        assertThrows(ValidationException.class,
+                () -> reportService.getYearlyReport(user.getId(), ReportService.MAX_YEAR + 1, true));
+        verifyNoInteractions(monthlyRollupRepository, transactionRepository);
+    }
+
     @Test
     @DisplayName("Should get yearly report with data")
     void getYearlyReport_WithData() {
-        List<Transaction> transactions = Arrays.asList(incomeTransaction, expenseTransaction1, expenseTransaction2);
-        when(transactionRepository.findByUserIdAndYear(user.getId(), 2026))
-                .thenReturn(transactions);
+        List<CategoryTotal> totals = Arrays.asList(salaryTotal, foodTotal, rentTotal);
+        when(monthlyRollupRepository.findYearTotals(user.getId(), 2026))
+                .thenReturn(totals);
 
         YearlyReportResponse response = reportService.getYearlyReport(user.getId(), 2026);
 
@@ -187,7 +174,7 @@ class ReportServiceTest {
     @Test
     @DisplayName("Should get yearly report with no data")
     void getYearlyReport_NoData() {
-        when(transactionRepository.findByUserIdAndYear(user.getId(), 2025))
+        when(monthlyRollupRepository.findYearTotals(user.getId(), 2025))
                 .thenReturn(Collections.emptyList());
 
         YearlyReportResponse response = reportService.getYearlyReport(user.getId(), 2025);
@@ -202,18 +189,9 @@ class ReportServiceTest {
     @Test
     @DisplayName("Should handle negative net savings (more expenses than income)")
     void getMonthlyReport_NegativeNetSavings() {
-        Transaction smallIncome = Transaction.builder()
-                .id(5L)
-                .amount(new BigDecimal("1000.00"))
-                .date(LocalDate.of(2026, 1, 15))
-                .type(TransactionType.INCOME)
-                .category(salaryCategory)
-                .user(user)
-                .build();
-
-        List<Transaction> transactions = Arrays.asList(smallIncome, expenseTransaction2);
-        when(transactionRepository.findByUserIdAndYearAndMonth(user.getId(), 2026, 1))
-                .thenReturn(transactions);
+        CategoryTotal smallIncome = new CategoryTotal("Salary", TransactionType.INCOME, new BigDecimal("1000.00"));
+        when(monthlyRollupRepository.findMonthTotals(user.getId(), 2026, 1))
+                .thenReturn(Arrays.asList(smallIncome, rentTotal));
 
         MonthlyReportResponse response = reportService.getMonthlyReport(user.getId(), 2026, 1);
 
@@ -221,4 +199,249 @@ class ReportServiceTest {
         // Net savings: 1000 - 1500 = -500
         assertEquals(new BigDecimal("-500.00"), response.getNetSavings());
     }
+
+    @Test
+    @DisplayName("Should aggregate the monthly report with a GROUP BY query when configured")
+    void getMonthlyReport_QuerySource() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.QUERY);
+        when(transactionRepository.findCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1)))
+                .thenReturn(Arrays.asList(salaryTotal, foodTotal, rentTotal));
+
+        MonthlyReportResponse response = reportService.getMonthlyReport(user.getId(), 2026, 1);
+
+        assertEquals(new BigDecimal("5000.00"), response.getTotalIncome().get("Salary"));
+        assertEquals(new BigDecimal("3000.00"), response.getNetSavings());
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should aggregate the yearly report with a GROUP BY query when configured")
+    void getYearlyReport_QuerySource() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.QUERY);
+        when(transactionRepository.findCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 1)))
+                .thenReturn(Arrays.asList(foodTotal, rentTotal));
+
+        YearlyReportResponse response = reportService.getYearlyReport(user.getId(), 2026);
+
+        assertTrue(response.getTotalIncome().isEmpty());
+        assertEquals(new BigDecimal("-2000.00"), response.getNetSavings());
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should scan the column store for monthly and range reports when columnar")
+    void getMonthlyAndRangeReport_ColumnarSource() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.COLUMNAR);
+        when(columnStore.categoryTotals(user.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1)))
+                .thenReturn(Arrays.asList(salaryTotal, foodTotal, rentTotal));
+        when(columnStore.categoryTotals(user.getId(), LocalDate.of(2026, 1, 10), LocalDate.of(2026, 3, 21)))
+                .thenReturn(Collections.singletonList(foodTotal));
+
+        MonthlyReportResponse monthly = reportService.getMonthlyReport(user.getId(), 2026, 1);
+        RangeReportResponse range = reportService.getRangeReport(user.getId(),
+                LocalDate.of(2026, 1, 10), LocalDate.of(2026, 3, 20));
+
+        assertEquals(new BigDecimal("3000.00"), monthly.getNetSavings());
+        assertEquals(new BigDecimal("-500.00"), range.getNetSavings());
+        verifyNoInteractions(monthlyRollupRepository, transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should build the yearly breakdown from the column store when columnar")
+    void getYearlyReport_ColumnarBreakdown() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.COLUMNAR);
+        when(columnStore.monthlyCategoryTotals(user.getId(), 2026)).thenReturn(Arrays.asList(
+                new MonthlyCategoryTotal(1, "Salary", TransactionType.INCOME, new BigDecimal("5000.00")),
+                new MonthlyCategoryTotal(12, "Rent", TransactionType.EXPENSE, new BigDecimal("1500.00"))));
+
+        YearlyReportResponse response = reportService.getYearlyReport(user.getId(), 2026, true);
+
+        assertEquals(new BigDecimal("3500.00"), response.getNetSavings());
+        assertEquals(new BigDecimal("5000.00"), response.getMonths().get(0).getNetSavings());
+        assertEquals(new BigDecimal("-1500.00"), response.getMonths().get(11).getNetSavings());
+        verifyNoInteractions(monthlyRollupRepository, transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should end a December report range at the first day of the next year")
+    void getMonthlyReport_QuerySourceDecember() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.QUERY);
+        when(transactionRepository.findCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 1)))
+                .thenReturn(Collections.singletonList(salaryTotal));
+
+        MonthlyReportResponse response = reportService.getMonthlyReport(user.getId(), 2025, 12);
+
+        assertEquals(new BigDecimal("5000.00"), response.getNetSavings());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reports from the cache")
+    void getReports_Cached() {
+        when(monthlyRollupRepository.findMonthTotals(user.getId(), 2026, 1))
+                .thenReturn(Collections.singletonList(salaryTotal));
+        when(monthlyRollupRepository.findYearTotals(user.getId(), 2026))
+                .thenReturn(Collections.singletonList(salaryTotal));
+
+        MonthlyReportResponse first = reportService.getMonthlyReport(user.getId(), 2026, 1);
+        assertSame(first, reportService.getMonthlyReport(user.getId(), 2026, 1));
+        reportService.getYearlyReport(user.getId(), 2026);
+        reportService.getYearlyReport(user.getId(), 2026);
+
+        verify(monthlyRollupRepository, times(1)).findMonthTotals(user.getId(), 2026, 1);
+        verify(monthlyRollupRepository, times(1)).findYearTotals(user.getId(), 2026);
+    }
+
+    @Test
+    @DisplayName("Should build year totals and twelve monthly reports from one query")
+    void getYearlyReport_WithBreakdown() {
+        when(monthlyRollupRepository.findYearMonthlyTotals(user.getId(), 2026)).thenReturn(Arrays.asList(
+                new MonthlyCategoryTotal(1, "Salary", TransactionType.INCOME, new BigDecimal("5000.00")),
+                new MonthlyCategoryTotal(1, "Food", TransactionType.EXPENSE, new BigDecimal("500.00")),
+                new MonthlyCategoryTotal(3, "Food", TransactionType.EXPENSE, new BigDecimal("300.00")),
+                new MonthlyCategoryTotal(12, "Rent", TransactionType.EXPENSE, new BigDecimal("1500.00"))));
+
+        YearlyReportResponse response = reportService.getYearlyReport(user.getId(), 2026, true);
+
+        assertEquals(new BigDecimal("800.00"), response.getTotalExpenses().get("Food"));
+        assertEquals(new BigDecimal("2700.00"), response.getNetSavings());
+        assertEquals(12, response.getMonths().size());
+        MonthlyReportResponse january = response.getMonths().get(0);
+        assertEquals(1, january.getMonth());
+        assertEquals(2026, january.getYear());
+        assertEquals(new BigDecimal("4500.00"), january.getNetSavings());
+        assertEquals(new BigDecimal("300.00"), response.getMonths().get(2).getTotalExpenses().get("Food"));
+        assertTrue(response.getMonths().get(1).getTotalExpenses().isEmpty());
+        assertEquals(BigDecimal.ZERO, response.getMonths().get(1).getNetSavings());
+        assertEquals(new BigDecimal("-1500.00"), response.getMonths().get(11).getNetSavings());
+        verify(monthlyRollupRepository, never()).findYearTotals(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should build the yearly breakdown with a GROUP BY query when configured")
+    void getYearlyReport_BreakdownQuerySource() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.QUERY);
+        when(transactionRepository.findMonthlyCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2026, 1, 1), LocalDate.of(2027, 1, 1)))
+                .thenReturn(Collections.singletonList(
+                        new MonthlyCategoryTotal(6, "Salary", TransactionType.INCOME, new BigDecimal("5000.00"))));
+
+        YearlyReportResponse response = reportService.getYearlyReport(user.getId(), 2026, true);
+
+        assertEquals(new BigDecimal("5000.00"), response.getMonths().get(5).getNetSavings());
+        assertEquals(new BigDecimal("5000.00"), response.getNetSavings());
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should leave out the monthly breakdown unless requested")
+    void getYearlyReport_WithoutBreakdown() {
+        when(monthlyRollupRepository.findYearTotals(user.getId(), 2026))
+                .thenReturn(Collections.singletonList(salaryTotal));
+
+        assertNull(reportService.getYearlyReport(user.getId(), 2026).getMonths());
+    }
+
+    @Test
+    @DisplayName("Should aggregate a range inside one month from transactions only")
+    void getRangeReport_WithinMonth() {
+        when(transactionRepository.findCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 21)))
+                .thenReturn(Arrays.asList(salaryTotal, foodTotal));
+
+        RangeReportResponse response = reportService.getRangeReport(user.getId(),
+                LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 20));
+
+        assertEquals(LocalDate.of(2026, 1, 5), response.getFrom());
+        assertEquals(LocalDate.of(2026, 1, 20), response.getTo());
+        assertEquals(new BigDecimal("4500.00"), response.getNetSavings());
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should compose a range from rollups of whole months and partial edge months")
+    void getRangeReport_ComposesRollupsAndEdges() {
+        when(transactionRepository.findCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2025, 11, 20), LocalDate.of(2025, 12, 1)))
+                .thenReturn(Collections.singletonList(foodTotal));
+        when(monthlyRollupRepository.findMonthRangeTotals(user.getId(), 2025, 12, 2026, 1))
+                .thenReturn(Arrays.asList(salaryTotal, foodTotal));
+        when(transactionRepository.findCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 11)))
+                .thenReturn(Collections.singletonList(rentTotal));
+
+        RangeReportResponse response = reportService.getRangeReport(user.getId(),
+                LocalDate.of(2025, 11, 20), LocalDate.of(2026, 2, 10));
+
+        assertEquals(new BigDecimal("1000.00"), response.getTotalExpenses().get("Food"));
+        assertEquals(new BigDecimal("1500.00"), response.getTotalExpenses().get("Rent"));
+        // 5000 - 500 - 500 - 1500 = 2500
+        assertEquals(new BigDecimal("2500.00"), response.getNetSavings());
+    }
+
+    @Test
+    @DisplayName("Should read a range of whole months from rollups only")
+    void getRangeReport_WholeMonths() {
+        when(monthlyRollupRepository.findMonthRangeTotals(user.getId(), 2026, 1, 2026, 2))
+                .thenReturn(Collections.singletonList(salaryTotal));
+
+        RangeReportResponse response = reportService.getRangeReport(user.getId(),
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 28));
+
+        assertEquals(new BigDecimal("5000.00"), response.getNetSavings());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should aggregate a range with one query when transactions are the source")
+    void getRangeReport_QuerySource() {
+        reportService = new ReportService(monthlyRollupRepository, transactionRepository, columnStore, reportCache(),
+                ReportSource.QUERY);
+        when(transactionRepository.findCategoryTotalsByUserIdAndDateRange(user.getId(),
+                LocalDate.of(2025, 11, 20), LocalDate.of(2026, 2, 11)))
+                .thenReturn(Collections.singletonList(rentTotal));
+
+        RangeReportResponse response = reportService.getRangeReport(user.getId(),
+                LocalDate.of(2025, 11, 20), LocalDate.of(2026, 2, 10));
+
+        assertEquals(new BigDecimal("-1500.00"), response.getNetSavings());
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a range that ends before it starts")
+    void getRangeReport_InvertedRange() {
+        assertThrows(ValidationException.class, () -> reportService.getRangeReport(user.getId(),
+                LocalDate.of(2026, 2, 1), LocalDate.of(2026, 1, 31)));
+        verifyNoInteractions(monthlyRollupRepository, transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should end a rolling window today")
+    void getRollingReport_EndsToday() {
+        LocalDate today = LocalDate.now();
+
+        RangeReportResponse response = reportService.getRollingReport(user.getId(), 30);
+
+        assertEquals(today, response.getTo());
+        assertEquals(today.minusDays(29), response.getFrom());
+    }
+
+    @Test
+    @DisplayName("Should reject an unsupported rolling window")
+    void getRollingReport_UnsupportedWindow() {
+        assertThrows(ValidationException.class, () -> reportService.getRollingReport(user.getId(), 14));
+    }
+
+    private ReportCache reportCache() {
+        return new ReportCache(100, Duration.ofMinutes(10));
+    }
 }
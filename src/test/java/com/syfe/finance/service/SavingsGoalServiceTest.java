@@ -2,28 +2,28 @@ package com.syfe.finance.service;
 
 import com.syfe.finance.dto.*;
 import com.syfe.finance.entity.SavingsGoal;
-import com.syfe.finance.entity.Transaction;
-import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.entity.User;
 import com.syfe.finance.exception.ResourceNotFoundException;
 import com.syfe.finance.exception.UnauthorizedAccessException;
 import com.syfe.finance.exception.ValidationException;
 import com.syfe.finance.repository.SavingsGoalRepository;
 import com.syfe.finance.repository.TransactionRepository;
+import com.syfe.finance.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,7 +38,21 @@ class SavingsGoalServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
-    @InjectMocks
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionColumnStore columnStore;
+
+    @Mock
+    private NetSavingsLedgerStore ledgerStore;
+
+    @Mock
+    private GoalForecastService forecastService;
+
+    @Mock
+    private GoalSimulationService simulationService;
+
     private SavingsGoalService savingsGoalService;
 
     private User user;
@@ -48,6 +62,8 @@ class SavingsGoalServiceTest {
 
     @BeforeEach
     void setUp() {
+        savingsGoalService = serviceFrom(GoalProgressSource.QUERY);
+
         user = User.builder()
                 .id(1L)
                 .username("test@example.com")
@@ -79,8 +95,8 @@ class SavingsGoalServiceTest {
     @DisplayName("Should create goal successfully")
     void createGoal_Success() {
         when(savingsGoalRepository.save(any(SavingsGoal.class))).thenReturn(goal);
-        when(transactionRepository.findByUserIdAndDateAfterAndType(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(transactionRepository.sumNetAmountByUserIdAndDateFrom(anyLong(), any()))
+                .thenReturn(null);
 
         GoalResponse response = savingsGoalService.createGoal(goalRequest, user);
 
@@ -109,53 +125,251 @@ class SavingsGoalServiceTest {
     void getAllGoals_Success() {
         List<SavingsGoal> goals = Arrays.asList(goal);
         when(savingsGoalRepository.findAllByUserId(user.getId())).thenReturn(goals);
-        when(transactionRepository.findByUserIdAndDateAfterAndType(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(transactionRepository.findDailyNetAmountsByUserIdAndDateFrom(user.getId(), goal.getStartDate()))
+                .thenReturn(List.of());
 
         GoalListResponse response = savingsGoalService.getAllGoals(user);
 
         assertNotNull(response);
         assertEquals(1, response.getGoals().size());
+        assertEquals(BigDecimal.ZERO, response.getGoals().get(0).getCurrentProgress());
+    }
+
+    @Test
+    @DisplayName("Should compute the progress of all goals from one query since the earliest start date")
+    void getAllGoals_SingleQueryForAllGoals() {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        SavingsGoal fromStart = goalStartingOn(1L, start);
+        SavingsGoal fromMidMonth = goalStartingOn(2L, start.plusDays(14));
+        SavingsGoal betweenDays = goalStartingOn(3L, start.plusDays(20));
+        SavingsGoal afterLastDay = goalStartingOn(4L, start.plusDays(40));
+        when(savingsGoalRepository.findAllByUserId(user.getId()))
+                .thenReturn(List.of(fromMidMonth, fromStart, betweenDays, afterLastDay));
+        when(transactionRepository.findDailyNetAmountsByUserIdAndDateFrom(user.getId(), start)).thenReturn(List.of(
+                new DailyNetAmount(start, new BigDecimal("5000.00"), 2L),
+                new DailyNetAmount(start.plusDays(14), new BigDecimal("-1000.00"), 1L),
+                new DailyNetAmount(start.plusDays(30), new BigDecimal("2500.50"), 3L)));
+
+        List<GoalResponse> goals = savingsGoalService.getAllGoals(user).getGoals();
+
+        assertEquals(new BigDecimal("1500.50"), goals.get(0).getCurrentProgress());
+        assertEquals(new BigDecimal("6500.50"), goals.get(1).getCurrentProgress());
+        assertEquals(new BigDecimal("2500.50"), goals.get(2).getCurrentProgress());
+        assertEquals(BigDecimal.ZERO, goals.get(3).getCurrentProgress());
+        verify(transactionRepository, times(1)).findDailyNetAmountsByUserIdAndDateFrom(anyLong(), any());
+        verify(transactionRepository, never()).sumNetAmountByUserIdAndDateFrom(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should not query transactions for a user without goals")
+    void getAllGoals_NoGoals() {
+        when(savingsGoalRepository.findAllByUserId(user.getId())).thenReturn(List.of());
+
+        assertTrue(savingsGoalService.getAllGoals(user).getGoals().isEmpty());
+        verifyNoInteractions(transactionRepository);
     }
 
     @Test
     @DisplayName("Should calculate progress correctly with income and expenses")
     void getGoalById_CalculatesProgressCorrectly() {
-        List<Transaction> incomeTransactions = Arrays.asList(
-                Transaction.builder().amount(new BigDecimal("5000.00")).type(TransactionType.INCOME).build(),
-                Transaction.builder().amount(new BigDecimal("3000.00")).type(TransactionType.INCOME).build()
-        );
-        List<Transaction> expenseTransactions = Arrays.asList(
-                Transaction.builder().amount(new BigDecimal("2000.00")).type(TransactionType.EXPENSE).build()
-        );
-
+        // Income: 5000 + 3000 = 8000, Expenses: 2000, netted by the query
         when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
-        when(transactionRepository.findByUserIdAndDateAfterAndType(user.getId(), goal.getStartDate(), TransactionType.INCOME))
-                .thenReturn(incomeTransactions);
-        when(transactionRepository.findByUserIdAndDateAfterAndType(user.getId(), goal.getStartDate(), TransactionType.EXPENSE))
-                .thenReturn(expenseTransactions);
+        when(transactionRepository.sumNetAmountByUserIdAndDateFrom(user.getId(), goal.getStartDate()))
+                .thenReturn(new BigDecimal("6000.00"));
 
         GoalResponse response = savingsGoalService.getGoalById(1L, user);
 
         assertNotNull(response);
-        // Income: 5000 + 3000 = 8000, Expenses: 2000, Net: 6000
         assertEquals(new BigDecimal("6000.00"), response.getCurrentProgress());
         assertEquals(new BigDecimal("4000.00"), response.getRemainingAmount());
         assertEquals(60.0, response.getProgressPercentage());
     }
 
+    @Test
+    @DisplayName("Should read net savings from the column store")
+    void getGoalById_ColumnarSource() {
+        savingsGoalService = serviceFrom(GoalProgressSource.COLUMNAR);
+        when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        when(columnStore.netSince(user.getId(), goal.getStartDate())).thenReturn(new BigDecimal("6000.00"));
+
+        GoalResponse response = savingsGoalService.getGoalById(1L, user);
+
+        assertEquals(new BigDecimal("6000.00"), response.getCurrentProgress());
+        assertEquals(60.0, response.getProgressPercentage());
+        verify(transactionRepository, never()).sumNetAmountByUserIdAndDateFrom(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should read stored net savings without aggregating transactions")
+    void getAllGoals_StoredSource() {
+        savingsGoalService = serviceFrom(GoalProgressSource.STORED);
+        goal.setNetSavings(new BigDecimal("2500.00"));
+        SavingsGoal overdrawn = goalStartingOn(2L, goal.getStartDate());
+        overdrawn.setNetSavings(new BigDecimal("-300.00"));
+        when(savingsGoalRepository.findAllByUserId(user.getId())).thenReturn(List.of(goal, overdrawn));
+
+        List<GoalResponse> goals = savingsGoalService.getAllGoals(user).getGoals();
+
+        assertEquals(new BigDecimal("2500.00"), goals.get(0).getCurrentProgress());
+        assertEquals(25.0, goals.get(0).getProgressPercentage());
+        assertEquals(BigDecimal.ZERO, goals.get(1).getCurrentProgress());
+        verifyNoInteractions(transactionRepository, ledgerStore, columnStore);
+    }
+
+    @Test
+    @DisplayName("Should forecast every listed goal from one savings rate lookup")
+    void getAllGoals_IncludesForecasts() {
+        savingsGoalService = serviceFrom(GoalProgressSource.STORED);
+        goal.setNetSavings(new BigDecimal("2500.00"));
+        SavingsGoal second = goalStartingOn(2L, goal.getStartDate());
+        when(savingsGoalRepository.findAllByUserId(user.getId())).thenReturn(List.of(goal, second));
+        when(forecastService.monthlySavingsRate(user.getId())).thenReturn(new BigDecimal("500.00"));
+        GoalForecastResponse forecast = GoalForecastResponse.builder().goalId(1L).build();
+        when(forecastService.forecast(goal, new BigDecimal("7500.00"), new BigDecimal("500.00"))).thenReturn(forecast);
+
+        List<GoalResponse> goals = savingsGoalService.getAllGoals(user).getGoals();
+
+        assertSame(forecast, goals.get(0).getForecast());
+        verify(forecastService).forecast(second, new BigDecimal("10000.00"), new BigDecimal("500.00"));
+        verify(forecastService, times(1)).monthlySavingsRate(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should forecast a single goal from its remaining amount")
+    void getGoalForecast_Success() {
+        savingsGoalService = serviceFrom(GoalProgressSource.STORED);
+        goal.setNetSavings(new BigDecimal("4000.00"));
+        when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        when(forecastService.monthlySavingsRate(user.getId())).thenReturn(new BigDecimal("1000.00"));
+        GoalForecastResponse forecast = GoalForecastResponse.builder().goalId(1L).onTrack(true).build();
+        when(forecastService.forecast(goal, new BigDecimal("6000.00"), new BigDecimal("1000.00"))).thenReturn(forecast);
+
+        assertSame(forecast, savingsGoalService.getGoalForecast(1L, user));
+    }
+
+    @Test
+    @DisplayName("Should not forecast another user's goal")
+    void getGoalForecast_Unauthorized() {
+        goal.setUser(otherUser);
+        when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
+
+        assertThrows(UnauthorizedAccessException.class, () -> savingsGoalService.getGoalForecast(1L, user));
+        verifyNoInteractions(forecastService);
+    }
+
+    @Test
+    @DisplayName("Should simulate a goal from its current net savings")
+    void simulateGoal_Success() {
+        savingsGoalService = serviceFrom(GoalProgressSource.STORED);
+        goal.setNetSavings(new BigDecimal("-150.00"));
+        when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        GoalSimulationRequest request = GoalSimulationRequest.builder().paths(100).build();
+        GoalSimulationResponse simulation = GoalSimulationResponse.builder().goalId(1L).probability(0.5).build();
+        when(simulationService.simulate(goal, new BigDecimal("-150.00"), request)).thenReturn(simulation);
+
+        assertSame(simulation, savingsGoalService.simulateGoal(1L, request, user));
+    }
+
+    @Test
+    @DisplayName("Should not simulate another user's goal")
+    void simulateGoal_Unauthorized() {
+        goal.setUser(otherUser);
+        when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
+
+        assertThrows(UnauthorizedAccessException.class,
+                () -> savingsGoalService.simulateGoal(1L, new GoalSimulationRequest(), user));
+        verifyNoInteractions(simulationService);
+    }
+
+    @Test
+    @DisplayName("Should report only goals whose displayed progress the changes moved")
+    void getProgressUpdates_ChangedGoalsOnly() {
+        savingsGoalService = serviceFrom(GoalProgressSource.STORED);
+        LocalDate start = goal.getStartDate();
+        goal.setNetSavings(new BigDecimal("2500.00"));
+        SavingsGoal overdrawn = goalStartingOn(2L, start);
+        overdrawn.setNetSavings(new BigDecimal("-300.00"));
+        SavingsGoal later = goalStartingOn(3L, start.plusDays(10));
+        later.setNetSavings(new BigDecimal("900.00"));
+        when(savingsGoalRepository.findAllByUserId(user.getId())).thenReturn(List.of(goal, overdrawn, later));
+
+        // Income on the fifth day, before the later goal started
+        List<GoalProgressUpdate> updates = savingsGoalService.getProgressUpdates(user.getId(),
+                new TreeMap<>(Map.of(start.plusDays(5), new BigDecimal("200.00"))));
+
+        // The overdrawn goal stays at zero progress
+        assertEquals(1, updates.size());
+        assertEquals(1L, updates.get(0).getGoalId());
+        assertEquals(new BigDecimal("2500.00"), updates.get(0).getCurrentProgress());
+        assertEquals(new BigDecimal("7500.00"), updates.get(0).getRemainingAmount());
+        assertEquals(25.0, updates.get(0).getProgressPercentage());
+        assertEquals(new BigDecimal("200.00"), updates.get(0).getProgressChange());
+    }
+
+    @Test
+    @DisplayName("Should not read progress when the changes predate every goal")
+    void getProgressUpdates_ChangesBeforeAllGoals() {
+        when(savingsGoalRepository.findAllByUserId(user.getId())).thenReturn(List.of(goal));
+
+        assertTrue(savingsGoalService.getProgressUpdates(user.getId(),
+                new TreeMap<>(Map.of(goal.getStartDate().minusDays(1), new BigDecimal("50.00")))).isEmpty());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should store the net savings since the start date on a new goal")
+    void createGoal_StoresInitialNetSavings() {
+        savingsGoalService = serviceFrom(GoalProgressSource.STORED);
+        when(transactionRepository.sumNetAmountByUserIdAndDateFrom(user.getId(), goalRequest.getStartDate()))
+                .thenReturn(new BigDecimal("1200.00"));
+        when(savingsGoalRepository.save(any(SavingsGoal.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        GoalResponse response = savingsGoalService.createGoal(goalRequest, user);
+
+        assertEquals(new BigDecimal("1200.00"), response.getCurrentProgress());
+        // Seeded under the user's row lock that transaction writes take too
+        InOrder inOrder = inOrder(userRepository, transactionRepository);
+        inOrder.verify(userRepository).findAndLockById(user.getId());
+        inOrder.verify(transactionRepository).sumNetAmountByUserIdAndDateFrom(user.getId(), goalRequest.getStartDate());
+        verify(savingsGoalRepository).save(argThat(saved -> new BigDecimal("1200.00").equals(saved.getNetSavings())));
+    }
+
+    @Test
+    @DisplayName("Should read net savings from the ledger")
+    void getGoalById_LedgerSource() {
+        savingsGoalService = serviceFrom(GoalProgressSource.LEDGER);
+        when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
+        when(ledgerStore.netSince(user.getId(), goal.getStartDate())).thenReturn(new BigDecimal("6000.00"));
+
+        GoalResponse response = savingsGoalService.getGoalById(1L, user);
+
+        assertEquals(new BigDecimal("6000.00"), response.getCurrentProgress());
+        assertEquals(60.0, response.getProgressPercentage());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should look up every goal in the ledger")
+    void getAllGoals_LedgerSource() {
+        savingsGoalService = serviceFrom(GoalProgressSource.LEDGER);
+        SavingsGoal later = goalStartingOn(2L, goal.getStartDate().plusDays(10));
+        when(savingsGoalRepository.findAllByUserId(user.getId())).thenReturn(List.of(goal, later));
+        when(ledgerStore.netSince(user.getId(), goal.getStartDate())).thenReturn(new BigDecimal("3000.00"));
+        when(ledgerStore.netSince(user.getId(), later.getStartDate())).thenReturn(new BigDecimal("1000.00"));
+
+        List<GoalResponse> goals = savingsGoalService.getAllGoals(user).getGoals();
+
+        assertEquals(new BigDecimal("3000.00"), goals.get(0).getCurrentProgress());
+        assertEquals(new BigDecimal("1000.00"), goals.get(1).getCurrentProgress());
+        verifyNoInteractions(transactionRepository);
+    }
+
     @Test
     @DisplayName("Should cap progress percentage at 100%")
     void getGoalById_ProgressCappedAt100() {
-        List<Transaction> incomeTransactions = Arrays.asList(
-                Transaction.builder().amount(new BigDecimal("15000.00")).type(TransactionType.INCOME).build()
-        );
-
         when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
-        when(transactionRepository.findByUserIdAndDateAfterAndType(user.getId(), goal.getStartDate(), TransactionType.INCOME))
-                .thenReturn(incomeTransactions);
-        when(transactionRepository.findByUserIdAndDateAfterAndType(user.getId(), goal.getStartDate(), TransactionType.EXPENSE))
-                .thenReturn(Collections.emptyList());
+        when(transactionRepository.sumNetAmountByUserIdAndDateFrom(user.getId(), goal.getStartDate()))
+                .thenReturn(new BigDecimal("15000.00"));
 
         GoalResponse response = savingsGoalService.getGoalById(1L, user);
 
@@ -167,15 +381,9 @@ class SavingsGoalServiceTest {
     @Test
     @DisplayName("Should not show negative progress")
     void getGoalById_NoNegativeProgress() {
-        List<Transaction> expenseTransactions = Arrays.asList(
-                Transaction.builder().amount(new BigDecimal("5000.00")).type(TransactionType.EXPENSE).build()
-        );
-
         when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
-        when(transactionRepository.findByUserIdAndDateAfterAndType(user.getId(), goal.getStartDate(), TransactionType.INCOME))
-                .thenReturn(Collections.emptyList());
-        when(transactionRepository.findByUserIdAndDateAfterAndType(user.getId(), goal.getStartDate(), TransactionType.EXPENSE))
-                .thenReturn(expenseTransactions);
+        when(transactionRepository.sumNetAmountByUserIdAndDateFrom(user.getId(), goal.getStartDate()))
+                .thenReturn(new BigDecimal("-5000.00"));
 
         GoalResponse response = savingsGoalService.getGoalById(1L, user);
 
@@ -217,8 +425,8 @@ class SavingsGoalServiceTest {
 
         when(savingsGoalRepository.findById(1L)).thenReturn(Optional.of(goal));
         when(savingsGoalRepository.save(any(SavingsGoal.class))).thenReturn(goal);
-        when(transactionRepository.findByUserIdAndDateAfterAndType(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(transactionRepository.sumNetAmountByUserIdAndDateFrom(anyLong(), any()))
+                .thenReturn(null);
 
         GoalResponse response = savingsGoalService.updateGoal(1L, updateRequest, user);
 
@@ -262,4 +470,20 @@ class SavingsGoalServiceTest {
                 () -> savingsGoalService.deleteGoal(2L, user));
         verify(savingsGoalRepository, never()).delete(any(SavingsGoal.class));
     }
+
+    private SavingsGoal goalStartingOn(Long id, LocalDate startDate) {
+        return SavingsGoal.builder()
+                .id(id)
+                .goalName("Goal " + id)
+                .targetAmount(new BigDecimal("10000.00"))
+                .targetDate(LocalDate.now().plusMonths(6))
+                .startDate(startDate)
+                .user(user)
+                .build();
+    }
+
+    private SavingsGoalService serviceFrom(GoalProgressSource source) {
+        return new SavingsGoalService(savingsGoalRepository, transactionRepository, userRepository, columnStore,
+                ledgerStore, forecastService, simulationService, source);
+    }
 }
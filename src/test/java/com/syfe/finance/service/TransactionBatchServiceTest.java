@@ -0,0 +1,185 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.BatchItemResult;
+import com.syfe.finance.dto.BatchTransactionResponse;
+import com.syfe.finance.dto.TransactionRequest;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionBatchServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private jakarta.validation.ValidatorFactory validatorFactory;
+    private TransactionBatchService transactionBatchService;
+
+    private User user;
+    private Category salary;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        Validator validator = validatorFactory.getValidator();
+        transactionBatchService = new TransactionBatchService(transactionRepository, categoryService, validator,
+                new TransactionTemplate(transactionManager), entityManager, eventPublisher);
+
+        user = User.builder().id(1L).username("test@example.com").build();
+        salary = Category.builder().id(1L).name("Salary").type(TransactionType.INCOME).build();
+        food = Category.builder().id(2L).name("Food").type(TransactionType.EXPENSE).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should create valid items and report invalid ones individually")
+    void createTransactions_MixedResults() {
+        List<TransactionRequest> requests = Arrays.asList(
+                request("5000.00", LocalDate.now().minusDays(1), "Salary"),
+                request("-1.00", LocalDate.now().minusDays(1), "Food"),
+                request("25.00", LocalDate.now().minusDays(2), "Unknown"),
+                request("40.00", LocalDate.now().minusDays(3), "Food"));
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Salary", "Unknown", "Food"), 1L))
+                .thenReturn(Map.of("Salary", salary, "Food", food));
+        assignIdsOnSave();
+
+        BatchTransactionResponse response = transactionBatchService.createTransactions(requests, user);
+
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertEquals(BatchItemResult.CREATED, response.getResults().get(0).getStatus());
+        assertNotNull(response.getResults().get(0).getId());
+        assertEquals("Amount must be positive", response.getResults().get(1).getError());
+        assertEquals("Category not found with name: Unknown", response.getResults().get(2).getError());
+        assertEquals(3, response.getResults().get(3).getIndex());
+        assertEquals(BatchItemResult.CREATED, response.getResults().get(3).getStatus());
+        verify(categoryService, times(1)).findCategoriesByNamesForUser(any(), any());
+        verify(transactionRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should insert in fixed-size chunks and clear the persistence context after each")
+    void createTransactions_Chunked() {
+        List<TransactionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < TransactionBatchService.CHUNK_SIZE * 2 + 1; i++) {
+            requests.add(request("10.00", LocalDate.now().minusDays(1), "Food"));
+        }
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Food"), 1L)).thenReturn(Map.of("Food", food));
+        assignIdsOnSave();
+
+        BatchTransactionResponse response = transactionBatchService.createTransactions(requests, user);
+
+        assertEquals(requests.size(), response.getCreated());
+        verify(transactionRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventPublisher, times(3)).publishEvent(any(TransactionsChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should fail only the items of a chunk that could not be saved")
+    void createTransactions_ChunkFailure() {
+        List<TransactionRequest> requests = Arrays.asList(
+                request("10.00", LocalDate.now().minusDays(1), "Food"),
+                request("10.00", LocalDate.now().plusDays(1), "Food"));
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Food"), 1L)).thenReturn(Map.of("Food", food));
+        when(transactionRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("boom"));
+
+        BatchTransactionResponse response = transactionBatchService.createTransactions(requests, user);
+
+        assertEquals(0, response.getCreated());
+        assertEquals("Could not save transaction", response.getResults().get(0).getError());
+        assertEquals("Date cannot be in the future", response.getResults().get(1).getError());
+    }
+
+    @Test
+    @DisplayName("Should fail a chunk whose change listener throws and still insert the next chunk")
+    void createTransactions_ChunkListenerFailure() {
+        List<TransactionRequest> requests = new ArrayList<>();
+        for (int i = 0; i < TransactionBatchService.CHUNK_SIZE + 1; i++) {
+            requests.add(request("10.00", LocalDate.now().minusDays(1), "Food"));
+        }
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Food"), 1L)).thenReturn(Map.of("Food", food));
+        assignIdsOnSave();
+        doThrow(new IllegalStateException("Monthly rollup row missing"))
+                .doNothing()
+                .when(eventPublisher).publishEvent(any(TransactionsChangedEvent.class));
+
+        BatchTransactionResponse response = transactionBatchService.createTransactions(requests, user);
+
+        assertEquals(1, response.getCreated());
+        assertEquals(TransactionBatchService.CHUNK_SIZE, response.getFailed());
+        assertEquals(requests.size(), response.getResults().size());
+        assertEquals("Could not save transaction", response.getResults().get(0).getError());
+        assertEquals(BatchItemResult.CREATED,
+                response.getResults().get(TransactionBatchService.CHUNK_SIZE).getStatus());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    private void assignIdsOnSave() {
+        AtomicLong ids = new AtomicLong();
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Transaction> chunk = invocation.getArgument(0);
+            chunk.forEach(transaction -> transaction.setId(ids.incrementAndGet()));
+            return chunk;
+        });
+    }
+
+    private TransactionRequest request(String amount, LocalDate date, String category) {
+        return TransactionRequest.builder()
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .category(category)
+                .build();
+    }
+}
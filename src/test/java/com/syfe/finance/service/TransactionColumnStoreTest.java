@@ -0,0 +1,181 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.TransactionColumnRow;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.repository.TransactionRepository;
+import com.syfe.finance.util.TransactionColumns;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionColumnStoreTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+    private static final long SALARY = 10L;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        columnStore = store(DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("Should build a user's columns once and answer later aggregates from memory")
+    void netSince_BuildsColumnsLazilyOnce() {
+        when(transactionRepository.streamColumnRowsByUserId(1L)).thenReturn(Stream.of(salary(1L, "5000.00")));
+
+        assertEquals(new BigDecimal("5000.00"), columnStore.netSince(1L, JANUARY));
+        assertEquals(1, columnStore.categoryTotals(1L, JANUARY, JANUARY.plusMonths(1)).size());
+        verify(transactionRepository, times(1)).streamColumnRowsByUserId(1L);
+        assertEquals(TransactionColumns.BYTES_PER_ROW, columnStore.usedBytes());
+    }
+
+    @Test
+    @DisplayName("Should apply committed changes to loaded columns")
+    void onTransactionsChanged_UpdatesLoadedColumns() {
+        when(transactionRepository.streamColumnRowsByUserId(1L)).thenReturn(Stream.of(salary(1L, "5000.00")));
+        columnStore.netSince(1L, JANUARY);
+
+        columnStore.onTransactionsChanged(new TransactionsChangedEvent(1L, List.of(
+                TransactionChange.updated(snapshot(1L, "5000.00", SALARY), snapshot(1L, "4000.00", SALARY)),
+                TransactionChange.created(snapshot(2L, "250.00", SALARY)))));
+
+        assertEquals(new BigDecimal("4250.00"), columnStore.netSince(1L, JANUARY));
+        assertEquals(2L * TransactionColumns.BYTES_PER_ROW, columnStore.usedBytes());
+        verify(transactionRepository, times(1)).streamColumnRowsByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes of users whose columns are not loaded")
+    void onTransactionsChanged_NotLoaded() {
+        columnStore.onTransactionsChanged(new TransactionsChangedEvent(1L,
+                List.of(TransactionChange.created(snapshot(2L, "250.00", SALARY)))));
+
+        assertEquals(0, columnStore.loadedUserCount());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should drop columns that see a new category, to rebuild them with its name")
+    void onTransactionsChanged_NewCategoryDropsColumns() {
+        when(transactionRepository.streamColumnRowsByUserId(1L))
+                .thenReturn(Stream.of(salary(1L, "5000.00")))
+                .thenReturn(Stream.of(salary(1L, "5000.00"),
+                        new TransactionColumnRow(2L, JANUARY, new BigDecimal("1.00"), 99L, "Bonus",
+                                TransactionType.INCOME)));
+        columnStore.netSince(1L, JANUARY);
+
+        columnStore.onTransactionsChanged(new TransactionsChangedEvent(1L,
+                List.of(TransactionChange.created(snapshot(2L, "1.00", 99L)))));
+
+        assertEquals(0, columnStore.loadedUserCount());
+        assertEquals(0L, columnStore.usedBytes());
+        assertEquals(2, columnStore.categoryTotals(1L, JANUARY, JANUARY.plusDays(1)).size());
+    }
+
+    @Test
+    @DisplayName("Should drop columns a change could not be applied to, to rebuild them from the database")
+    void onTransactionsChanged_FailedUpdateDropsColumns() {
+        when(transactionRepository.streamColumnRowsByUserId(1L))
+                .thenReturn(Stream.of(salary(1L, "5000.00")))
+                .thenReturn(Stream.of(salary(1L, "4000.01")));
+        columnStore.netSince(1L, JANUARY);
+
+        columnStore.onTransactionsChanged(new TransactionsChangedEvent(1L, List.of(
+                TransactionChange.updated(snapshot(1L, "5000.00", SALARY), snapshot(1L, "4000.005", SALARY)))));
+
+        assertEquals(0, columnStore.loadedUserCount());
+        assertEquals(0L, columnStore.usedBytes());
+        assertEquals(new BigDecimal("4000.01"), columnStore.netSince(1L, JANUARY));
+    }
+
+    @Test
+    @DisplayName("Should not keep columns built while a change to the same user committed")
+    void netSince_ConcurrentChangeNotCached() {
+        when(transactionRepository.streamColumnRowsByUserId(1L)).thenAnswer(invocation -> {
+            columnStore.onTransactionsChanged(new TransactionsChangedEvent(1L,
+                    List.of(TransactionChange.created(snapshot(2L, "1.00", SALARY)))));
+            return Stream.of(salary(1L, "5000.00"));
+        });
+
+        columnStore.netSince(1L, JANUARY);
+
+        assertEquals(0, columnStore.loadedUserCount());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used columns to stay within the memory budget")
+    void load_EvictsLeastRecentlyUsedOverBudget() {
+        columnStore = store(DataSize.ofBytes(2L * TransactionColumns.BYTES_PER_ROW));
+        when(transactionRepository.streamColumnRowsByUserId(anyLong()))
+                .thenAnswer(invocation -> Stream.of(salary(1L, "1.00")));
+
+        columnStore.netSince(1L, JANUARY);
+        columnStore.netSince(2L, JANUARY);
+        columnStore.netSince(1L, JANUARY);
+        columnStore.netSince(3L, JANUARY);
+        columnStore.netSince(1L, JANUARY);
+
+        assertEquals(2, columnStore.loadedUserCount());
+        assertEquals(2L * TransactionColumns.BYTES_PER_ROW, columnStore.usedBytes());
+        verify(transactionRepository, times(1)).streamColumnRowsByUserId(1L);
+        verify(transactionRepository, times(1)).streamColumnRowsByUserId(2L);
+    }
+
+    @Test
+    @DisplayName("Should answer from columns larger than the whole budget without keeping them")
+    void load_LargerThanBudget() {
+        columnStore = store(DataSize.ofBytes(TransactionColumns.BYTES_PER_ROW));
+        when(transactionRepository.streamColumnRowsByUserId(1L))
+                .thenAnswer(invocation -> Stream.of(salary(1L, "1.00"), salary(2L, "2.00")));
+
+        assertEquals(new BigDecimal("3.00"), columnStore.netSince(1L, JANUARY));
+        assertEquals(0, columnStore.loadedUserCount());
+    }
+
+    private TransactionColumnStore store(DataSize memoryBudget) {
+        return new TransactionColumnStore(transactionRepository, new TransactionTemplate(transactionManager),
+                memoryBudget);
+    }
+
+    private static TransactionColumnRow salary(Long id, String amount) {
+        return new TransactionColumnRow(id, JANUARY, new BigDecimal(amount), SALARY, "Salary",
+                TransactionType.INCOME);
+    }
+
+    private static TransactionSnapshot snapshot(Long id, String amount, Long categoryId) {
+        return TransactionSnapshot.builder()
+                .id(id)
+                .userId(1L)
+                .categoryId(categoryId)
+                .type(TransactionType.INCOME)
+                .amount(new BigDecimal(amount))
+                .date(JANUARY)
+                .build();
+    }
+}
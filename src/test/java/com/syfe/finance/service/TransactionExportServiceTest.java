@@ -0,0 +1,80 @@
+package com.syfe.finance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TransactionExportService transactionExportService;
+
+    private TransactionResponse salary;
+    private TransactionResponse rent;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        transactionExportService = new TransactionExportService(transactionRepository, objectMapper);
+
+        salary = new TransactionResponse(2L, new BigDecimal("5000.00"), LocalDate.of(2026, 1, 15),
+                "Salary", "January Salary", TransactionType.INCOME);
+        rent = new TransactionResponse(1L, new BigDecimal("1500.00"), LocalDate.of(2026, 1, 5),
+                "Rent", null, TransactionType.EXPENSE);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON line per transaction and close the stream")
+    void exportTransactions_WritesNdjson() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(transactionRepository.streamAllByUserId(1L))
+                .thenReturn(Stream.of(salary, rent).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = transactionExportService.exportTransactions(1L, out);
+
+        assertEquals(2, count);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":2"));
+        assertTrue(lines[0].contains("\"date\":\"2026-01-15\""));
+        assertTrue(lines[0].contains("\"category\":\"Salary\""));
+        assertTrue(lines[1].contains("\"type\":\"EXPENSE\""));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("Should write nothing for a user without transactions")
+    void exportTransactions_Empty() {
+        when(transactionRepository.streamAllByUserId(1L)).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = transactionExportService.exportTransactions(1L, out);
+
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,217 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.ImportProgressResponse;
+import com.syfe.finance.dto.ImportResultResponse;
+import com.syfe.finance.entity.Category;
+import com.syfe.finance.entity.Transaction;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.entity.User;
+import com.syfe.finance.exception.ValidationException;
+import com.syfe.finance.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionImportServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ValidatorFactory validatorFactory;
+    private TransactionImportService transactionImportService;
+
+    private User user;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        TransactionBatchService batchService = new TransactionBatchService(transactionRepository, categoryService,
+                validatorFactory.getValidator(), new TransactionTemplate(transactionManager), entityManager, eventPublisher);
+        transactionImportService = new TransactionImportService(batchService, categoryService);
+
+        user = User.builder().id(1L).username("test@example.com").build();
+        food = Category.builder().id(2L).name("Food").type(TransactionType.EXPENSE).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should import valid rows and report invalid lines")
+    @SuppressWarnings("unchecked")
+    void importCsv_MixedRows() {
+        String csv = "Description,Date,Amount,Category\n"
+                + "\"Lunch, office\",2026-01-15,12.50,Food\n"
+                + "Dinner,15/01/2026,20.00,Food\n"
+                + "Taxi,2026-01-16,abc,Food\n"
+                + "\n"
+                + "Gift,2026-01-17,30.00,Unknown\n"
+                + "Snack,2026-01-18,-1,Food\n"
+                + "Coffee,2026-01-19,10.005,Food\n";
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Food", "Unknown"), 1L))
+                .thenReturn(Map.of("Food", food));
+
+        ImportResultResponse response = transactionImportService.importCsv(stream(csv), user);
+
+        assertEquals(6, response.getRowsRead());
+        assertEquals(1, response.getImported());
+        assertEquals(5, response.getFailed());
+        assertFalse(response.isErrorsTruncated());
+        assertEquals(3, response.getErrors().get(0).getLine());
+        assertEquals("Invalid date: 15/01/2026 (expected yyyy-MM-dd)", response.getErrors().get(0).getError());
+        assertEquals("Invalid amount: abc", response.getErrors().get(1).getError());
+        assertEquals(6, response.getErrors().get(2).getLine());
+        assertEquals("Category not found with name: Unknown", response.getErrors().get(2).getError());
+        assertEquals("Amount must be positive", response.getErrors().get(3).getError());
+        assertEquals(8, response.getErrors().get(4).getLine());
+        assertEquals("Amount must have at most 15 digits and 2 decimal places",
+                response.getErrors().get(4).getError());
+
+        ArgumentCaptor<List<Transaction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(saved.capture());
+        Transaction lunch = saved.getValue().get(0);
+        assertEquals("Lunch, office", lunch.getDescription());
+        assertEquals(new BigDecimal("12.50"), lunch.getAmount());
+        assertEquals(LocalDate.of(2026, 1, 15), lunch.getDate());
+        assertEquals(TransactionType.EXPENSE, lunch.getType());
+    }
+
+    @Test
+    @DisplayName("Should commit in chunks and resolve each category name only once")
+    void importCsv_ChunkedWithCategoryCache() {
+        StringBuilder csv = new StringBuilder("date,amount,category\n");
+        int rows = TransactionBatchService.CHUNK_SIZE * 2 + 10;
+        for (int i = 0; i < rows; i++) {
+            csv.append("2026-01-15,1.00,Food\n");
+        }
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Food"), 1L)).thenReturn(Map.of("Food", food));
+
+        ImportResultResponse response = transactionImportService.importCsv(stream(csv.toString()), user);
+
+        assertEquals(rows, response.getImported());
+        assertEquals(0, response.getFailed());
+        verify(transactionRepository, times(3)).saveAll(anyList());
+        verify(categoryService, times(1)).findCategoriesByNamesForUser(any(), any());
+        assertTrue(response.getRowsPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("Should report the counts of a running import until it finishes")
+    void getProgress_WhileImporting() {
+        StringBuilder csv = new StringBuilder("date,amount,category\n");
+        int rows = TransactionBatchService.CHUNK_SIZE * 2;
+        for (int i = 0; i < rows; i++) {
+            csv.append("2026-01-15,1.00,Food\n");
+        }
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Food"), 1L)).thenReturn(Map.of("Food", food));
+        List<ImportProgressResponse> seen = new ArrayList<>();
+        when(transactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            seen.addAll(transactionImportService.getProgress(1L));
+            return invocation.getArgument(0);
+        });
+
+        transactionImportService.importCsv(stream(csv.toString()), user);
+
+        // Read while each chunk was being saved
+        assertEquals(2, seen.size());
+        assertEquals(TransactionBatchService.CHUNK_SIZE, seen.get(0).getRowsRead());
+        assertEquals(0, seen.get(0).getImported());
+        assertEquals(rows, seen.get(1).getRowsRead());
+        assertEquals(TransactionBatchService.CHUNK_SIZE, seen.get(1).getImported());
+        assertNotNull(seen.get(0).getStartedAt());
+        assertTrue(transactionImportService.getProgress(1L).isEmpty());
+        assertTrue(transactionImportService.getProgress(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should cap the number of reported line errors")
+    void importCsv_TruncatesErrors() {
+        StringBuilder csv = new StringBuilder("date,amount,category\n");
+        for (int i = 0; i < TransactionImportService.MAX_REPORTED_ERRORS + 5; i++) {
+            csv.append("bad,1.00,Food\n");
+        }
+
+        ImportResultResponse response = transactionImportService.importCsv(stream(csv.toString()), user);
+
+        assertEquals(TransactionImportService.MAX_REPORTED_ERRORS + 5, response.getFailed());
+        assertEquals(TransactionImportService.MAX_REPORTED_ERRORS, response.getErrors().size());
+        assertTrue(response.isErrorsTruncated());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should import the rows before a read failure and report the failure with the counts")
+    void importCsv_ReadFailsPartway() {
+        String csv = "date,amount,category,description\n"
+                + "2026-01-15,12.50,Food,Lunch\n"
+                + "2026-01-16,20.00,Food,Dinner\n"
+                + "2026-01-17,5.00,Food,\"Snack\n";
+        when(categoryService.findCategoriesByNamesForUser(Set.of("Food"), 1L)).thenReturn(Map.of("Food", food));
+
+        ImportResultResponse response = transactionImportService.importCsv(stream(csv), user);
+
+        assertEquals(3, response.getRowsRead());
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(4, response.getErrors().get(0).getLine());
+        assertEquals("Could not read the rest of the CSV file: Unterminated quoted field starting on line 4",
+                response.getErrors().get(0).getError());
+        verify(transactionRepository).saveAll(argThat(saved -> ((List<?>) saved).size() == 2));
+    }
+
+    @Test
+    @DisplayName("Should reject files without the required columns")
+    void importCsv_MissingColumn() {
+        assertThrows(ValidationException.class,
+                () -> transactionImportService.importCsv(stream("date,category\n2026-01-15,Food\n"), user));
+        assertThrows(ValidationException.class,
+                () -> transactionImportService.importCsv(stream(""), user));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.TransactionListResponse;
+import com.syfe.finance.dto.TransactionResponse;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionSnapshot;
+import com.syfe.finance.event.TransactionsChangedEvent;
+import com.syfe.finance.exception.ValidationException;
+import com.syfe.finance.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionSearchService transactionSearchService;
+
+    private TransactionResponse coffee;
+    private TransactionResponse grab;
+
+    @BeforeEach
+    void setUp() {
+        transactionSearchService = new TransactionSearchService(transactionRepository,
+                new TransactionTemplate(transactionManager), Duration.ofMinutes(30));
+
+        coffee = response(1L, LocalDate.of(2026, 1, 1), "Starbucks Coffee");
+        grab = response(2L, LocalDate.of(2026, 1, 2), "Grab ride");
+    }
+
+    @Test
+    @DisplayName("Should build the index once and answer later searches from memory")
+    void search_BuildsIndexLazilyOnce() {
+        when(transactionRepository.streamAllByUserId(1L)).thenReturn(Stream.of(coffee, grab));
+        when(transactionRepository.findResponsesByIdInAndUserId(List.of(1L), 1L)).thenReturn(List.of(coffee));
+        when(transactionRepository.findResponsesByIdInAndUserId(List.of(2L), 1L)).thenReturn(List.of(grab));
+
+        TransactionListResponse first = transactionSearchService.search(1L, "starbucks", null);
+        TransactionListResponse second = transactionSearchService.search(1L, "grab", null);
+
+        assertEquals(List.of(coffee), first.getTransactions());
+        assertEquals(List.of(grab), second.getTransactions());
+        verify(transactionRepository, times(1)).streamAllByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should not query transactions when nothing matches")
+    void search_NoMatch() {
+        when(transactionRepository.streamAllByUserId(1L)).thenReturn(Stream.of(coffee));
+
+        TransactionListResponse response = transactionSearchService.search(1L, "rent", null);
+
+        assertTrue(response.getTransactions().isEmpty());
+        verify(transactionRepository, never()).findResponsesByIdInAndUserId(anyCollection(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("Should apply committed changes to a loaded index")
+    void onTransactionsChanged_UpdatesLoadedIndex() {
+        when(transactionRepository.streamAllByUserId(1L)).thenReturn(Stream.of(coffee, grab));
+        transactionSearchService.search(1L, "grab", null);
+
+        TransactionSnapshot renamed = snapshot(1L, "Tea house");
+        transactionSearchService.onTransactionsChanged(TransactionsChangedEvent.of(1L,
+                TransactionChange.updated(snapshot(1L, "Starbucks Coffee"), renamed)));
+        transactionSearchService.onTransactionsChanged(TransactionsChangedEvent.of(1L,
+                TransactionChange.deleted(snapshot(2L, "Grab ride"))));
+
+        assertTrue(transactionSearchService.search(1L, "starbucks", null).getTransactions().isEmpty());
+        assertTrue(transactionSearchService.search(1L, "grab", null).getTransactions().isEmpty());
+        when(transactionRepository.findResponsesByIdInAndUserId(List.of(1L), 1L)).thenReturn(List.of(coffee));
+        assertEquals(1, transactionSearchService.search(1L, "tea", null).getTransactions().size());
+    }
+
+    @Test
+    @DisplayName("Should ignore changes for users without a loaded index")
+    void onTransactionsChanged_IgnoresUnloadedUsers() {
+        transactionSearchService.onTransactionsChanged(TransactionsChangedEvent.of(7L,
+                TransactionChange.created(snapshot(3L, "Coffee"))));
+
+        assertEquals(0, transactionSearchService.loadedIndexCount());
+    }
+
+    @Test
+    @DisplayName("Should evict idle indexes and rebuild on the next search")
+    void evictIdleIndexes_RebuildsOnNextSearch() {
+        transactionSearchService = new TransactionSearchService(transactionRepository,
+                new TransactionTemplate(transactionManager), Duration.ZERO);
+        when(transactionRepository.streamAllByUserId(1L))
+                .thenReturn(Stream.of(coffee))
+                .thenReturn(Stream.of(coffee));
+
+        transactionSearchService.search(1L, "rent", null);
+        transactionSearchService.evictIdleIndexes();
+        assertEquals(0, transactionSearchService.loadedIndexCount());
+
+        transactionSearchService.search(1L, "rent", null);
+        verify(transactionRepository, times(2)).streamAllByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject blank queries and out of range limits")
+    void search_InvalidInput() {
+        assertThrows(ValidationException.class, () -> transactionSearchService.search(1L, " ", null));
+        assertThrows(ValidationException.class, () -> transactionSearchService.search(1L, "coffee", 0));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private TransactionResponse response(Long id, LocalDate date, String description) {
+        return new TransactionResponse(id, new BigDecimal("10.00"), date, "Food", description,
+                TransactionType.EXPENSE);
+    }
+
+    private TransactionSnapshot snapshot(Long id, String description) {
+        return TransactionSnapshot.builder()
+                .id(id)
+                .userId(1L)
+                .date(LocalDate.of(2026, 1, 1))
+                .description(description)
+                .build();
+    }
+}
@@ -5,26 +5,35 @@ import com.syfe.finance.entity.Category;
 import com.syfe.finance.entity.Transaction;
 import com.syfe.finance.entity.TransactionType;
 import com.syfe.finance.entity.User;
+import com.syfe.finance.event.TransactionChange;
+import com.syfe.finance.event.TransactionsChangedEvent;
 import com.syfe.finance.exception.ResourceNotFoundException;
 import com.syfe.finance.exception.UnauthorizedAccessException;
 import com.syfe.finance.exception.ValidationException;
 import com.syfe.finance.repository.TransactionRepository;
+import com.syfe.finance.util.TransactionCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +45,9 @@ class TransactionServiceTest {
     @Mock
     private CategoryService categoryService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -44,6 +56,7 @@ class TransactionServiceTest {
     private Category category;
     private Transaction transaction;
     private TransactionRequest transactionRequest;
+    private TransactionResponse transactionResponse;
 
     @BeforeEach
     void setUp() {
@@ -74,6 +87,9 @@ class TransactionServiceTest {
                 .category(category)
                 .build();
 
+        transactionResponse = new TransactionResponse(1L, new BigDecimal("5000.00"),
+                LocalDate.now().minusDays(1), "Salary", "January Salary", TransactionType.INCOME);
+
         transactionRequest = TransactionRequest.builder()
                 .amount(new BigDecimal("5000.00"))
                 .date(LocalDate.now().minusDays(1))
@@ -95,6 +111,7 @@ class TransactionServiceTest {
         assertEquals("Salary", response.getCategory());
         assertEquals("INCOME", response.getType());
         verify(transactionRepository).save(any(Transaction.class));
+        verify(eventPublisher).publishEvent(any(TransactionsChangedEvent.class));
     }
 
     @Test
@@ -115,79 +132,126 @@ class TransactionServiceTest {
     @Test
     @DisplayName("Should get all transactions for user")
     void getAllTransactions_NoFilters() {
-        List<Transaction> transactions = Arrays.asList(transaction);
-        when(transactionRepository.findAllByUserIdOrderByDateDesc(user.getId())).thenReturn(transactions);
+        List<TransactionResponse> transactions = Arrays.asList(transactionResponse);
+        TransactionFilter filter = new TransactionFilter();
+        when(transactionRepository.findPage(user.getId(), filter, TransactionCursor.FIRST, 51))
+                .thenReturn(transactions);
 
         TransactionListResponse response = transactionService.getAllTransactions(
-                user.getId(), null, null, null);
+                user.getId(), filter, null, null);
 
         assertNotNull(response);
         assertEquals(1, response.getTransactions().size());
+        assertNull(response.getNextCursor());
     }
 
     @Test
-    @DisplayName("Should get transactions filtered by date range")
-    void getAllTransactions_WithDateFilter() {
-        List<Transaction> transactions = Arrays.asList(transaction);
-        LocalDate startDate = LocalDate.now().minusDays(7);
-        LocalDate endDate = LocalDate.now();
-        
-        when(transactionRepository.findAllByUserIdAndDateBetweenOrderByDateDesc(
-                user.getId(), startDate, endDate)).thenReturn(transactions);
+    @DisplayName("Should pass any combination of filters to a single repository query")
+    void getAllTransactions_WithFilters() {
+        List<TransactionResponse> transactions = Arrays.asList(transactionResponse);
+        TransactionFilter filter = TransactionFilter.builder()
+                .startDate(LocalDate.now().minusDays(7))
+                .categoryIds(List.of(1L, 2L))
+                .type(TransactionType.INCOME)
+                .minAmount(new BigDecimal("100.00"))
+                .description("salary")
+                .build();
+        when(transactionRepository.findPage(eq(user.getId()), eq(filter), any(), anyInt()))
+                .thenReturn(transactions);
 
         TransactionListResponse response = transactionService.getAllTransactions(
-                user.getId(), startDate, endDate, null);
+                user.getId(), filter, null, null);
 
         assertNotNull(response);
         assertEquals(1, response.getTransactions().size());
     }
 
     @Test
-    @DisplayName("Should get transactions filtered by category")
-    void getAllTransactions_WithCategoryFilter() {
-        List<Transaction> transactions = Arrays.asList(transaction);
-        when(transactionRepository.findAllByUserIdAndCategoryIdOrderByDateDesc(user.getId(), 1L))
-                .thenReturn(transactions);
+    @DisplayName("Should throw ValidationException for inverted date or amount ranges")
+    void getAllTransactions_InvertedRanges() {
+        TransactionFilter dates = TransactionFilter.builder()
+                .startDate(LocalDate.of(2026, 2, 1))
+                .endDate(LocalDate.of(2026, 1, 1))
+                .build();
+        TransactionFilter amounts = TransactionFilter.builder()
+                .minAmount(new BigDecimal("10.00"))
+                .maxAmount(new BigDecimal("5.00"))
+                .build();
+
+        assertThrows(ValidationException.class,
+                () -> transactionService.getAllTransactions(user.getId(), dates, null, null));
+        assertThrows(ValidationException.class,
+                () -> transactionService.getAllTransactions(user.getId(), amounts, null, null));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should return next cursor when more transactions exist")
+    void getAllTransactions_ReturnsNextCursor() {
+        TransactionResponse older = new TransactionResponse(7L, new BigDecimal("20.00"),
+                LocalDate.of(2026, 1, 3), "Salary", null, TransactionType.INCOME);
+        TransactionResponse oldest = new TransactionResponse(5L, new BigDecimal("10.00"),
+                LocalDate.of(2026, 1, 2), "Salary", null, TransactionType.INCOME);
+        TransactionFilter filter = new TransactionFilter();
+        when(transactionRepository.findPage(user.getId(), filter, TransactionCursor.FIRST, 3))
+                .thenReturn(Arrays.asList(transactionResponse, older, oldest));
 
         TransactionListResponse response = transactionService.getAllTransactions(
-                user.getId(), null, null, 1L);
+                user.getId(), filter, null, 2);
 
-        assertNotNull(response);
-        assertEquals(1, response.getTransactions().size());
+        assertEquals(2, response.getTransactions().size());
+        TransactionCursor next = TransactionCursor.decode(response.getNextCursor());
+        assertEquals(LocalDate.of(2026, 1, 3), next.getDate());
+        assertEquals(7L, next.getId());
     }
 
     @Test
-    @DisplayName("Should get transactions with all filters")
-    void getAllTransactions_WithAllFilters() {
-        List<Transaction> transactions = Arrays.asList(transaction);
-        LocalDate startDate = LocalDate.now().minusDays(7);
-        LocalDate endDate = LocalDate.now();
-        
-        when(transactionRepository.findAllByUserIdAndDateBetweenAndCategoryIdOrderByDateDesc(
-                user.getId(), startDate, endDate, 1L)).thenReturn(transactions);
+    @DisplayName("Should seek after the supplied cursor")
+    void getAllTransactions_SeeksAfterCursor() {
+        String cursor = new TransactionCursor(LocalDate.of(2026, 1, 3), 7L).encode();
+        TransactionFilter filter = new TransactionFilter();
+        when(transactionRepository.findPage(eq(user.getId()), eq(filter),
+                argThat(position -> position.getId() == 7L
+                        && position.getDate().equals(LocalDate.of(2026, 1, 3))),
+                eq(3)))
+                .thenReturn(Collections.emptyList());
 
         TransactionListResponse response = transactionService.getAllTransactions(
-                user.getId(), startDate, endDate, 1L);
+                user.getId(), filter, cursor, 2);
 
-        assertNotNull(response);
-        assertEquals(1, response.getTransactions().size());
+        assertTrue(response.getTransactions().isEmpty());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should throw ValidationException for out of range limit")
+    void getAllTransactions_InvalidLimit() {
+        TransactionFilter filter = new TransactionFilter();
+        assertThrows(ValidationException.class,
+                () -> transactionService.getAllTransactions(user.getId(), filter, null, 0));
+        assertThrows(ValidationException.class,
+                () -> transactionService.getAllTransactions(user.getId(), filter, null, 501));
     }
 
     @Test
     @DisplayName("Should get transaction by ID")
     void getTransactionById_Success() {
-        when(transactionRepository.findById(1L)).thenReturn(Optional.of(transaction));
+        when(transactionRepository.findResponseByIdAndUserId(1L, user.getId()))
+                .thenReturn(Optional.of(transactionResponse));
 
         TransactionResponse response = transactionService.getTransactionById(1L, user);
 
         assertNotNull(response);
         assertEquals(1L, response.getId());
+        assertEquals("Salary", response.getCategory());
+        verify(transactionRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Should throw ResourceNotFoundException for unknown transaction")
     void getTransactionById_NotFound() {
-        when(transactionRepository.findById(999L)).thenReturn(Optional.empty());
+        when(transactionRepository.findResponseByIdAndUserId(999L, user.getId())).thenReturn(Optional.empty());
+        when(transactionRepository.existsById(999L)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, 
                 () -> transactionService.getTransactionById(999L, user));
@@ -196,12 +260,8 @@ class TransactionServiceTest {
     @Test
     @DisplayName("Should throw UnauthorizedAccessException when accessing another user's transaction")
     void getTransactionById_Unauthorized() {
-        Transaction otherUserTransaction = Transaction.builder()
-                .id(2L)
-                .user(otherUser)
-                .build();
-        
-        when(transactionRepository.findById(2L)).thenReturn(Optional.of(otherUserTransaction));
+        when(transactionRepository.findResponseByIdAndUserId(2L, user.getId())).thenReturn(Optional.empty());
+        when(transactionRepository.existsById(2L)).thenReturn(true);
 
         assertThrows(UnauthorizedAccessException.class, 
                 () -> transactionService.getTransactionById(2L, user));
@@ -222,6 +282,12 @@ class TransactionServiceTest {
 
         assertNotNull(response);
         verify(transactionRepository).save(any(Transaction.class));
+        ArgumentCaptor<TransactionsChangedEvent> event = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        TransactionChange change = event.getValue().getChanges().get(0);
+        assertEquals(new BigDecimal("5000.00"), change.getBefore().getAmount());
+        assertEquals(new BigDecimal("6000.00"), change.getAfter().getAmount());
+        assertEquals("Updated Salary", change.getAfter().getDescription());
     }
 
     @Test
@@ -254,6 +320,11 @@ class TransactionServiceTest {
 
         assertDoesNotThrow(() -> transactionService.deleteTransaction(1L, user));
         verify(transactionRepository).delete(transaction);
+        ArgumentCaptor<TransactionsChangedEvent> event = ArgumentCaptor.forClass(TransactionsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(user.getId(), event.getValue().getUserId());
+        assertNull(event.getValue().getChanges().get(0).getAfter());
+        assertEquals(1L, event.getValue().getChanges().get(0).getBefore().getId());
     }
 
     @Test
@@ -269,5 +340,6 @@ class TransactionServiceTest {
         assertThrows(UnauthorizedAccessException.class, 
                 () -> transactionService.deleteTransaction(2L, user));
         verify(transactionRepository, never()).delete(any(Transaction.class));
+        verifyNoInteractions(eventPublisher);
     }
 }
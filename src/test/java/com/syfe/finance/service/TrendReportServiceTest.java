@@ -0,0 +1,118 @@
+package com.syfe.finance.service;
+
+import com.syfe.finance.dto.TrendReportResponse;
+import com.syfe.finance.dto.YearTrend;
+import com.syfe.finance.dto.YearlyReportResponse;
+import com.syfe.finance.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendReportServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ReportService reportService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private TrendReportService trendReportService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        trendReportService = new TrendReportService(reportService, transactionManager, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should total income and expenses of every year, oldest first")
+    void getTrendReport_TotalsPerYear() {
+        when(reportService.getYearlyReport(eq(USER_ID), anyInt()))
+                .thenAnswer(invocation -> report(invocation.getArgument(1)));
+
+        TrendReportResponse response = trendReportService.getTrendReport(USER_ID, 2022, 2026);
+
+        assertEquals(2022, response.getFromYear());
+        assertEquals(2026, response.getToYear());
+        assertEquals(5, response.getYears().size());
+        for (int i = 0; i < 5; i++) {
+            YearTrend trend = response.getYears().get(i);
+            assertEquals(2022 + i, trend.getYear());
+            assertEquals(new BigDecimal("6000.00"), trend.getTotalIncome());
+            assertEquals(new BigDecimal("1500.00"), trend.getTotalExpenses());
+            assertEquals(new BigDecimal("4500.00"), trend.getNetSavings());
+        }
+    }
+
+    @Test
+    @DisplayName("Should aggregate years concurrently, each in its own read-only transaction")
+    void getTrendReport_RunsYearsInParallel() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(reportService.getYearlyReport(eq(USER_ID), anyInt())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            // Only returns if all three years are being aggregated at the same time
+            assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+            return report(invocation.getArgument(1));
+        });
+
+        TrendReportResponse response = trendReportService.getTrendReport(USER_ID, 2024, 2026);
+
+        assertEquals(3, response.getYears().size());
+        verify(transactionManager, times(3)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failure of any year")
+    void getTrendReport_PropagatesFailure() {
+        when(reportService.getYearlyReport(eq(USER_ID), anyInt()))
+                .thenAnswer(invocation -> report(invocation.getArgument(1)));
+        when(reportService.getYearlyReport(USER_ID, 2025)).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> trendReportService.getTrendReport(USER_ID, 2024, 2026));
+    }
+
+    @Test
+    @DisplayName("Should reject inverted, overly long and out-of-range years")
+    void getTrendReport_InvalidRange() {
+        assertThrows(ValidationException.class, () -> trendReportService.getTrendReport(USER_ID, 2026, 2025));
+        assertThrows(ValidationException.class, () -> trendReportService.getTrendReport(USER_ID, 2000,
+                2000 + TrendReportService.MAX_YEARS));
+        assertThrows(ValidationException.class, () -> trendReportService.getTrendReport(USER_ID, -5, 5));
+        verifyNoInteractions(reportService);
+    }
+
+    private YearlyReportResponse report(int year) {
+        return YearlyReportResponse.builder()
+                .year(year)
+                .totalIncome(Map.of("Salary", new BigDecimal("5000.00"), "Bonus", new BigDecimal("1000.00")))
+                .totalExpenses(Map.of("Rent", new BigDecimal("1500.00")))
+                .netSavings(new BigDecimal("4500.00"))
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should split plain records and track line numbers")
+    void readRecord_PlainFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("date,amount\n2026-01-15,10.00\n"));
+
+        assertEquals(Arrays.asList("date", "amount"), reader.readRecord());
+        assertEquals(Arrays.asList("2026-01-15", "10.00"), reader.readRecord());
+        assertEquals(2, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    @DisplayName("Should handle quoted separators, escaped quotes and empty fields")
+    void readRecord_QuotedFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"Coffee, large\",\"say \"\"hi\"\"\",,end"));
+
+        assertEquals(Arrays.asList("Coffee, large", "say \"hi\"", "", "end"), reader.readRecord());
+    }
+
+    @Test
+    @DisplayName("Should join quoted fields spanning several lines")
+    void readRecord_MultiLineField() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,\"first\nsecond\"\nb,c"));
+
+        List<String> first = reader.readRecord();
+        assertEquals(Arrays.asList("a", "first\nsecond"), first);
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(Arrays.asList("b", "c"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+    }
+
+    @Test
+    @DisplayName("Should strip a leading byte order mark")
+    void readRecord_ByteOrderMark() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFdate,amount"));
+
+        assertEquals("date", reader.readRecord().get(0));
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void readRecord_Unterminated() {
+        CsvReader reader = new CsvReader(new StringReader("a,\"open"));
+
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
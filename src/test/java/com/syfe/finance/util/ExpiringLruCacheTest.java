@@ -0,0 +1,83 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringLruCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ExpiringLruCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExpiringLruCache<>(2, Duration.ofNanos(100), clock::get);
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    void get_CountsHitsAndMisses() {
+        assertNull(cache.get("a"));
+        cache.put("a", "A");
+
+        assertEquals("A", cache.get("a"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry once full")
+    void put_EvictsLeastRecentlyUsed() {
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get("b"));
+        assertEquals("A", cache.get("a"));
+        assertEquals("C", cache.get("c"));
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the time to live")
+    void get_ExpiresAfterTtl() {
+        cache.put("a", "A");
+        clock.set(99);
+        assertEquals("A", cache.get("a"));
+
+        clock.set(100);
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should drop expired entries in bulk without counting removals as evictions")
+    void evictExpired_DropsOnlyExpired() {
+        cache.put("a", "A");
+        clock.set(50);
+        cache.put("b", "B");
+        cache.remove("b");
+        cache.put("b", "B");
+        clock.set(120);
+
+        cache.evictExpired();
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals("B", cache.get("b"));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive size")
+    void constructor_RejectsEmptyCache() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringLruCache<>(0, Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares summing 1M amounts with {@code BigDecimal::add} against
+ * accumulating cents, reporting time and bytes allocated per run. Opt-in:
+ * {@code mvn test -Dtest=MoneyAggregationBenchmarkTest -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class MoneyAggregationBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 10;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareAggregation() {
+        SplittableRandom random = new SplittableRandom(7);
+        BigDecimal[] amounts = new BigDecimal[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextLong(1, 10_000_000), 2);
+        }
+
+        BigDecimal expected = sumBigDecimal(amounts);
+        assertEquals(expected, sumCents(amounts));
+
+        System.out.printf("%-12s %12s %16s%n", "approach", "ms per run", "bytes per run");
+        measure("BigDecimal", () -> sumBigDecimal(amounts));
+        measure("Money", () -> sumCents(amounts));
+    }
+
+    private static BigDecimal sumBigDecimal(BigDecimal[] amounts) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    private static BigDecimal sumCents(BigDecimal[] amounts) {
+        long cents = 0;
+        for (BigDecimal amount : amounts) {
+            cents = Math.addExact(cents, Money.toCents(amount));
+        }
+        return Money.ofCents(cents).toBigDecimal();
+    }
+
+    private void measure(String name, Supplier<BigDecimal> run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            run.get();
+        }
+        double millis = (System.nanoTime() - startedAt) / 1_000_000.0 / MEASURED_RUNS;
+        long bytes = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / MEASURED_RUNS;
+        System.out.printf("%-12s %12.2f %16d%n", name, millis, bytes);
+    }
+}
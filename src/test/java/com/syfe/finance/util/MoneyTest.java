@@ -0,0 +1,59 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should convert amounts with up to two decimals to cents and back")
+    void of_RoundTrip() {
+        assertEquals(123456L, Money.of(new BigDecimal("1234.56")).getCents());
+        assertEquals(500L, Money.of(new BigDecimal("5")).getCents());
+        assertEquals(-10L, Money.of(new BigDecimal("-0.1")).getCents());
+        assertEquals(new BigDecimal("1234.56"), Money.of(new BigDecimal("1234.56")).toBigDecimal());
+        assertEquals(new BigDecimal("5.00"), Money.of(new BigDecimal("5")).toBigDecimal());
+        assertSame(Money.ZERO, Money.of(new BigDecimal("0.00")));
+    }
+
+    @Test
+    @DisplayName("Should reject amounts that would need rounding")
+    void of_RejectsSubCentAmounts() {
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("0.001")));
+    }
+
+    @Test
+    @DisplayName("Should fail instead of overflowing")
+    void arithmetic_OverflowChecked() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        Money min = Money.ofCents(Long.MIN_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> min.minus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e17")));
+    }
+
+    @Test
+    @DisplayName("Should add, subtract and compare like BigDecimal")
+    void arithmetic_MatchesBigDecimal() {
+        SplittableRandom random = new SplittableRandom(42);
+        BigDecimal expected = BigDecimal.ZERO;
+        Money actual = Money.ZERO;
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(-1_000_000, 1_000_000), 2);
+            expected = i % 3 == 0 ? expected.subtract(amount) : expected.add(amount);
+            actual = i % 3 == 0 ? actual.minus(Money.of(amount)) : actual.plus(Money.of(amount));
+        }
+
+        assertEquals(expected, actual.toBigDecimal());
+        assertEquals(expected.signum(), actual.signum());
+        assertTrue(Money.ofCents(1).compareTo(Money.ofCents(2)) < 0);
+        assertEquals(Money.ofCents(250), Money.of(new BigDecimal("2.50")));
+        assertEquals("-2.50", Money.ofCents(-250).toString());
+    }
+}
@@ -0,0 +1,102 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetSavingsLedgerTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+
+    private NetSavingsLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new NetSavingsLedger();
+        ledger.add(JANUARY, 500_000, 1);
+        ledger.add(JANUARY.plusDays(14), -12_050, 1);
+        ledger.add(JANUARY.plusDays(30), -7_950, 1);
+    }
+
+    @Test
+    @DisplayName("Should net every transaction on or after a day")
+    void netSince_SumsSuffix() {
+        assertEquals(new BigDecimal("4800.00"), ledger.netSince(JANUARY.minusYears(1)));
+        assertEquals(new BigDecimal("4800.00"), ledger.netSince(JANUARY));
+        assertEquals(new BigDecimal("-200.00"), ledger.netSince(JANUARY.plusDays(1)));
+        assertEquals(new BigDecimal("-79.50"), ledger.netSince(JANUARY.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("Should return an unscaled zero when no transactions follow, but 0.00 when they net out")
+    void netSince_NoTransactions() {
+        assertEquals(BigDecimal.ZERO, ledger.netSince(JANUARY.plusDays(31)));
+        assertEquals(BigDecimal.ZERO, ledger.netSince(JANUARY.plusYears(5)));
+        assertEquals(BigDecimal.ZERO, new NetSavingsLedger().netSince(JANUARY));
+
+        ledger.add(JANUARY.plusDays(40), 100, 1);
+        ledger.add(JANUARY.plusDays(40), -100, 1);
+        assertEquals(new BigDecimal("0.00"), ledger.netSince(JANUARY.plusDays(40)));
+    }
+
+    @Test
+    @DisplayName("Should undo a transaction removed with the negated amount")
+    void add_RemovesTransaction() {
+        ledger.add(JANUARY.plusDays(30), 7_950, -1);
+
+        assertEquals(BigDecimal.ZERO, ledger.netSince(JANUARY.plusDays(15)));
+        assertEquals(2, ledger.transactionCount());
+    }
+
+    @Test
+    @DisplayName("Should grow to take in backdated and far future days without losing totals")
+    void add_GrowsBothWays() {
+        ledger.add(JANUARY.minusYears(3), 1_000, 1);
+        ledger.add(JANUARY.plusYears(2), -2_000, 1);
+
+        assertTrue(ledger.capacity() > 5 * 365);
+        assertEquals(new BigDecimal("4790.00"), ledger.netSince(JANUARY.minusYears(4)));
+        assertEquals(new BigDecimal("4780.00"), ledger.netSince(JANUARY.minusYears(3).plusDays(1)));
+        assertEquals(new BigDecimal("-20.00"), ledger.netSince(JANUARY.plusDays(31)));
+    }
+
+    @Test
+    @DisplayName("Should match a naive suffix sum after random inserts and removals")
+    void netSince_MatchesNaiveSum() {
+        Random random = new Random(42);
+        NetSavingsLedger randomLedger = new NetSavingsLedger();
+        long[] daily = new long[2000];
+        int[] counts = new int[daily.length];
+        LocalDate origin = JANUARY.minusDays(1000);
+        for (int i = 0; i < 5000; i++) {
+            int day = random.nextInt(daily.length);
+            if (counts[day] > 0 && random.nextInt(4) == 0) {
+                randomLedger.add(origin.plusDays(day), -daily[day], -counts[day]);
+                daily[day] = 0;
+                counts[day] = 0;
+            } else {
+                long cents = random.nextInt(200_000) - 100_000;
+                randomLedger.add(origin.plusDays(day), cents, 1);
+                daily[day] += cents;
+                counts[day]++;
+            }
+        }
+
+        for (int from = 0; from < daily.length; from += 37) {
+            long expected = 0;
+            int count = 0;
+            for (int day = from; day < daily.length; day++) {
+                expected += daily[day];
+                count += counts[day];
+            }
+            BigDecimal net = randomLedger.netSince(origin.plusDays(from));
+            assertEquals(count == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(expected, Money.SCALE), net);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times 100k simulated paths over five years of months, on one thread and on
+ * one thread per core. Opt-in:
+ * {@code mvn test -Dtest=SavingsSimulationBenchmarkTest -Dbenchmarks=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class SavingsSimulationBenchmarkTest {
+
+    private static final int PATHS = 100_000;
+    private static final int MONTHS = 60;
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 10;
+
+    @Test
+    void timeSimulation() {
+        SplittableRandom random = new SplittableRandom(7);
+        long[] history = new long[24];
+        for (int i = 0; i < history.length; i++) {
+            history[i] = random.nextLong(-200_000, 500_000);
+        }
+        SavingsSimulation simulation = new SavingsSimulation(history, 0, 10_000_000, MONTHS, 0, 30, Integer.getInteger("bandPoints", 12));
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(cores);
+        try {
+            System.out.printf("%-12s %12s%n", "threads", "ms per run");
+            measure("1", simulation, Runnable::run);
+            double millis = measure(String.valueOf(cores), simulation, pool);
+            assertTrue(millis > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static double measure(String name, SavingsSimulation simulation, java.util.concurrent.Executor executor) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            simulation.run(PATHS, i, executor);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            simulation.run(PATHS, i, executor);
+        }
+        double millis = (System.nanoTime() - startedAt) / 1_000_000.0 / MEASURED_RUNS;
+        System.out.printf("%-12s %12.2f%n", name, millis);
+        return millis;
+    }
+}
@@ -0,0 +1,158 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavingsSimulationTest {
+
+    @Test
+    @DisplayName("Constant months give every path the same balances")
+    void run_ConstantHistory() {
+        SavingsSimulation simulation = new SavingsSimulation(new long[]{10_000}, 5_000, 50_000, 6, 0, 30, 3);
+
+        SavingsSimulation.Result result = simulation.run(1000, 1, Runnable::run);
+
+        assertEquals(1.0, result.getProbability());
+        assertArrayEquals(new int[]{2, 4, 6}, result.getCheckpointSteps());
+        assertArrayEquals(new long[]{25_000, 25_000, 25_000, 25_000, 25_000}, result.getPercentileCents(0));
+        assertArrayEquals(new long[]{65_000, 65_000, 65_000, 65_000, 65_000}, result.getPercentileCents(2));
+    }
+
+    @Test
+    @DisplayName("A final partial month adds its share of a drawn month")
+    void run_PartialMonth() {
+        SavingsSimulation simulation = new SavingsSimulation(new long[]{30_000}, 0, 45_000, 1, 15, 30, 12);
+
+        SavingsSimulation.Result result = simulation.run(10, 1, Runnable::run);
+
+        assertArrayEquals(new int[]{1, 2}, result.getCheckpointSteps());
+        assertEquals(45_000, result.getPercentileCents(1)[0]);
+        assertEquals(1.0, result.getProbability());
+    }
+
+    @Test
+    @DisplayName("Paths that reach the target before the end count even if they fall back")
+    void run_ReachedOnTheWay() {
+        SavingsSimulation reached = new SavingsSimulation(new long[]{-1_000}, 10_000, 10_000, 3, 0, 31, 12);
+        SavingsSimulation notReached = new SavingsSimulation(new long[]{-1_000}, 9_999, 10_000, 3, 0, 31, 12);
+
+        assertEquals(1.0, reached.run(100, 1, Runnable::run).getProbability());
+        assertEquals(0.0, notReached.run(100, 1, Runnable::run).getProbability());
+    }
+
+    @Test
+    @DisplayName("Draws months with replacement in proportion to the history")
+    void run_BootstrapsHistory() {
+        // One month of either nothing or the whole target
+        SavingsSimulation simulation = new SavingsSimulation(new long[]{0, 100_00}, 0, 100_00, 1, 0, 30, 12);
+
+        SavingsSimulation.Result result = simulation.run(100_000, 42, Runnable::run);
+
+        assertEquals(0.5, result.getProbability(), 0.01);
+        long[] percentiles = result.getPercentileCents(0);
+        assertEquals(0, percentiles[1]);
+        assertEquals(100_00, percentiles[3]);
+    }
+
+    @Test
+    @DisplayName("A seed gives the same result on one thread and on many")
+    void run_SameSeedSameResult() {
+        long[] history = {250_000, -80_000, 120_000, 0, 310_000, -15_000};
+        SavingsSimulation simulation = new SavingsSimulation(history, -20_000, 1_000_000, 17, 9, 31, 12);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            int paths = 3 * SavingsSimulation.CHUNK_PATHS + 17;
+            SavingsSimulation.Result serial = simulation.run(paths, 99, Runnable::run);
+            SavingsSimulation.Result parallel = simulation.run(paths, 99, pool);
+
+            assertEquals(serial.getProbability(), parallel.getProbability());
+            assertArrayEquals(serial.getCheckpointSteps(), parallel.getCheckpointSteps());
+            for (int i = 0; i < serial.getCheckpointSteps().length; i++) {
+                assertArrayEquals(serial.getPercentileCents(i), parallel.getPercentileCents(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Rejected chunks fail the run")
+    void run_Rejected() {
+        SavingsSimulation simulation = new SavingsSimulation(new long[]{1}, 0, 1, 1, 0, 30, 12);
+
+        assertThrows(RejectedExecutionException.class, () -> simulation.run(10, 1, task -> {
+            throw new RejectedExecutionException("full");
+        }));
+    }
+
+    @Test
+    @DisplayName("Without history every month adds nothing")
+    void run_NoHistory() {
+        SavingsSimulation.Result result = new SavingsSimulation(new long[0], 700, 1_000, 2, 0, 30, 12)
+                .run(10, 1, Runnable::run);
+
+        assertEquals(0.0, result.getProbability());
+        assertArrayEquals(new long[]{700, 700, 700, 700, 700}, result.getPercentileCents(1));
+    }
+
+    @Test
+    @DisplayName("Rejects a horizon that ends today")
+    void constructor_NoHorizon() {
+        assertThrows(IllegalArgumentException.class, () -> new SavingsSimulation(new long[]{1}, 0, 1, 0, 0, 30, 12));
+    }
+
+    @Test
+    @DisplayName("Checkpoints spread evenly and always include the last step")
+    void checkpointSteps_Spread() {
+        assertArrayEquals(new int[]{1, 2, 3}, SavingsSimulation.checkpointSteps(3, 12));
+        assertArrayEquals(new int[]{3, 5, 8, 10}, SavingsSimulation.checkpointSteps(10, 4));
+        assertArrayEquals(new int[]{10}, SavingsSimulation.checkpointSteps(10, 1));
+    }
+
+    @Test
+    @DisplayName("Percentiles use the nearest rank")
+    void rank_NearestRank() {
+        assertEquals(0, SavingsSimulation.rank(10, 5));
+        assertEquals(2, SavingsSimulation.rank(10, 25));
+        assertEquals(4, SavingsSimulation.rank(10, 50));
+        assertEquals(9, SavingsSimulation.rank(10, 95));
+        assertEquals(0, SavingsSimulation.rank(1, 95));
+    }
+
+    @Test
+    @DisplayName("Selection finds the same values as sorting, duplicates and extremes included")
+    void select_MatchesSort() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int run = 0; run < 200; run++) {
+            long[] values = new long[1 + random.nextInt(run < 20 ? 4 : 500)];
+            int distinct = 1 + random.nextInt(run % 2 == 0 ? 5 : 1_000_000);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt(distinct) - distinct / 2;
+            }
+            if (run % 10 == 0) {
+                // A single outlier crowds the rest into one bucket
+                values[0] = Long.MAX_VALUE / 2;
+            }
+            int[] ranks = new int[SavingsSimulation.PERCENTILES.length];
+            for (int p = 0; p < ranks.length; p++) {
+                ranks[p] = SavingsSimulation.rank(values.length, SavingsSimulation.PERCENTILES[p]);
+            }
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+
+            long[] selected = SavingsSimulation.select(values, ranks);
+
+            for (int p = 0; p < ranks.length; p++) {
+                assertEquals(sorted[ranks[p]], selected[p]);
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.syfe.finance.util;
+
+import com.syfe.finance.dto.CategoryTotal;
+import com.syfe.finance.dto.MonthlyCategoryTotal;
+import com.syfe.finance.entity.TransactionType;
+import com.syfe.finance.event.TransactionSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionColumnsTest {
+
+    private static final long SALARY = 10L;
+    private static final long FOOD = 20L;
+
+    private TransactionColumns columns;
+
+    @BeforeEach
+    void setUp() {
+        columns = new TransactionColumns();
+        columns.append(1L, LocalDate.of(2026, 1, 1), new BigDecimal("5000.00"), SALARY, "Salary",
+                TransactionType.INCOME);
+        columns.append(2L, LocalDate.of(2026, 1, 15), new BigDecimal("120.50"), FOOD, "Food",
+                TransactionType.EXPENSE);
+        columns.append(3L, LocalDate.of(2026, 1, 31), new BigDecimal("79.50"), FOOD, "Food",
+                TransactionType.EXPENSE);
+        columns.append(4L, LocalDate.of(2026, 2, 1), new BigDecimal("5000.00"), SALARY, "Salary",
+                TransactionType.INCOME);
+    }
+
+    @Test
+    @DisplayName("Should sum a half-open date range per category and type")
+    void categoryTotals_HalfOpenRange() {
+        Map<String, BigDecimal> january = byCategory(columns.categoryTotals(
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1)));
+
+        assertEquals(Map.of("Salary", new BigDecimal("5000.00"), "Food", new BigDecimal("200.00")), january);
+        assertTrue(columns.categoryTotals(LocalDate.of(2026, 2, 2), LocalDate.of(2026, 3, 1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should break a year down by month")
+    void monthlyCategoryTotals_PerMonth() {
+        List<MonthlyCategoryTotal> totals = columns.monthlyCategoryTotals(2026);
+
+        assertEquals(3, totals.size());
+        assertTrue(totals.contains(new MonthlyCategoryTotal(1, "Food", TransactionType.EXPENSE,
+                new BigDecimal("200.00"))));
+        assertTrue(totals.contains(new MonthlyCategoryTotal(2, "Salary", TransactionType.INCOME,
+                new BigDecimal("5000.00"))));
+        assertTrue(columns.monthlyCategoryTotals(2025).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should net income against expenses since a day, with an unscaled zero when there are none")
+    void netSince_InclusiveStart() {
+        assertEquals(new BigDecimal("9800.00"), columns.netSince(LocalDate.of(2026, 1, 1)));
+        assertEquals(new BigDecimal("4920.50"), columns.netSince(LocalDate.of(2026, 1, 31)));
+        assertEquals(BigDecimal.ZERO, columns.netSince(LocalDate.of(2026, 2, 2)));
+    }
+
+    @Test
+    @DisplayName("Should reject rows appended out of date order")
+    void append_OutOfOrder() {
+        assertThrows(IllegalArgumentException.class, () -> columns.append(5L, LocalDate.of(2025, 12, 31),
+                BigDecimal.ONE, FOOD, "Food", TransactionType.EXPENSE));
+    }
+
+    @Test
+    @DisplayName("Should remove, move and add rows while keeping date order")
+    void update_KeepsOrder() {
+        boolean applied = columns.update(List.of(2L, 3L), List.of(
+                snapshot(3L, LocalDate.of(2026, 3, 1), "10.00", FOOD, TransactionType.EXPENSE),
+                snapshot(9L, LocalDate.of(2025, 12, 31), "1.00", FOOD, TransactionType.EXPENSE)));
+
+        assertTrue(applied);
+        assertEquals(4, columns.size());
+        assertEquals(new BigDecimal("-1.00"), columns.netSince(LocalDate.of(2025, 12, 31)).subtract(
+                columns.netSince(LocalDate.of(2026, 1, 1))));
+        assertEquals(new BigDecimal("-10.00"), columns.netSince(LocalDate.of(2026, 2, 2)));
+        assertTrue(columns.categoryTotals(LocalDate.of(2026, 1, 2), LocalDate.of(2026, 2, 1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should replace a row that is added again instead of counting it twice")
+    void update_ReplacesSameId() {
+        columns.update(Collections.emptyList(),
+                List.of(snapshot(4L, LocalDate.of(2026, 2, 1), "5000.00", SALARY, TransactionType.INCOME)));
+
+        assertEquals(4, columns.size());
+        assertEquals(new BigDecimal("5000.00"), columns.netSince(LocalDate.of(2026, 2, 1)));
+    }
+
+    @Test
+    @DisplayName("Should leave the columns unchanged when a row uses an unknown category")
+    void update_UnknownCategory() {
+        boolean applied = columns.update(List.of(1L),
+                List.of(snapshot(5L, LocalDate.of(2026, 1, 5), "1.00", 99L, TransactionType.EXPENSE)));
+
+        assertFalse(applied);
+        assertEquals(4, columns.size());
+        assertEquals(new BigDecimal("9800.00"), columns.netSince(LocalDate.of(2026, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should leave the columns unchanged when an added amount cannot be held in cents")
+    void update_UnconvertibleAmount() {
+        assertThrows(ArithmeticException.class, () -> columns.update(List.of(1L),
+                List.of(snapshot(5L, LocalDate.of(2026, 1, 5), "10.005", SALARY, TransactionType.INCOME))));
+
+        assertEquals(4, columns.size());
+        assertEquals(new BigDecimal("9800.00"), columns.netSince(LocalDate.of(2026, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should match a naive sum after many random updates")
+    void update_MatchesNaiveSum() {
+        Random random = new Random(42);
+        Map<Long, TransactionSnapshot> expected = new HashMap<>();
+        // Starts from the four rows of setUp, which ids 1 to 4 replace or remove
+        expected.put(1L, snapshot(1L, LocalDate.of(2026, 1, 1), "5000.00", SALARY, TransactionType.INCOME));
+        expected.put(2L, snapshot(2L, LocalDate.of(2026, 1, 15), "120.50", FOOD, TransactionType.EXPENSE));
+        expected.put(3L, snapshot(3L, LocalDate.of(2026, 1, 31), "79.50", FOOD, TransactionType.EXPENSE));
+        expected.put(4L, snapshot(4L, LocalDate.of(2026, 2, 1), "5000.00", SALARY, TransactionType.INCOME));
+
+        for (int round = 0; round < 200; round++) {
+            List<Long> removed = new ArrayList<>();
+            List<TransactionSnapshot> added = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                long id = random.nextInt(50) + 1;
+                if (random.nextBoolean()) {
+                    removed.add(id);
+                    added.removeIf(previous -> previous.getId() == id);
+                    expected.remove(id);
+                } else {
+                    boolean income = random.nextBoolean();
+                    TransactionSnapshot snapshot = snapshot(id, LocalDate.of(2026, 1, 1).plusDays(random.nextInt(60)),
+                            random.nextInt(10_000) + ".25", income ? SALARY : FOOD,
+                            income ? TransactionType.INCOME : TransactionType.EXPENSE);
+                    added.removeIf(previous -> previous.getId() == id);
+                    added.add(snapshot);
+                    expected.put(id, snapshot);
+                }
+            }
+            assertTrue(columns.update(removed, added));
+        }
+
+        LocalDate from = LocalDate.of(2026, 1, 20);
+        BigDecimal naive = BigDecimal.ZERO;
+        for (TransactionSnapshot snapshot : expected.values()) {
+            if (!snapshot.getDate().isBefore(from)) {
+                naive = snapshot.getType() == TransactionType.INCOME
+                        ? naive.add(snapshot.getAmount())
+                        : naive.subtract(snapshot.getAmount());
+            }
+        }
+        assertEquals(expected.size(), columns.size());
+        assertEquals(0, naive.compareTo(columns.netSince(from)));
+    }
+
+    @Test
+    @DisplayName("Should report memory from the array capacity, shrinking it on trim")
+    void estimatedBytes_FollowsCapacity() {
+        long grown = columns.estimatedBytes();
+        columns.trimToSize();
+
+        assertTrue(grown > columns.estimatedBytes());
+        assertEquals(4L * TransactionColumns.BYTES_PER_ROW, columns.estimatedBytes());
+    }
+
+    private static Map<String, BigDecimal> byCategory(List<CategoryTotal> totals) {
+        Map<String, BigDecimal> byCategory = new HashMap<>();
+        totals.forEach(total -> byCategory.put(total.getCategory(), total.getTotal()));
+        return byCategory;
+    }
+
+    private static TransactionSnapshot snapshot(long id, LocalDate date, String amount, long categoryId,
+            TransactionType type) {
+        return TransactionSnapshot.builder()
+                .id(id)
+                .userId(1L)
+                .categoryId(categoryId)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .date(date)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.syfe.finance.util;
+
+import com.syfe.finance.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip date and id through the encoded token")
+    void encodeDecode_RoundTrip() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2026, 1, 15), 42L);
+
+        TransactionCursor decoded = TransactionCursor.decode(cursor.encode());
+
+        assertEquals(LocalDate.of(2026, 1, 15), decoded.getDate());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    @DisplayName("Should treat a missing token as the first page")
+    void decode_NullIsFirstPage() {
+        assertSame(TransactionCursor.FIRST, TransactionCursor.decode(null));
+        assertSame(TransactionCursor.FIRST, TransactionCursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens")
+    void decode_Malformed() {
+        assertThrows(ValidationException.class, () -> TransactionCursor.decode("not a cursor"));
+        assertThrows(ValidationException.class, () -> TransactionCursor.decode("MjAyNi0wMS0xNQ"));
+        assertThrows(ValidationException.class, () -> TransactionCursor.decode("eHx5"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionSearchIndexTest {
+
+    private TransactionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TransactionSearchIndex();
+        index.put(1L, LocalDate.of(2026, 1, 1), "Starbucks Coffee");
+        index.put(2L, LocalDate.of(2026, 1, 3), "STARBUCKS #1234, Orchard");
+        index.put(3L, LocalDate.of(2026, 1, 2), "Grab ride to office");
+        index.put(4L, LocalDate.of(2026, 1, 3), "Coffee beans");
+        index.put(5L, LocalDate.of(2026, 1, 4), null);
+    }
+
+    @Test
+    @DisplayName("Should match word prefixes case-insensitively, newest first")
+    void search_PrefixMatch() {
+        assertEquals(List.of(2L, 1L), index.search("starb", 10));
+        assertEquals(List.of(4L, 1L), index.search("COFFEE", 10));
+    }
+
+    @Test
+    @DisplayName("Should require every query word to match")
+    void search_AllWordsMustMatch() {
+        assertEquals(List.of(1L), index.search("star cof", 10));
+        assertEquals(List.of(2L), index.search("orchard starbucks", 10));
+        assertTrue(index.search("starbucks grab", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should break date ties by id and honour the limit")
+    void search_OrderingAndLimit() {
+        index.put(6L, LocalDate.of(2026, 1, 3), "Coffee grinder");
+
+        assertEquals(List.of(6L, 4L), index.search("coffee", 2));
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals")
+    void putAndRemove_Incremental() {
+        index.put(1L, LocalDate.of(2026, 1, 1), "Tea house");
+        index.remove(4L);
+        index.remove(99L);
+
+        assertTrue(index.search("coffee", 10).isEmpty());
+        assertEquals(List.of(1L), index.search("tea", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank or punctuation-only queries")
+    void search_BlankQuery() {
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search("#,", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should split on anything that is not a letter or digit")
+    void tokenize_SplitsOnPunctuation() {
+        assertEquals(List.of("starbucks", "1234", "orchard"),
+                TransactionSearchIndex.tokenize("STARBUCKS #1234, Orchard starbucks"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.syfe.finance.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserGenerationsTest {
+
+    private final UserGenerations generations = new UserGenerations();
+
+    @Test
+    @DisplayName("Should stay unchanged while the user has no writes")
+    void unchanged_NoWrites() {
+        long snapshot = generations.snapshot(1L);
+
+        generations.bump(2L);
+
+        assertTrue(generations.unchanged(1L, snapshot));
+    }
+
+    @Test
+    @DisplayName("Should report a change once the user's write is bumped")
+    void unchanged_AfterBump() {
+        long snapshot = generations.snapshot(1L);
+
+        generations.bump(1L);
+
+        assertFalse(generations.unchanged(1L, snapshot));
+        assertTrue(generations.unchanged(1L, generations.snapshot(1L)));
+    }
+}